@@ -161,6 +161,23 @@ public interface ConstStrings {// NOSONAR
 	String MIN = "Min";
 	String MAX = "Max";
 	String AVERAGE = "Average";
+	String SUM = "Sum";
+	String PERCENTILE_95 = "95th percentile";
+	String RESOLUTION = "Resolution";
+	String SERIES = "Series";
+	String ROLLUPS = "Rollups";
+	String PACKET_SIZE = "Packet size";
+	String BITRATE = "Bitrate";
+	String RMS_LEVEL = "RMS level";
+	String EVENTS_OVERFLOW = "Events overflow";
+	String EVENTS_OVERFLOW_LONGEST = "Events overflow longest";
+	String EVENTS_OVERFLOW_HISTOGRAM = "Events overflow histogram";
+	String LONGEST_DURATION = "Longest duration";
+	String RANK = "Rank";
+	String BUCKET_FROM = "Bucket from";
+	String BUCKET_TO = "Bucket to";
+	String BLOCKINESS = "Blockiness";
+	String BLURRINESS = "Blurriness";
 
 	String DISPLAY_PICTURE_NUMBER = "Display picture number";
 	String CODED_PICTURE_NUMBER = "Coded picture number";
@@ -17,6 +17,7 @@
 package media.mexm.mediadeepa.cli;
 
 import java.io.File;
+import java.util.Map;
 import java.util.Set;
 
 import lombok.Data;
@@ -40,4 +41,29 @@ public class ExportToCmd {
 			paramLabel = "FILENAME")
 	private String baseFileName;
 
+	@Option(names = { "--export-from" },
+			description = "Only export the table rows after this time position",
+			paramLabel = "SECONDS")
+	private Float exportFrom;
+
+	@Option(names = { "--export-to" },
+			description = "Only export the table rows before this time position",
+			paramLabel = "SECONDS")
+	private Float exportTo;
+
+	@Option(names = { "--export-columns" },
+			description = "Only export this columns for this table, like "
+						  + "container-video-frames=pts,pkt_size,pict_type. Unknown columns are ignored with a "
+						  + "warning, the export fails if none of them are in the table",
+			paramLabel = "TABLE=COLUMNS")
+	private Map<String, String> exportColumns;
+
+	@Option(names = { "--compress-output" },
+			description = "Gzip compress text exported files (CSV, TXT, XML, JSON), add .gz to their names")
+	private boolean compressOutput;
+
+	@Option(names = { "--report-linked-images" },
+			description = "Write the HTML report images as files next to the report, instead of embed them")
+	private boolean reportLinkedImages;
+
 }
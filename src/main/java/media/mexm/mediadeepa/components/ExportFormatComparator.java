@@ -29,8 +29,12 @@ import media.mexm.mediadeepa.exportformat.components.ReportHTMLExportFormat;
 import media.mexm.mediadeepa.exportformat.components.ReportJsonExportFormat;
 import media.mexm.mediadeepa.exportformat.components.SignalImageExportFormat;
 import media.mexm.mediadeepa.exportformat.components.SnapshotImageExportFormat;
+import media.mexm.mediadeepa.exportformat.components.TableColumnarExportFormat;
+import media.mexm.mediadeepa.exportformat.components.TableColumnsJsonExportFormat;
 import media.mexm.mediadeepa.exportformat.components.TableJsonExportFormat;
+import media.mexm.mediadeepa.exportformat.components.TableNdJsonExportFormat;
 import media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat;
+import media.mexm.mediadeepa.exportformat.components.TableSQLiteFleetExportFormat;
 import media.mexm.mediadeepa.exportformat.components.TableXLSXExportFormat;
 import media.mexm.mediadeepa.exportformat.components.TableXMLExportFormat;
 import media.mexm.mediadeepa.exportformat.components.TabularCSVExportFormat;
@@ -47,8 +51,12 @@ public class ExportFormatComparator implements Comparator<ExportFormat> {
 			TabularCSVFrExportFormat.class,
 			TableXMLExportFormat.class,
 			TableJsonExportFormat.class,
+			TableNdJsonExportFormat.class,
+			TableColumnsJsonExportFormat.class,
 			TableXLSXExportFormat.class,
 			TableSQLiteExportFormat.class,
+			TableSQLiteFleetExportFormat.class,
+			TableColumnarExportFormat.class,
 			GraphicExportFormat.class,
 			SignalImageExportFormat.class,
 			SnapshotImageExportFormat.class,
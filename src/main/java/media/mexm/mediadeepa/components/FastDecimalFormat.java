@@ -0,0 +1,181 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.components;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Stateless and thread safe equivalent of a DecimalFormat.format(Object) "#.#####" or "#,###.#####"
+ * (HALF_EVEN rounding, optional fraction digits, optional grouping by 3).
+ * Write directly to a StringBuilder, without intermediate objects.
+ * Values out of the fast range, and values near a rounding tie, are delegated to a DecimalFormat:
+ * DecimalFormat applies HALF_EVEN on the shortest decimal representation, not on the binary value.
+ * Note that DecimalFormat.format(double) can use an internal fast path, rounding "#,###.###" on the binary value:
+ * it's not the reference here.
+ */
+public class FastDecimalFormat {
+
+	public static final int MAX_FRACTION_DIGITS = 6;
+	private static final double MAX_FAST_SCALED_VALUE = 1e15;
+	private static final double TIE_ULPS = 4d;
+	private static final long[] POW10 = { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000 };
+	private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(32));
+
+	private final int maxFractionDigits;
+	private final boolean grouping;
+	private final double scale;
+	private final char decimalSeparator;
+	private final char groupingSeparator;
+	private final char minusSign;
+	private final String nan;
+	private final String infinity;
+	private final ThreadLocal<DecimalFormat> fallback;
+
+	public FastDecimalFormat(final int maxFractionDigits, final Locale locale) {
+		this(maxFractionDigits, false, locale);
+	}
+
+	public FastDecimalFormat(final int maxFractionDigits, final boolean grouping, final Locale locale) {
+		if (maxFractionDigits < 0 || maxFractionDigits > MAX_FRACTION_DIGITS) {
+			throw new IllegalArgumentException("Invalid maxFractionDigits: " + maxFractionDigits);
+		}
+		this.maxFractionDigits = maxFractionDigits;
+		this.grouping = grouping;
+		scale = POW10[maxFractionDigits];
+
+		final var symbols = new DecimalFormatSymbols(locale);
+		decimalSeparator = symbols.getDecimalSeparator();
+		groupingSeparator = symbols.getGroupingSeparator();
+		minusSign = symbols.getMinusSign();
+		nan = symbols.getNaN();
+		infinity = symbols.getInfinity();
+
+		final var pattern = (grouping ? "#,###" : "#")
+							+ (maxFractionDigits == 0 ? "" : "." + "#".repeat(maxFractionDigits));
+		fallback = ThreadLocal.withInitial(() -> {
+			final var decimalFormat = new DecimalFormat(pattern);
+			decimalFormat.setDecimalFormatSymbols(new DecimalFormatSymbols(locale));
+			return decimalFormat;
+		});
+	}
+
+	/**
+	 * Same behavior as DecimalFormat.format(Object)
+	 */
+	public String format(final Object number) {
+		if (number instanceof final Double d) {
+			return format(d.doubleValue());
+		} else if (number instanceof final Float f) {
+			return format(f.doubleValue());
+		} else if (number instanceof Long
+				   || number instanceof Integer
+				   || number instanceof Short
+				   || number instanceof Byte) {
+			return format(((Number) number).longValue());
+		}
+		return fallback.get().format(number);
+	}
+
+	public String format(final double value) {
+		final var sb = BUFFER.get();
+		sb.setLength(0);
+		return append(sb, value).toString();
+	}
+
+	public String format(final long value) {
+		final var sb = BUFFER.get();
+		sb.setLength(0);
+		return append(sb, value).toString();
+	}
+
+	public StringBuilder append(final StringBuilder sb, final long value) {
+		if (value == Long.MIN_VALUE) {
+			return sb.append(fallback.get().format((Object) value));
+		}
+		if (value < 0) {
+			sb.append(minusSign);
+		}
+		return appendInteger(sb, Math.abs(value));
+	}
+
+	public StringBuilder append(final StringBuilder sb, final double value) {
+		if (Double.isNaN(value)) {
+			return sb.append(nan);
+		}
+		final var abs = Math.abs(value);
+		final var scaled = abs * scale;
+		if (scaled >= MAX_FAST_SCALED_VALUE && Double.isInfinite(abs) == false) {
+			return sb.append(fallback.get().format((Object) value));
+		}
+
+		if (Double.isInfinite(abs)) {
+			if (value < 0) {
+				sb.append(minusSign);
+			}
+			return sb.append(infinity);
+		}
+
+		var rounded = (long) scaled;
+		final var fraction = scaled - rounded;
+		if (Math.abs(fraction - 0.5d) <= TIE_ULPS * Math.ulp(scaled)) {
+			return sb.append(fallback.get().format((Object) value));
+		}
+
+		if ((Double.doubleToRawLongBits(value) & Long.MIN_VALUE) != 0) {
+			sb.append(minusSign);
+		}
+		if (fraction > 0.5d) {
+			rounded++;
+		}
+
+		appendInteger(sb, rounded / POW10[maxFractionDigits]);
+		var fractionDigits = rounded % POW10[maxFractionDigits];
+		if (fractionDigits == 0) {
+			return sb;
+		}
+
+		var digitCount = maxFractionDigits;
+		while (fractionDigits % 10 == 0) {
+			fractionDigits /= 10;
+			digitCount--;
+		}
+		sb.append(decimalSeparator);
+		for (var pos = digitCount - 1; pos > 0 && fractionDigits < POW10[pos]; pos--) {
+			sb.append('0');
+		}
+		return sb.append(fractionDigits);
+	}
+
+	private StringBuilder appendInteger(final StringBuilder sb, final long positiveValue) {
+		if (grouping == false || positiveValue < 1000) {
+			return sb.append(positiveValue);
+		}
+		appendInteger(sb, positiveValue / 1000);
+		sb.append(groupingSeparator);
+		final var group = positiveValue % 1000;
+		if (group < 100) {
+			sb.append('0');
+		}
+		if (group < 10) {
+			sb.append('0');
+		}
+		return sb.append(group);
+	}
+
+}
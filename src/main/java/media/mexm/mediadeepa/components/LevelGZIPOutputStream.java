@@ -0,0 +1,33 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.components;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GZIPOutputStream with a configurable compression level.
+ */
+class LevelGZIPOutputStream extends GZIPOutputStream {
+
+	LevelGZIPOutputStream(final OutputStream out, final int level, final int size) throws IOException {
+		super(out, size);
+		def.setLevel(level);
+	}
+
+}
@@ -20,8 +20,6 @@ import static java.lang.Float.NaN;
 import static java.util.Locale.ENGLISH;
 import static java.util.Locale.FRENCH;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 import java.time.Duration;
 import java.util.stream.Stream;
 
@@ -30,35 +28,22 @@ import org.springframework.stereotype.Component;
 @Component
 public class NumberUtils {
 
-	private final DecimalFormat decimalFormatSimple1En;
-	private final DecimalFormat decimalFormatSimple5En;
-	private final DecimalFormat decimalFormatSimple1Fr;
-	private final DecimalFormat decimalFormatSimple5Fr;
-	private final DecimalFormat decimalFormatFull1En;
-	private final DecimalFormat decimalFormatFull3En;
-	private final DecimalFormat fixedFormatFullEn;
+	private final FastDecimalFormat decimalFormatSimple1En;
+	private final FastDecimalFormat decimalFormatSimple5En;
+	private final FastDecimalFormat decimalFormatSimple1Fr;
+	private final FastDecimalFormat decimalFormatSimple5Fr;
+	private final FastDecimalFormat decimalFormatFull1En;
+	private final FastDecimalFormat decimalFormatFull3En;
+	private final FastDecimalFormat fixedFormatFullEn;
 
 	public NumberUtils() {
-		decimalFormatSimple1En = new DecimalFormat("#.#");
-		decimalFormatSimple1En.setDecimalFormatSymbols(new DecimalFormatSymbols(ENGLISH));
-
-		decimalFormatSimple5En = new DecimalFormat("#.#####");
-		decimalFormatSimple5En.setDecimalFormatSymbols(new DecimalFormatSymbols(ENGLISH));
-
-		decimalFormatSimple1Fr = new DecimalFormat("#.#");
-		decimalFormatSimple1Fr.setDecimalFormatSymbols(new DecimalFormatSymbols(FRENCH));
-
-		decimalFormatSimple5Fr = new DecimalFormat("#.#####");
-		decimalFormatSimple5Fr.setDecimalFormatSymbols(new DecimalFormatSymbols(FRENCH));
-
-		decimalFormatFull1En = new DecimalFormat("#,###.#");
-		decimalFormatFull1En.setDecimalFormatSymbols(new DecimalFormatSymbols(ENGLISH));
-
-		decimalFormatFull3En = new DecimalFormat("#,###.###");
-		decimalFormatFull3En.setDecimalFormatSymbols(new DecimalFormatSymbols(ENGLISH));
-
-		fixedFormatFullEn = new DecimalFormat("#,###");
-		fixedFormatFullEn.setDecimalFormatSymbols(new DecimalFormatSymbols(ENGLISH));
+		decimalFormatSimple1En = new FastDecimalFormat(1, ENGLISH);
+		decimalFormatSimple5En = new FastDecimalFormat(5, ENGLISH);
+		decimalFormatSimple1Fr = new FastDecimalFormat(1, FRENCH);
+		decimalFormatSimple5Fr = new FastDecimalFormat(5, FRENCH);
+		decimalFormatFull1En = new FastDecimalFormat(1, true, ENGLISH);
+		decimalFormatFull3En = new FastDecimalFormat(3, true, ENGLISH);
+		fixedFormatFullEn = new FastDecimalFormat(0, true, ENGLISH);
 	}
 
 	/**
@@ -68,6 +53,13 @@ public class NumberUtils {
 		return decimalFormatSimple1En.format(o);
 	}
 
+	/**
+	 * "#.#", without boxing
+	 */
+	public String formatDecimalSimple1En(final double value) {
+		return decimalFormatSimple1En.format(value);
+	}
+
 	/**
 	 * "#.#####"
 	 */
@@ -75,6 +67,13 @@ public class NumberUtils {
 		return decimalFormatSimple5En.format(o);
 	}
 
+	/**
+	 * "#.#####", without boxing
+	 */
+	public String formatDecimalSimple5En(final double value) {
+		return decimalFormatSimple5En.format(value);
+	}
+
 	/**
 	 * "#.#"
 	 */
@@ -82,6 +81,13 @@ public class NumberUtils {
 		return decimalFormatSimple1Fr.format(o);
 	}
 
+	/**
+	 * "#.#", without boxing
+	 */
+	public String formatDecimalSimple1Fr(final double value) {
+		return decimalFormatSimple1Fr.format(value);
+	}
+
 	/**
 	 * "#.#####"
 	 */
@@ -89,6 +95,13 @@ public class NumberUtils {
 		return decimalFormatSimple5Fr.format(o);
 	}
 
+	/**
+	 * "#.#####", without boxing
+	 */
+	public String formatDecimalSimple5Fr(final double value) {
+		return decimalFormatSimple5Fr.format(value);
+	}
+
 	/**
 	 * "#,###.#"
 	 */
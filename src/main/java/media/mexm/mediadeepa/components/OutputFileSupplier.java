@@ -20,7 +20,12 @@ import static org.apache.commons.io.FilenameUtils.getBaseName;
 import static org.apache.commons.io.FilenameUtils.getExtension;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -36,6 +41,8 @@ import media.mexm.mediadeepa.exportformat.DataResult;
 public class OutputFileSupplier {
 
 	private static final String MAKE_OUTPUT_FILE_NAME = "Make output file name: {}";
+	public static final String GZIP_EXTENSION = ".gz";
+	private static final int GZIP_BUFFER_SIZE = 0xFFFF;
 
 	@Autowired
 	private AppCommand appCommand;
@@ -53,9 +60,79 @@ public class OutputFileSupplier {
 			}
 			filePrefix = correctedSource + "_";
 		}
+		return makeOutputFile(filePrefix, suffix);
+	}
+
+	/**
+	 * Same as makeOutputFile, but shared by all the sources of a multiple sources set.
+	 */
+	public File makeSharedOutputFile(final String suffix) {
+		return makeOutputFile("", suffix);
+	}
+
+	/**
+	 * Same as makeOutputFile, with a gz extension if the output compression is enabled.
+	 * Open it with openOutputStream.
+	 */
+	public File makeCompressibleOutputFile(final DataResult dataResult, final String suffix) {
+		if (isCompressOutput()) {
+			return makeOutputFile(dataResult, suffix + GZIP_EXTENSION);
+		}
+		return makeOutputFile(dataResult, suffix);
+	}
+
+	public boolean isCompressOutput() {
+		return getExportToCmd()
+				.map(ExportToCmd::isCompressOutput)
+				.orElse(false);
+	}
+
+	public boolean isReportLinkedImages() {
+		return getExportToCmd()
+				.map(ExportToCmd::isReportLinkedImages)
+				.orElse(false);
+	}
+
+	public boolean isExportFormatRequested(final String formatName) {
+		return getExportToCmd()
+				.map(ExportToCmd::getFormat)
+				.stream()
+				.flatMap(Set::stream)
+				.anyMatch(formatName::equalsIgnoreCase);
+	}
+
+	/**
+	 * Create the parent directories if needed. Not buffered.
+	 * @return a gzip compressed stream if outputFile name ends by GZIP_EXTENSION, compressed in parallel
+	 *         with the dataResult compress executor if set.
+	 */
+	public OutputStream openOutputStream(final DataResult dataResult, final File outputFile) throws IOException {
+		final var fileOutputStream = FileUtils.openOutputStream(outputFile);
+		if (outputFile.getName().endsWith(GZIP_EXTENSION) == false) {
+			return fileOutputStream;
+		}
 
-		final var oExportToCmd = Optional.ofNullable(appCommand.getOutputCmd())
+		final var compressOutputConfig = appConfig.getCompressOutputConfig();
+		log.trace("Gzip compress output file: {} ({})", outputFile, compressOutputConfig);
+		final var oCompressExecutor = dataResult.getCompressExecutor();
+		if (oCompressExecutor.isPresent()) {
+			return new ParallelGzipOutputStream(
+					fileOutputStream,
+					compressOutputConfig.getLevel(),
+					compressOutputConfig.getParallelBlockSize(),
+					oCompressExecutor.get(),
+					Math.max(2, compressOutputConfig.getParallelThreads() * 2));
+		}
+		return new LevelGZIPOutputStream(fileOutputStream, compressOutputConfig.getLevel(), GZIP_BUFFER_SIZE);
+	}
+
+	private Optional<ExportToCmd> getExportToCmd() {
+		return Optional.ofNullable(appCommand.getOutputCmd())
 				.flatMap(o -> Optional.ofNullable(o.getExportToCmd()));
+	}
+
+	private File makeOutputFile(final String filePrefix, final String suffix) {
+		final var oExportToCmd = getExportToCmd();
 		final var baseFileName = oExportToCmd.map(ExportToCmd::getBaseFileName).orElse(null);
 		final var export = oExportToCmd.map(ExportToCmd::getExport).orElseThrow();
 
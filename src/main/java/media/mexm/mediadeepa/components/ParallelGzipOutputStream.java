@@ -0,0 +1,169 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.components;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Split the stream in blocks, gzip each block as an independent gzip member in parallel,
+ * and write them in order. Concatenated gzip members is a valid gzip file (RFC 1952).
+ * Close it to flush the last block.
+ * The executor is not owned by this stream, and can be shared by all the compressed files of an export session.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+	private final OutputStream out;
+	private final int level;
+	private final int blockSize;
+	private final int maxPendingBlocks;
+	private final ExecutorService executor;
+	private final Deque<Future<byte[]>> pendingBlocks;
+
+	private byte[] buffer;
+	private int bufferPos;
+	private boolean writtenBlocks;
+	private boolean closed;
+
+	/**
+	 * @param maxPendingBlocks blocks submitted to executor and not yet written, bound the memory usage
+	 */
+	public ParallelGzipOutputStream(final OutputStream out,
+									final int level,
+									final int blockSize,
+									final ExecutorService executor,
+									final int maxPendingBlocks) {
+		this.out = Objects.requireNonNull(out, "\"out\" can't to be null");
+		this.executor = Objects.requireNonNull(executor, "\"executor\" can't to be null");
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("Invalid blockSize: " + blockSize);
+		} else if (maxPendingBlocks < 1) {
+			throw new IllegalArgumentException("Invalid maxPendingBlocks: " + maxPendingBlocks);
+		}
+		this.level = level;
+		this.blockSize = blockSize;
+		this.maxPendingBlocks = maxPendingBlocks;
+		pendingBlocks = new ArrayDeque<>(maxPendingBlocks + 1);
+		buffer = new byte[blockSize];
+	}
+
+	private void checkOpen() throws IOException {
+		if (closed) {
+			throw new IOException("Stream closed");
+		}
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		checkOpen();
+		buffer[bufferPos++] = (byte) b;
+		if (bufferPos == blockSize) {
+			submitBlock();
+		}
+	}
+
+	@Override
+	public void write(final byte[] b, final int off, final int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		checkOpen();
+		var pos = off;
+		var remaining = len;
+		while (remaining > 0) {
+			final var size = Math.min(remaining, blockSize - bufferPos);
+			System.arraycopy(b, pos, buffer, bufferPos, size);
+			bufferPos += size;
+			pos += size;
+			remaining -= size;
+			if (bufferPos == blockSize) {
+				submitBlock();
+			}
+		}
+	}
+
+	private void submitBlock() throws IOException {
+		final var block = buffer;
+		final var size = bufferPos;
+		buffer = new byte[blockSize];
+		bufferPos = 0;
+		pendingBlocks.add(executor.submit(() -> compress(block, size)));
+		while (pendingBlocks.size() >= maxPendingBlocks) {
+			writeFirstPendingBlock();
+		}
+	}
+
+	private byte[] compress(final byte[] block, final int size) throws IOException {
+		final var compressed = new ByteArrayOutputStream(size / 2 + 64);
+		try (var gzip = new LevelGZIPOutputStream(compressed, level, 0xFFFF)) {
+			gzip.write(block, 0, size);
+		}
+		return compressed.toByteArray();
+	}
+
+	private void writeFirstPendingBlock() throws IOException {
+		try {
+			out.write(pendingBlocks.removeFirst().get());
+			writtenBlocks = true;
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted during gzip compression");
+		} catch (final ExecutionException e) {
+			throw new IOException("Can't gzip compress block", e.getCause());
+		}
+	}
+
+	/**
+	 * Only write the already compressed blocks: a partial block is never flushed before close.
+	 */
+	@Override
+	public void flush() throws IOException {
+		checkOpen();
+		while (pendingBlocks.isEmpty() == false && pendingBlocks.peekFirst().isDone()) {
+			writeFirstPendingBlock();
+		}
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			if (bufferPos > 0 || writtenBlocks == false && pendingBlocks.isEmpty()) {
+				submitBlock();
+			}
+			while (pendingBlocks.isEmpty() == false) {
+				writeFirstPendingBlock();
+			}
+			out.flush();
+		} finally {
+			closed = true;
+			pendingBlocks.forEach(f -> f.cancel(true));
+			pendingBlocks.clear();
+			out.close();
+		}
+	}
+
+}
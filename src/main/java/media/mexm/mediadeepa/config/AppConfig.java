@@ -19,6 +19,7 @@ package media.mexm.mediadeepa.config;
 import static java.io.File.pathSeparator;
 
 import java.awt.Dimension;
+import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +37,7 @@ public class AppConfig {
 	private boolean addSourceExtToOutputDirectories = false;
 	private boolean silentWarnMismatchZipArchiveVersion = false;
 	private float jpegCompressionRatio = 0.95f;
+	private int exportParallelism = 4;
 
 	private ZippedArchive zippedArchive = new ZippedArchive();
 
@@ -58,11 +60,74 @@ public class AppConfig {
 	}
 
 	private String jsontableFileName = "media-datas.json";
+	private String ndjsontableFileName = "media-datas.ndjson";
+	private String columnsjsontableFileName = "media-datas-columns.json";
 	private String sqllitetableFileName = "media-datas.sqlite";
 	private String xslxtableFileName = "media-datas.xlsx";
 	private String xmltableFileName = "media-datas.xml";
+	private String columnartableFileName = "media-datas.mxcl";
 	private String ffprobexmlFileName = "ffprobe.xml";
 
+	private SqliteConfig sqliteConfig = new SqliteConfig();
+
+	@Data
+	public class SqliteConfig {
+		private int pageSize = 16384;
+		private int cacheSizeKb = 65536;
+		private int maxBatchSize = 10000;
+		private boolean createTimeIndexes = false;
+		private String fleetFileName = "media-fleet.sqlite";
+	}
+
+	private XlsxConfig xlsxConfig = new XlsxConfig();
+
+	@Data
+	public class XlsxConfig {
+		private int rowAccessWindowSize = 100;
+		private boolean compressTempFiles = true;
+		private int columnWidthSampleRows = 100;
+		private int maxColumnWidth = 60;
+		private int maxRowsBySheet = 1_048_575;
+	}
+
+	private ColumnarConfig columnarConfig = new ColumnarConfig();
+
+	@Data
+	public class ColumnarConfig {
+		private int chunkRows = 65536;
+		private boolean compress = true;
+		private int compressionLevel = 1;
+	}
+
+	private RollupConfig rollupConfig = new RollupConfig();
+
+	@Data
+	public class RollupConfig {
+		private List<Integer> resolutionsSec = List.of(1, 60);
+		private int maxPercentileSamples = 10_000;
+	}
+
+	private CompressOutputConfig compressOutputConfig = new CompressOutputConfig();
+
+	@Data
+	public class CompressOutputConfig {
+		private int level = 6;
+		private int parallelThreads = 0;
+		private int parallelBlockSize = 1024 * 1024;
+	}
+
+	private EventsConfig eventsConfig = new EventsConfig();
+
+	@Data
+	public class EventsConfig {
+		private int maxSilenceEvents = 1000;
+		private int maxMonoEvents = 1000;
+		private int maxBlackEvents = 1000;
+		private int maxFreezeEvents = 1000;
+		private int overflowLongestCount = 10;
+		private List<Float> overflowHistogramBoundsSec = List.of(0.1f, 0.5f, 1f, 5f, 10f, 60f);
+	}
+
 	private ReportConfig reportConfig = new ReportConfig();
 
 	@Data
@@ -73,6 +138,8 @@ public class AppConfig {
 		private boolean jsonIdentOutput = true;
 		private boolean addImages = true;
 		private int displayImageSizeWidth = 1000;
+		private boolean interactiveGraphics = false;
+		private int sectionsParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
 	}
 
 	private GraphicConfig graphicConfig = new GraphicConfig();
@@ -103,6 +170,9 @@ public class AppConfig {
 
 		private Dimension imageSizeFullSize = new Dimension(2000, 1200);
 		private Dimension imageSizeHalfSize = new Dimension(2000, 600);
+		private boolean java2dRenderer = false;
+		private int renderParallelism = Math.min(4, Runtime.getRuntime().availableProcessors());
+		private long renderedImagesCacheMaxMemory = 128L * 1024 * 1024;
 	}
 
 	private ScanDir scanDir = new ScanDir();
@@ -0,0 +1,133 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.time.Duration.ZERO;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.IntStream;
+
+/**
+ * Keep the first added events in a list, up to a max size, and summarize all the next ones,
+ * in a single pass and with a bounded memory usage: count, total duration, longest events,
+ * and a histogram of durations.
+ */
+public class BoundedEventList<T> {
+
+	private final int maxListed;
+	private final int longestCount;
+	private final List<Duration> histogramBounds;
+	private final List<T> listed;
+	private final PriorityQueue<DurationEvent<T>> longest;
+	private final int[] histogram;
+	private int overflowCount;
+	private Duration overflowDuration;
+
+	/**
+	 * @param histogramBounds upper bounds (excluded) of each histogram bucket, a last bucket is added for the
+	 *        longest durations
+	 */
+	public BoundedEventList(final int maxListed, final int longestCount, final List<Duration> histogramBounds) {
+		if (maxListed < 0) {
+			throw new IllegalArgumentException("Invalid maxListed: " + maxListed);
+		}
+		if (longestCount < 0) {
+			throw new IllegalArgumentException("Invalid longestCount: " + longestCount);
+		}
+		Objects.requireNonNull(histogramBounds, "\"histogramBounds\" can't to be null");
+		this.maxListed = maxListed;
+		this.longestCount = longestCount;
+		this.histogramBounds = histogramBounds.stream().distinct().sorted().toList();
+		listed = new ArrayList<>();
+		longest = new PriorityQueue<>(Comparator.comparing(DurationEvent<T>::duration));
+		histogram = new int[this.histogramBounds.size() + 1];
+		overflowDuration = ZERO;
+	}
+
+	public record DurationEvent<T>(T event, Duration duration) {
+	}
+
+	/**
+	 * @param to empty for the last bucket
+	 */
+	public record DurationHistogramBucket(Duration from, Optional<Duration> to, int count) {
+	}
+
+	/**
+	 * @param longest the longest first
+	 */
+	public record EventsOverflow<T>(int count,
+									Duration totalDuration,
+									List<DurationEvent<T>> longest,
+									List<DurationHistogramBucket> histogram) {
+	}
+
+	public void add(final T event, final Duration duration) {
+		Objects.requireNonNull(duration, "\"duration\" can't to be null");
+		if (listed.size() < maxListed) {
+			listed.add(event);
+			return;
+		}
+
+		overflowCount++;
+		overflowDuration = overflowDuration.plus(duration);
+
+		var bucket = 0;
+		while (bucket < histogramBounds.size() && duration.compareTo(histogramBounds.get(bucket)) >= 0) {
+			bucket++;
+		}
+		histogram[bucket]++;
+
+		if (longestCount == 0) {
+			return;
+		}
+		if (longest.size() < longestCount) {
+			longest.add(new DurationEvent<>(event, duration));
+		} else if (duration.compareTo(longest.peek().duration()) > 0) {
+			longest.poll();
+			longest.add(new DurationEvent<>(event, duration));
+		}
+	}
+
+	public List<T> getListed() {
+		return Collections.unmodifiableList(listed);
+	}
+
+	public Optional<EventsOverflow<T>> getOverflow() {
+		if (overflowCount == 0) {
+			return Optional.empty();
+		}
+		final var longestList = longest.stream()
+				.sorted(Comparator.comparing(DurationEvent<T>::duration).reversed())
+				.toList();
+		final var histogramList = IntStream.range(0, histogram.length)
+				.mapToObj(pos -> new DurationHistogramBucket(
+						pos == 0 ? ZERO : histogramBounds.get(pos - 1),
+						pos < histogramBounds.size() ? Optional.of(histogramBounds.get(pos)) : Optional.empty(),
+						histogram[pos]))
+				.toList();
+		return Optional.of(new EventsOverflow<>(overflowCount, overflowDuration, longestList, histogramList));
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Primitive datas of a graphic, decimated and ready to draw, without any chart object.
+ * @param stacked series values are added, in order
+ */
+public record ChartData(boolean timeDomain,
+						boolean logarithmic,
+						boolean stacked,
+						RangeAxis rangeAxis,
+						List<ChartMarker> markers,
+						List<ChartDataSeries> series) {
+
+	/**
+	 * @param x in milliseconds for a time domain
+	 */
+	public record ChartDataSeries(SeriesStyle style, double[] x, double[] y) {
+	}
+
+	public record ChartMarker(double value, String label) {
+	}
+
+	/**
+	 * @return empty for an automatic range
+	 */
+	public Optional<double[]> getFixedRange() {
+		final var min = rangeAxis.min();
+		final var max = rangeAxis.max();
+		if (min != null
+			&& max != null
+			&& Double.isFinite(min.doubleValue())
+			&& Double.isFinite(max.doubleValue())) {
+			return Optional.of(new double[] { min.doubleValue(), max.doubleValue() });
+		}
+		return Optional.empty();
+	}
+
+}
@@ -17,6 +17,8 @@
 package media.mexm.mediadeepa.exportformat;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
 
 import org.jfree.chart.JFreeChart;
 
@@ -25,8 +27,45 @@ import j2html.tags.DomContent;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.report.DomContentProvider;
 
-public record ChartGraphicWrapper(String rangeName, List<? extends SeriesStyle> series, JFreeChart chart)
-								 implements DomContentProvider {
+public class ChartGraphicWrapper implements DomContentProvider {
+
+	private final String rangeName;
+	private final List<? extends SeriesStyle> series;
+	private final ChartData data;
+	private final Function<ChartData, JFreeChart> chartMaker;
+	private JFreeChart chart;
+
+	public ChartGraphicWrapper(final String rangeName,
+							   final List<? extends SeriesStyle> series,
+							   final ChartData data,
+							   final Function<ChartData, JFreeChart> chartMaker) {
+		this.rangeName = rangeName;
+		this.series = series;
+		this.data = Objects.requireNonNull(data, "\"data\" can't to be null");
+		this.chartMaker = Objects.requireNonNull(chartMaker, "\"chartMaker\" can't to be null");
+	}
+
+	public String rangeName() {
+		return rangeName;
+	}
+
+	public List<? extends SeriesStyle> series() {// NOSONAR S1452
+		return series;
+	}
+
+	public ChartData data() {
+		return data;
+	}
+
+	/**
+	 * Created on the first call only, as it's not needed by the graphic renderers which works from data().
+	 */
+	public synchronized JFreeChart chart() {
+		if (chart == null) {
+			chart = chartMaker.apply(data);
+		}
+		return chart;
+	}
 
 	@Override
 	public DomContent toDomContent(final NumberUtils numberUtils) {
@@ -22,6 +22,7 @@ import static java.awt.Color.BLACK;
 import static java.awt.Color.BLUE;
 import static java.awt.Color.GRAY;
 import static java.awt.Color.RED;
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.Decimation.MIN_MAX;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -29,14 +30,19 @@ import java.awt.Font;
 import java.awt.Stroke;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.TimeZone;
 
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.plot.ValueMarker;
 import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
 import org.jfree.chart.ui.TextAnchor;
 
 import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.exportformat.ChartData.ChartDataSeries;
+import media.mexm.mediadeepa.exportformat.ChartData.ChartMarker;
+import media.mexm.mediadeepa.exportformat.SeriesDecimator.Decimation;
 
 public abstract class DataGraphic {
 
@@ -46,13 +52,39 @@ public abstract class DataGraphic {
 	public static final Stroke THIN_STROKE = new BasicStroke(3, CAP_BUTT, JOIN_MITER);
 	public static final Stroke THICK_STROKE = new BasicStroke(6, CAP_BUTT, JOIN_MITER);
 	public static final List<Stroke> STROKES_CHANNEL = List.of(THIN_STROKE, THICK_STROKE);
+	public static final int DEFAULT_DECIMATION_PIXEL_COLUMNS = 2000;
 
 	private final List<Double> markers;
 	protected final RangeAxis rangeAxis;
+	private Decimation decimation;
+	private int decimationPixelColumns;
 
 	protected DataGraphic(final RangeAxis rangeAxis) {
 		this.rangeAxis = rangeAxis;
 		markers = new ArrayList<>();
+		decimation = MIN_MAX;
+		decimationPixelColumns = DEFAULT_DECIMATION_PIXEL_COLUMNS;
+	}
+
+	/**
+	 * Applied on each series before the chart dataset creation, so the rendering time don't depends on
+	 * the series size. Default is MIN_MAX for DEFAULT_DECIMATION_PIXEL_COLUMNS.
+	 * @param pixelColumns the graphic width
+	 */
+	public DataGraphic setDecimation(final Decimation decimation, final int pixelColumns) {
+		this.decimation = Objects.requireNonNull(decimation, "\"decimation\" can't to be null");
+		if (pixelColumns < 2) {
+			throw new IllegalArgumentException("Invalid pixelColumns: " + pixelColumns);
+		}
+		decimationPixelColumns = pixelColumns;
+		return this;
+	}
+
+	/**
+	 * @return the sorted indexes of the points to keep
+	 */
+	protected int[] decimate(final double[] x, final double[] y) {
+		return decimation.getIndexes(x, y, decimationPixelColumns);
 	}
 
 	public DataGraphic addValueMarker(final Number position) {
@@ -73,13 +105,45 @@ public abstract class DataGraphic {
 		return makeGraphic(false, numberUtils);
 	}
 
-	protected abstract ChartGraphicWrapper getChart();
+	/**
+	 * @return a JFreeChart, with a dataset made from data series
+	 */
+	protected abstract JFreeChart getChart(ChartData data);
+
+	/**
+	 * @return decimated series
+	 */
+	protected abstract List<ChartDataSeries> getChartDataSeries();
+
+	protected abstract boolean isTimeDomain();
+
+	protected abstract boolean isStacked();
 
 	protected abstract List<? extends SeriesStyle> getSeriesStyle();// NOSONAR S1452
 
+	private static String makeMarkerLabel(final double ref, final NumberUtils numberUtils) {
+		final var label = numberUtils.formatDecimalSimple1En((Object) ref);
+		if (label.endsWith(".0")) {
+			return String.valueOf(Math.round(ref));
+		}
+		return label;
+	}
+
 	protected ChartGraphicWrapper makeGraphic(final boolean logarithmicAxis, final NumberUtils numberUtils) {
-		final var chartWrapper = getChart();
-		final var timechart = chartWrapper.chart();
+		final var data = new ChartData(
+				isTimeDomain(),
+				logarithmicAxis,
+				isStacked(),
+				rangeAxis,
+				markers.stream()
+						.map(ref -> new ChartMarker(ref, makeMarkerLabel(ref, numberUtils)))
+						.toList(),
+				getChartDataSeries());
+		return new ChartGraphicWrapper(rangeAxis.name(), getSeriesStyle(), data, this::makeChart);
+	}
+
+	private JFreeChart makeChart(final ChartData data) {
+		final var timechart = getChart(data);
 		timechart.setAntiAlias(true);
 		timechart.setTextAntiAlias(true);
 		timechart.setBackgroundPaint(BLACK);
@@ -93,15 +157,10 @@ public abstract class DataGraphic {
 		final var renderer = (AbstractXYItemRenderer) plot.getRenderer(0);
 		final var font = renderer.getDefaultItemLabelFont().deriveFont(28f);
 
-		markers.stream()
-				.map(ref -> {
-					final var marker = new ValueMarker(ref);
-					final var label = numberUtils.formatDecimalSimple1En(ref);
-					if (label.endsWith(".0")) {
-						marker.setLabel(String.valueOf(Math.round(ref)));
-					} else {
-						marker.setLabel(label);
-					}
+		data.markers().stream()
+				.map(chartMarker -> {
+					final var marker = new ValueMarker(chartMarker.value());
+					marker.setLabel(chartMarker.label());
 
 					marker.setLabelPaint(Color.WHITE);
 					marker.setPaint(Color.WHITE);
@@ -114,10 +173,10 @@ public abstract class DataGraphic {
 				})
 				.forEach(plot::addRangeMarker);
 
-		if (logarithmicAxis) {
-			plot.setRangeAxis(rangeAxis.toLogarithmicAxis(font));
+		if (data.logarithmic()) {
+			plot.setRangeAxis(data.rangeAxis().toLogarithmicAxis(font));
 		} else {
-			plot.setRangeAxis(rangeAxis.toLinearAxis(font));
+			plot.setRangeAxis(data.rangeAxis().toLinearAxis(font));
 		}
 
 		renderer.setDefaultItemLabelFont(font);
@@ -126,9 +185,9 @@ public abstract class DataGraphic {
 		renderer.setLegendTextFont(0, font);
 		renderer.setSeriesItemLabelFont(0, font);
 
-		final var series = getSeriesStyle();
+		final var series = data.series();
 		for (var pos = 0; pos < series.size(); pos++) {
-			final var s = series.get(pos);
+			final var s = series.get(pos).style();
 			renderer.setSeriesPaint(pos, s.getPaint());
 			renderer.setSeriesStroke(pos, s.getStroke());
 		}
@@ -149,7 +208,7 @@ public abstract class DataGraphic {
 		if (domainAxis instanceof final DateAxis timeAxis) {
 			timeAxis.setTimeZone(TimeZone.getTimeZone("GMT"));
 		}
-		return chartWrapper;
+		return timechart;
 	}
 
 }
@@ -19,14 +19,19 @@ package media.mexm.mediadeepa.exportformat;
 import static java.util.Objects.requireNonNull;
 
 import java.awt.Dimension;
+import java.io.File;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
+import media.mexm.mediadeepa.exportformat.RenderedImageCache.ImageKey;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.SimpleKeyValueReportEntry;
 import tv.hd3g.fflauncher.ffprobecontainer.FFprobeVideoFrameConst;
@@ -60,11 +65,29 @@ public class DataResult {
 	private MeasuredWav wavForm;
 	@Setter
 	private VideoImageSnapshots videoImageSnapshots;
+	@Setter
+	private File sourceFile;
+	@Getter
+	private ExportFilter exportFilter;
+	@Setter
+	@EqualsAndHashCode.Exclude
+	private RenderedImageCache renderedImageCache;
+	@Setter
+	@EqualsAndHashCode.Exclude
+	private ExecutorService compressExecutor;
+	@Setter
+	@EqualsAndHashCode.Exclude
+	private Semaphore renderLimiter;
 
 	public DataResult(final String source, final Map<String, String> versions, final boolean inMultipleSourcesSet) {
 		this.source = requireNonNull(source);
 		this.versions = versions;
 		this.inMultipleSourcesSet = inMultipleSourcesSet;
+		exportFilter = ExportFilter.NO_FILTER;
+	}
+
+	public void setExportFilter(final ExportFilter exportFilter) {
+		this.exportFilter = requireNonNull(exportFilter);
 	}
 
 	public void setMediaAnalyserProcessResult(final MediaAnalyserProcessResult mediaAnalyserResult) {
@@ -109,6 +132,44 @@ public class DataResult {
 		return Optional.ofNullable(videoImageSnapshots);
 	}
 
+	/**
+	 * @return empty if the source is not a local file (like an offline archive)
+	 */
+	public Optional<File> getSourceFile() {
+		return Optional.ofNullable(sourceFile);
+	}
+
+	/**
+	 * @return empty outside an export session
+	 */
+	public Optional<RenderedImageCache> getRenderedImageCache() {
+		return Optional.ofNullable(renderedImageCache);
+	}
+
+	/**
+	 * @return the cached image for this key if a RenderedImageCache is set, else always a new rendering
+	 */
+	public ImageArtifact getRenderedImage(final ImageKey key, final Supplier<ImageArtifact> renderer) {
+		return getRenderedImageCache()
+				.map(cache -> cache.getImage(key, renderer))
+				.orElseGet(renderer);
+	}
+
+	/**
+	 * @return empty outside an export session, or if the parallel output compression is disabled
+	 */
+	public Optional<ExecutorService> getCompressExecutor() {
+		return Optional.ofNullable(compressExecutor);
+	}
+
+	/**
+	 * Shared by all the graphic renderings of an export session, see ParallelRendering.
+	 * @return null outside an export session
+	 */
+	public Semaphore getRenderLimiter() {
+		return renderLimiter;
+	}
+
 	public Optional<ContainerAnalyserProcessResult> getContainerAnalyserProcessResult() {
 		return Optional.ofNullable(containerAnalyserResult);
 	}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.util.Locale.ENGLISH;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import tv.hd3g.fflauncher.ffprobecontainer.FFprobeBaseFrame;
+import tv.hd3g.fflauncher.ffprobecontainer.FFprobePacket;
+
+/**
+ * Restrict the exported table rows to a time window, and the table columns to an allow-list.
+ * Table and column names are compared case insensitive, only with letters and digits:
+ * "Container video frames" and "container-video-frames" are the same table.
+ * @param fromSec null for no start limit
+ * @param toSec null for no end limit
+ * @param columnsByTable allowed column names, by table name
+ */
+@Slf4j
+public record ExportFilter(Float fromSec, Float toSec, Map<String, Set<String>> columnsByTable) {
+
+	public static final ExportFilter NO_FILTER = new ExportFilter(null, null, Map.of());
+
+	public ExportFilter {
+		if (fromSec != null && toSec != null && fromSec > toSec) {
+			throw new IllegalArgumentException("Invalid time range, from " + fromSec + " to " + toSec);
+		}
+		columnsByTable = columnsByTable.entrySet().stream()
+				.collect(toUnmodifiableMap(
+						entry -> normalizeName(entry.getKey()),
+						entry -> entry.getValue().stream()
+								.map(ExportFilter::normalizeName)
+								.collect(toUnmodifiableSet()),
+						(l, r) -> Stream.concat(l.stream(), r.stream()).collect(toUnmodifiableSet())));
+	}
+
+	/**
+	 * @param columnListsByTable comma separated column names, by table name. Can be null.
+	 */
+	public static ExportFilter create(final Float fromSec,
+									  final Float toSec,
+									  final Map<String, String> columnListsByTable) {
+		final var columnsByTable = Optional.ofNullable(columnListsByTable)
+				.orElse(Map.of())
+				.entrySet().stream()
+				.collect(toUnmodifiableMap(
+						Map.Entry::getKey,
+						entry -> Stream.of(entry.getValue().split(","))
+								.map(String::trim)
+								.filter(c -> c.isEmpty() == false)
+								.collect(toUnmodifiableSet())));
+		return new ExportFilter(fromSec, toSec, columnsByTable);
+	}
+
+	static String normalizeName(final String name) {
+		return name.toLowerCase(ENGLISH).replaceAll("[^a-z0-9]", "");
+	}
+
+	public boolean hasTimeRange() {
+		return fromSec != null || toSec != null;
+	}
+
+	/**
+	 * @return false for a NaN position, only if a time range is set
+	 */
+	public boolean isInTimeRange(final double positionSec) {
+		if (hasTimeRange() == false) {
+			return true;
+		} else if (Double.isNaN(positionSec)) {
+			return false;
+		}
+		return (fromSec == null || positionSec >= fromSec)
+			   && (toSec == null || positionSec <= toSec);
+	}
+
+	/**
+	 * @return true if the start/end period overlaps the time range
+	 */
+	public boolean isInTimeRange(final Duration start, final Duration end) {
+		if (hasTimeRange() == false) {
+			return true;
+		}
+		return (fromSec == null || end.toMillis() >= fromSec * 1000f)
+			   && (toSec == null || start.toMillis() <= toSec * 1000f);
+	}
+
+	/**
+	 * @return pts time, or dts time if pts is not set
+	 */
+	public static float getFramePosition(final FFprobeBaseFrame frame) {
+		return frame.ptsTime() < 0f ? frame.pktDtsTime() : frame.ptsTime();
+	}
+
+	/**
+	 * @return pts time, or dts time if pts is not set
+	 */
+	public static float getPacketPosition(final FFprobePacket packet) {
+		return packet.ptsTime() < 0f ? packet.dtsTime() : packet.ptsTime();
+	}
+
+	/**
+	 * @return action, only called for the items in the time range
+	 */
+	public <T> Consumer<T> inTimeRange(final ToDoubleFunction<T> positionSec, final Consumer<T> action) {
+		if (hasTimeRange() == false) {
+			return action;
+		}
+		return item -> {
+			if (isInTimeRange(positionSec.applyAsDouble(item))) {
+				action.accept(item);
+			}
+		};
+	}
+
+	/**
+	 * Log a warning for the allowed columns not in this header.
+	 * @return empty if all the columns are kept: no allow-list for this table.
+	 * @throws IllegalArgumentException if none of the allowed columns are in this header
+	 */
+	public Optional<boolean[]> getSkippedColumns(final String tableName, final List<String> header) {
+		final var allowedColumns = columnsByTable.get(normalizeName(tableName));
+		if (allowedColumns == null) {
+			return Optional.empty();
+		}
+
+		final var headerColumns = header.stream()
+				.map(ExportFilter::normalizeName)
+				.collect(toUnmodifiableSet());
+		final var unknownColumns = allowedColumns.stream()
+				.filter(c -> headerColumns.contains(c) == false)
+				.sorted()
+				.toList();
+		if (unknownColumns.size() == allowedColumns.size()) {
+			throw new IllegalArgumentException("None of the export columns " + unknownColumns
+											   + " are in the \"" + tableName + "\" table, available columns are "
+											   + header);
+		} else if (unknownColumns.isEmpty() == false) {
+			log.warn("Unknown export columns {} for the \"{}\" table, available columns are {}",
+					unknownColumns, tableName, header);
+		}
+
+		final var skippedColumns = new boolean[header.size()];
+		for (var pos = 0; pos < header.size(); pos++) {
+			skippedColumns[pos] = allowedColumns.contains(normalizeName(header.get(pos))) == false;
+		}
+		return Optional.of(skippedColumns);
+	}
+
+	/**
+	 * @return header without the skipped columns
+	 */
+	public static List<String> getKeptHeader(final List<String> header, final boolean[] skippedColumns) {
+		if (skippedColumns == null) {
+			return header;
+		}
+		final var keptHeader = new ArrayList<String>(header.size());
+		for (var pos = 0; pos < header.size(); pos++) {
+			if (skippedColumns[pos] == false) {
+				keptHeader.add(header.get(pos));
+			}
+		}
+		return List.copyOf(keptHeader);
+	}
+
+}
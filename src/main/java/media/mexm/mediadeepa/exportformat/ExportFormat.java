@@ -16,7 +16,9 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.OutputStream;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -35,7 +37,35 @@ public interface ExportFormat {
 
 	Set<String> getInternalProducedFileNames();
 
-	Optional<byte[]> makeSingleExport(DataResult result, String internalFileName);
+	/**
+	 * @param internalFileName like getInternalProducedFileNames items
+	 * @return true if exportResult writes this file
+	 */
+	default boolean isProducingFile(final String internalFileName) {
+		return getInternalProducedFileNames().contains(internalFileName);
+	}
+
+	/**
+	 * @return false if this format can only write to its own file (like an appended database):
+	 *         writeSingleExport and makeSingleExport must not be called.
+	 */
+	default boolean canWriteSingleExport() {
+		return true;
+	}
+
+	/**
+	 * Don't close outputStream here.
+	 * @return false if nothing was written
+	 */
+	boolean writeSingleExport(DataResult result, String internalFileName, OutputStream outputStream);
+
+	default Optional<byte[]> makeSingleExport(final DataResult result, final String internalFileName) {
+		final var outputStream = new ByteArrayOutputStream();
+		if (writeSingleExport(result, internalFileName, outputStream) == false) {
+			return Optional.empty();
+		}
+		return Optional.of(outputStream.toByteArray());
+	}
 
 	Set<ProcessingHandledData> canHandleProcessingData();
 
@@ -16,8 +16,12 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
+import static media.mexm.mediadeepa.exportformat.ImageArtifact.IMAGE_JPEG;
+import static media.mexm.mediadeepa.exportformat.ImageArtifact.IMAGE_PNG;
 import static media.mexm.mediadeepa.exportformat.ImageArtifact.renderChartToJPEGImage;
 import static media.mexm.mediadeepa.exportformat.ImageArtifact.renderChartToPNGImage;
+import static media.mexm.mediadeepa.exportformat.ImageArtifact.renderImageToJPEGImage;
+import static media.mexm.mediadeepa.exportformat.ImageArtifact.renderImageToPNGImage;
 
 import java.awt.Dimension;
 import java.io.File;
@@ -27,6 +31,8 @@ import lombok.Getter;
 import media.mexm.mediadeepa.cli.AppCommand;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.RenderedImageCache.ImageKey;
+import media.mexm.mediadeepa.exportformat.report.ChartReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ImageReportEntry;
 
 public class GraphicArtifact {
@@ -48,8 +54,31 @@ public class GraphicArtifact {
 		this.imageSize = Objects.requireNonNull(imageSize, "\"imageSize\" can't to be null");
 	}
 
-	public ImageArtifact getImage(final AppCommand appCommand, final AppConfig appConfig) {
+	/**
+	 * Rendered only once by export, see DataResult.getRenderedImage
+	 */
+	public ImageArtifact getImage(final AppCommand appCommand, final AppConfig appConfig, final DataResult result) {
+		return result.getRenderedImage(
+				new ImageKey(fileNameWOExt, imageSize, getImageVariant(appCommand, appConfig)),
+				() -> renderImage(appCommand, appConfig));
+	}
+
+	private static String getImageVariant(final AppCommand appCommand, final AppConfig appConfig) {
+		final var renderer = appConfig.getGraphicConfig().isJava2dRenderer() ? "java2d" : "jfreechart";
 		if (appCommand.isGraphicJpg()) {
+			return IMAGE_JPEG + ";" + renderer + ";" + appConfig.getJpegCompressionRatio();
+		}
+		return IMAGE_PNG + ";" + renderer;
+	}
+
+	private ImageArtifact renderImage(final AppCommand appCommand, final AppConfig appConfig) {
+		if (appConfig.getGraphicConfig().isJava2dRenderer()) {
+			final var image = Java2DChartRenderer.render(graphic.data(), imageSize);
+			if (appCommand.isGraphicJpg()) {
+				return renderImageToJPEGImage(fileNameWOExt, image, appConfig.getJpegCompressionRatio());
+			}
+			return renderImageToPNGImage(fileNameWOExt, image);
+		} else if (appCommand.isGraphicJpg()) {
 			final var cRatio = appConfig.getJpegCompressionRatio();
 			return renderChartToJPEGImage(fileNameWOExt, graphic.chart(), imageSize, cRatio);
 		} else {
@@ -61,26 +90,33 @@ public class GraphicArtifact {
 					 final AppConfig appConfig,
 					 final OutputFileSupplier outputFileSupplier,
 					 final DataResult result) {
-		final var image = getImage(appCommand, appConfig);
+		final var image = getImage(appCommand, appConfig, result);
+		final var outputFile = outputFileSupplier.makeOutputFile(result, getFileName(image));
+		image.writeToFile(outputFile);
+		return outputFile;
+	}
 
-		String fileName;
+	private String getFileName(final ImageArtifact image) {
 		if (image.isJPEG()) {
-			fileName = fileNameWOExt + DOT_JPEG;
+			return fileNameWOExt + DOT_JPEG;
 		} else {
-			fileName = fileNameWOExt + DOT_PNG;
+			return fileNameWOExt + DOT_PNG;
 		}
-
-		final var outputFile = outputFileSupplier.makeOutputFile(result, fileName);
-		image.writeToFile(outputFile);
-		return outputFile;
-
 	}
 
-	public ImageReportEntry toGraphicReportEntry(final AppCommand appCommand, final AppConfig appConfig) {
+	public ImageReportEntry toGraphicReportEntry(final AppCommand appCommand,
+												 final AppConfig appConfig,
+												 final DataResult result) {
+		final var image = getImage(appCommand, appConfig, result);
 		return new ImageReportEntry(
-				getImage(appCommand, appConfig),
+				image,
 				graphic,
-				appConfig.getReportConfig().getDisplayImageSizeWidth());
+				appConfig.getReportConfig().getDisplayImageSizeWidth(),
+				getFileName(image));
+	}
+
+	public ChartReportEntry toChartReportEntry(final AppConfig appConfig) {
+		return ChartReportEntry.create(graphic, imageSize, appConfig.getReportConfig().getDisplayImageSizeWidth());
 	}
 
 }
@@ -17,6 +17,7 @@
 package media.mexm.mediadeepa.exportformat;
 
 import java.awt.Dimension;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -78,6 +79,30 @@ public record ImageArtifact(String name, Dimension size, String contentType, byt
 		}
 	}
 
+	public static ImageArtifact renderImageToJPEGImage(final String name,
+													   final BufferedImage image,
+													   final float jpegCompressRatio) {
+		try {
+			final var b = new ByteArrayOutputStream();
+			ChartUtils.writeBufferedImageAsJPEG(b, jpegCompressRatio, image);
+			return new ImageArtifact(name, new Dimension(image.getWidth(), image.getHeight()), IMAGE_JPEG,
+					b.toByteArray());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't export JPG", e);
+		}
+	}
+
+	public static ImageArtifact renderImageToPNGImage(final String name, final BufferedImage image) {
+		try {
+			final var b = new ByteArrayOutputStream();
+			ChartUtils.writeBufferedImageAsPNG(b, image);
+			return new ImageArtifact(name, new Dimension(image.getWidth(), image.getHeight()), IMAGE_PNG,
+					b.toByteArray());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't export PNG", e);
+		}
+	}
+
 	@Override
 	public String toString() {
 		final var builder = new StringBuilder();
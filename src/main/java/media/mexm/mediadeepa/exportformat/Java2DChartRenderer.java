@@ -0,0 +1,514 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.awt.BasicStroke.CAP_BUTT;
+import static java.awt.BasicStroke.JOIN_MITER;
+import static java.awt.Color.BLACK;
+import static java.awt.Color.GRAY;
+import static java.awt.Color.WHITE;
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_ON;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+
+import java.awt.BasicStroke;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Stroke;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+import media.mexm.mediadeepa.exportformat.ChartData.ChartDataSeries;
+
+/**
+ * Draw a ChartData straight to a BufferedImage, with the same look as the JFreeChart rendering
+ * (black background, gray axis and legend, dashed white markers), without any chart object.
+ * Logarithmic axis use the same "adjusted log10" as JFreeChart LogarithmicAxis with negatives values.
+ */
+public class Java2DChartRenderer {
+
+	private static final Font FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 28);
+	private static final Font DOMAIN_TICK_FONT = FONT.deriveFont(20f);
+	private static final Font RANGE_NAME_FONT = FONT.deriveFont(20f);
+	private static final Font MARKER_FONT = FONT.deriveFont(Font.BOLD);
+	private static final Stroke GRID_STROKE = new BasicStroke(1, CAP_BUTT, JOIN_MITER, 10f, new float[] { 2f, 2f }, 0f);
+	private static final Stroke MARKER_STROKE = new BasicStroke(1, CAP_BUTT, JOIN_MITER, 10f, new float[] { 5f }, 0f);
+	private static final Stroke OUTLINE_STROKE = new BasicStroke(1);
+	private static final int PADDING = 8;
+	private static final int TICK_LENGTH = 4;
+	private static final int LEGEND_SWATCH = 20;
+	private static final long[] TIME_STEPS = {
+		1, 2, 5, 10, 20, 50, 100, 200, 500,
+		1_000, 2_000, 5_000, 10_000, 15_000, 30_000,
+		60_000, 120_000, 300_000, 600_000, 900_000, 1_800_000,
+		3_600_000, 7_200_000, 10_800_000, 21_600_000, 43_200_000, 86_400_000 };
+
+	private Java2DChartRenderer() {
+	}
+
+	record Ticks(List<Double> positions, List<String> labels) {
+	}
+
+	private record Layout(double[] domain,
+						  double rangeMin,
+						  double rangeMax,
+						  Ticks rangeTicks,
+						  Rectangle plot,
+						  int legendHeight) {
+	}
+
+	public static BufferedImage render(final ChartData data, final Dimension imageSize) {
+		Objects.requireNonNull(data, "\"data\" can't to be null");
+		Objects.requireNonNull(imageSize, "\"imageSize\" can't to be null");
+
+		final var image = new BufferedImage(imageSize.width, imageSize.height, TYPE_INT_RGB);
+		final var g = image.createGraphics();
+		try {
+			setupGraphics(g);
+			g.setColor(BLACK);
+			g.fillRect(0, 0, imageSize.width, imageSize.height);
+			draw(g, data, imageSize);
+		} finally {
+			g.dispose();
+		}
+		return image;
+	}
+
+	/**
+	 * @return the data area, where the series are drawn by render
+	 */
+	static Rectangle getPlotArea(final ChartData data, final Dimension imageSize) {
+		final var g = new BufferedImage(1, 1, TYPE_INT_RGB).createGraphics();
+		try {
+			setupGraphics(g);
+			final var stackedValues = data.stacked() ? getStackedValues(data.series()) : null;
+			return makeLayout(g, data, stackedValues, imageSize).plot();
+		} finally {
+			g.dispose();
+		}
+	}
+
+	private static void setupGraphics(final Graphics2D g) {
+		g.setRenderingHint(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON);
+		g.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_ON);
+	}
+
+	private static Layout makeLayout(final Graphics2D g,
+									 final ChartData data,
+									 final double[][] stackedValues,
+									 final Dimension imageSize) {
+		final var domain = getDomainRange(data.series());
+		final var range = getValueRange(data, stackedValues);
+		final var rangeMin = toAxis(data, range[0]);
+		final var rangeMax = toAxis(data, range[1]);
+
+		final var domainTickMetrics = g.getFontMetrics(DOMAIN_TICK_FONT);
+		final var fontMetrics = g.getFontMetrics(FONT);
+		final var rangeNameMetrics = g.getFontMetrics(RANGE_NAME_FONT);
+
+		final var legendHeight = fontMetrics.getHeight() + PADDING * 2;
+		final var plotBottom = imageSize.height - legendHeight - domainTickMetrics.getHeight() - TICK_LENGTH - PADDING;
+		final var plotTop = PADDING + fontMetrics.getAscent() / 2;
+		final var roughPlotHeight = plotBottom - plotTop;
+		final var rangeTicks = makeRangeTicks(data, range, rangeMin, rangeMax, Math.max(2, roughPlotHeight / 100));
+		final var rangeLabelWidth = rangeTicks.labels().stream()
+				.mapToInt(fontMetrics::stringWidth)
+				.max()
+				.orElse(0);
+		final var plotLeft = PADDING + rangeNameMetrics.getHeight() + PADDING + rangeLabelWidth + TICK_LENGTH;
+		final var plot = new Rectangle(
+				plotLeft,
+				plotTop,
+				Math.max(1, imageSize.width - plotLeft - PADDING * 2),
+				Math.max(1, roughPlotHeight));
+		return new Layout(domain, rangeMin, rangeMax, rangeTicks, plot, legendHeight);
+	}
+
+	private static void draw(final Graphics2D g, final ChartData data, final Dimension imageSize) {
+		final var stackedValues = data.stacked() ? getStackedValues(data.series()) : null;
+		final var layout = makeLayout(g, data, stackedValues, imageSize);
+		final var domain = layout.domain();
+		final var rangeMin = layout.rangeMin();
+		final var rangeMax = layout.rangeMax();
+		final var rangeTicks = layout.rangeTicks();
+		final var plot = layout.plot();
+		final var domainTickMetrics = g.getFontMetrics(DOMAIN_TICK_FONT);
+		final var fontMetrics = g.getFontMetrics(FONT);
+		final var rangeNameMetrics = g.getFontMetrics(RANGE_NAME_FONT);
+
+		final DoubleUnaryOperator toX = x -> plot.x + (x - domain[0]) / (domain[1] - domain[0]) * plot.width;
+		final DoubleUnaryOperator toY = y -> plot.y + plot.height
+											 - (toAxis(data, y) - rangeMin) / (rangeMax - rangeMin) * plot.height;
+
+		g.setStroke(GRID_STROKE);
+		g.setColor(GRAY);
+		Ticks domainTicks;
+		if (data.timeDomain()) {
+			domainTicks = makeTimeTicks(domain, Math.max(2, plot.width / 250));
+		} else {
+			domainTicks = makeLinearTicks(domain, Math.max(2, plot.width / 150));
+		}
+		for (final var x : domainTicks.positions()) {
+			final var px = (int) Math.round(toX.applyAsDouble(x));
+			g.drawLine(px, plot.y, px, plot.y + plot.height);
+		}
+		for (final var y : rangeTicks.positions()) {
+			final var py = (int) Math.round(toY.applyAsDouble(y));
+			g.drawLine(plot.x, py, plot.x + plot.width, py);
+		}
+
+		final var oldClip = g.getClip();
+		g.clip(plot);
+		if (stackedValues != null) {
+			drawStackedSeries(g, data.series(), stackedValues, toX, toY);
+		} else {
+			drawLineSeries(g, data.series(), toX, toY);
+		}
+		drawMarkers(g, data, plot, toY);
+		g.setClip(oldClip);
+
+		g.setStroke(OUTLINE_STROKE);
+		g.setColor(GRAY);
+		g.draw(plot);
+
+		g.setFont(DOMAIN_TICK_FONT);
+		for (var pos = 0; pos < domainTicks.positions().size(); pos++) {
+			final var px = (int) Math.round(toX.applyAsDouble(domainTicks.positions().get(pos)));
+			final var label = domainTicks.labels().get(pos);
+			g.drawLine(px, plot.y + plot.height, px, plot.y + plot.height + TICK_LENGTH);
+			final var labelX = Math.max(0, Math.min(
+					imageSize.width - domainTickMetrics.stringWidth(label),
+					px - domainTickMetrics.stringWidth(label) / 2));
+			g.drawString(label, labelX, plot.y + plot.height + TICK_LENGTH + domainTickMetrics.getAscent());
+		}
+
+		g.setFont(FONT);
+		for (var pos = 0; pos < rangeTicks.positions().size(); pos++) {
+			final var py = (int) Math.round(toY.applyAsDouble(rangeTicks.positions().get(pos)));
+			final var label = rangeTicks.labels().get(pos);
+			g.drawLine(plot.x - TICK_LENGTH, py, plot.x, py);
+			g.drawString(label,
+					plot.x - TICK_LENGTH - fontMetrics.stringWidth(label),
+					py + fontMetrics.getAscent() / 2 - 2);
+		}
+
+		final var rangeName = data.rangeAxis().name();
+		if (rangeName != null && rangeName.isEmpty() == false) {
+			final var oldTransform = g.getTransform();
+			g.setFont(RANGE_NAME_FONT);
+			g.translate(PADDING + rangeNameMetrics.getAscent(), plot.y + plot.height / 2d);
+			g.rotate(-Math.PI / 2);
+			g.drawString(rangeName, -rangeNameMetrics.stringWidth(rangeName) / 2, 0);
+			g.setTransform(oldTransform);
+		}
+
+		drawLegend(g, data.series(), imageSize, imageSize.height - layout.legendHeight() + PADDING);
+	}
+
+	private static void drawLineSeries(final Graphics2D g,
+									   final List<ChartDataSeries> series,
+									   final DoubleUnaryOperator toX,
+									   final DoubleUnaryOperator toY) {
+		for (final var s : series) {
+			final var path = new Path2D.Double();
+			var penDown = false;
+			for (var pos = 0; pos < Math.min(s.x().length, s.y().length); pos++) {
+				final var y = s.y()[pos];
+				if (Double.isFinite(y) == false) {
+					penDown = false;
+					continue;
+				}
+				final var px = toX.applyAsDouble(s.x()[pos]);
+				final var py = toY.applyAsDouble(y);
+				if (penDown) {
+					path.lineTo(px, py);
+				} else {
+					path.moveTo(px, py);
+					penDown = true;
+				}
+			}
+			g.setPaint(s.style().getPaint());
+			g.setStroke(s.style().getStroke());
+			g.draw(path);
+		}
+	}
+
+	private static void drawStackedSeries(final Graphics2D g,
+										  final List<ChartDataSeries> series,
+										  final double[][] stackedValues,
+										  final DoubleUnaryOperator toX,
+										  final DoubleUnaryOperator toY) {
+		for (var posSeries = 0; posSeries < series.size(); posSeries++) {
+			final var x = series.get(posSeries).x();
+			final var top = stackedValues[posSeries];
+			final var size = Math.min(x.length, top.length);
+			if (size == 0) {
+				continue;
+			}
+			final var path = new Path2D.Double();
+			path.moveTo(toX.applyAsDouble(x[0]), toY.applyAsDouble(top[0]));
+			for (var pos = 1; pos < size; pos++) {
+				path.lineTo(toX.applyAsDouble(x[pos]), toY.applyAsDouble(top[pos]));
+			}
+			for (var pos = size - 1; pos >= 0; pos--) {
+				final var base = posSeries == 0 ? 0d : stackedValues[posSeries - 1][pos];
+				path.lineTo(toX.applyAsDouble(x[pos]), toY.applyAsDouble(base));
+			}
+			path.closePath();
+			g.setPaint(series.get(posSeries).style().getPaint());
+			g.fill(path);
+		}
+	}
+
+	private static void drawMarkers(final Graphics2D g,
+									final ChartData data,
+									final Rectangle plot,
+									final DoubleUnaryOperator toY) {
+		g.setFont(MARKER_FONT);
+		final var metrics = g.getFontMetrics();
+		for (final var marker : data.markers()) {
+			final var py = (int) Math.round(toY.applyAsDouble(marker.value()));
+			g.setColor(WHITE);
+			g.setStroke(MARKER_STROKE);
+			g.drawLine(plot.x, py, plot.x + plot.width, py);
+			if (marker.label() != null) {
+				g.drawString(marker.label(), plot.x + PADDING, py + metrics.getAscent() / 2 - 2);
+			}
+		}
+	}
+
+	private static void drawLegend(final Graphics2D g,
+								   final List<ChartDataSeries> series,
+								   final Dimension imageSize,
+								   final int top) {
+		g.setFont(FONT);
+		final var metrics = g.getFontMetrics();
+		final var itemWidths = series.stream()
+				.mapToInt(s -> LEGEND_SWATCH + PADDING + metrics.stringWidth(s.style().getName()) + PADDING * 3)
+				.toArray();
+		var x = Math.max(PADDING, (imageSize.width - Arrays.stream(itemWidths).sum()) / 2);
+		final var swatchTop = top + (metrics.getHeight() - LEGEND_SWATCH) / 2;
+		for (var pos = 0; pos < series.size(); pos++) {
+			final var style = series.get(pos).style();
+			g.setPaint(style.getPaint());
+			g.fillRect(x, swatchTop, LEGEND_SWATCH, LEGEND_SWATCH);
+			g.setColor(GRAY);
+			g.drawString(style.getName(), x + LEGEND_SWATCH + PADDING, top + metrics.getAscent());
+			x += itemWidths[pos];
+		}
+	}
+
+	/**
+	 * @return for each series, the sum of its values and of all previous series values (NaN as 0)
+	 */
+	static double[][] getStackedValues(final List<ChartDataSeries> series) {
+		final var result = new double[series.size()][];
+		for (var posSeries = 0; posSeries < series.size(); posSeries++) {
+			final var y = series.get(posSeries).y();
+			result[posSeries] = new double[y.length];
+			for (var pos = 0; pos < y.length; pos++) {
+				var base = 0d;
+				if (posSeries > 0 && pos < result[posSeries - 1].length) {
+					base = result[posSeries - 1][pos];
+				}
+				result[posSeries][pos] = base + (Double.isFinite(y[pos]) ? y[pos] : 0d);
+			}
+		}
+		return result;
+	}
+
+	private static double[] getDomainRange(final List<ChartDataSeries> series) {
+		var min = Double.POSITIVE_INFINITY;
+		var max = Double.NEGATIVE_INFINITY;
+		for (final var s : series) {
+			for (final var x : s.x()) {
+				if (Double.isFinite(x)) {
+					min = Math.min(min, x);
+					max = Math.max(max, x);
+				}
+			}
+		}
+		return toValidRange(min, max);
+	}
+
+	/**
+	 * Same as JFreeChart: the fixed range if set, else the values range with a 5% margin.
+	 */
+	static double[] getValueRange(final ChartData data, final double[][] stackedValues) {
+		final var fixedRange = data.getFixedRange();
+		if (fixedRange.isPresent()) {
+			return toValidRange(fixedRange.get()[0], fixedRange.get()[1]);
+		}
+
+		var min = Double.POSITIVE_INFINITY;
+		var max = Double.NEGATIVE_INFINITY;
+		final var allValues = new ArrayList<double[]>();
+		if (stackedValues != null) {
+			allValues.addAll(List.of(stackedValues));
+			min = 0d;
+			max = 0d;
+		} else {
+			data.series().forEach(s -> allValues.add(s.y()));
+		}
+		for (final var values : allValues) {
+			for (final var y : values) {
+				if (Double.isFinite(y)) {
+					min = Math.min(min, y);
+					max = Math.max(max, y);
+				}
+			}
+		}
+		final var range = toValidRange(min, max);
+		final var margin = (range[1] - range[0]) * 0.05d;
+		if (stackedValues != null && range[0] >= 0d) {
+			return new double[] { range[0], range[1] + margin };
+		}
+		return new double[] { range[0] - margin, range[1] + margin };
+	}
+
+	private static double[] toValidRange(final double min, final double max) {
+		if (Double.isFinite(min) == false || Double.isFinite(max) == false) {
+			return new double[] { 0d, 1d };
+		} else if (min == max) {
+			return new double[] { min - 1d, max + 1d };
+		} else if (min > max) {
+			return new double[] { max, min };
+		}
+		return new double[] { min, max };
+	}
+
+	static double toAxis(final ChartData data, final double value) {
+		if (data.logarithmic() == false) {
+			return value;
+		}
+		return adjustedLog10(value);
+	}
+
+	/**
+	 * Same as JFreeChart LogarithmicAxis.adjustedLog10
+	 */
+	static double adjustedLog10(final double value) {
+		var val = Math.abs(value);
+		if (val < 10d) {
+			val += (10d - val) / 10d;
+		}
+		final var result = Math.log10(val);
+		return value < 0d ? -result : result;
+	}
+
+	private static double adjustedPow10(final double value) {
+		final var abs = Math.abs(value);
+		var result = Math.pow(10d, abs);
+		if (abs < 1d) {
+			result = (result - 1d) / 0.9d;
+		}
+		return value < 0d ? -result : result;
+	}
+
+	private static Ticks makeRangeTicks(final ChartData data,
+										final double[] range,
+										final double rangeMin,
+										final double rangeMax,
+										final int targetCount) {
+		if (data.logarithmic()) {
+			final var positions = new ArrayList<Double>();
+			final var labels = new ArrayList<String>();
+			for (var exp = Math.ceil(rangeMin); exp <= Math.floor(rangeMax); exp++) {
+				final var value = adjustedPow10(exp);
+				positions.add(value);
+				labels.add(formatNumber(value, 1d));
+			}
+			if (positions.size() >= 2) {
+				return new Ticks(positions, labels);
+			}
+		}
+		return makeLinearTicks(range, targetCount);
+	}
+
+	static Ticks makeLinearTicks(final double[] range, final int targetCount) {
+		final var rawStep = (range[1] - range[0]) / targetCount;
+		final var magnitude = Math.pow(10d, Math.floor(Math.log10(rawStep)));
+		final var residual = rawStep / magnitude;
+		double step;
+		if (residual < 1.5d) {
+			step = magnitude;
+		} else if (residual < 3d) {
+			step = magnitude * 2d;
+		} else if (residual < 7d) {
+			step = magnitude * 5d;
+		} else {
+			step = magnitude * 10d;
+		}
+
+		final var positions = new ArrayList<Double>();
+		final var labels = new ArrayList<String>();
+		for (var tick = Math.ceil(range[0] / step) * step; tick <= range[1] + step / 1000d; tick += step) {
+			final var value = Math.abs(tick) < step / 1000d ? 0d : tick;
+			positions.add(value);
+			labels.add(formatNumber(value, step));
+		}
+		return new Ticks(positions, labels);
+	}
+
+	static Ticks makeTimeTicks(final double[] range, final int targetCount) {
+		final var rawStep = (range[1] - range[0]) / targetCount;
+		var step = TIME_STEPS[TIME_STEPS.length - 1];
+		for (final var timeStep : TIME_STEPS) {
+			if (timeStep >= rawStep) {
+				step = timeStep;
+				break;
+			}
+		}
+
+		final var positions = new ArrayList<Double>();
+		final var labels = new ArrayList<String>();
+		for (var tick = (long) Math.ceil(range[0] / step) * step; tick <= range[1]; tick += step) {
+			positions.add((double) tick);
+			labels.add(formatTime(tick, step < 1000));
+		}
+		return new Ticks(positions, labels);
+	}
+
+	private static String formatNumber(final double value, final double step) {
+		final var decimals = Math.max(0, (int) -Math.floor(Math.log10(step)));
+		return String.format(Locale.ENGLISH, "%." + decimals + "f", value);
+	}
+
+	static String formatTime(final long ms, final boolean withMs) {
+		final var abs = Math.abs(ms);
+		final var result = String.format(Locale.ENGLISH, "%s%02d:%02d:%02d",
+				ms < 0 ? "-" : "",
+				abs / 3_600_000,
+				abs / 60_000 % 60,
+				abs / 1000 % 60);
+		if (withMs) {
+			return result + String.format(Locale.ENGLISH, ".%03d", abs % 1000);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Run independent rendering tasks, like chart rasterization and image encoding, on a bounded thread pool.
+ * A renderLimiter shared by all the calls of an export session bounds the total of concurrent renderings,
+ * even if several export formats or report sections render at the same time.
+ */
+public class ParallelRendering {
+
+	private static final ThreadLocal<Boolean> HOLD_RENDER_PERMIT = ThreadLocal.withInitial(() -> false);
+
+	private ParallelRendering() {
+	}
+
+	/**
+	 * Without shared renderLimiter.
+	 * @return mapped items, in the same order as items
+	 */
+	public static <T, R> List<R> parallelMap(final List<T> items,
+											 final Function<? super T, ? extends R> mapper,
+											 final int parallelism) {
+		return parallelMap(items, mapper, parallelism, null);
+	}
+
+	/**
+	 * Run on the current thread if parallelism is less than 2.
+	 * A nested call, from a mapper which already holds a renderLimiter permit, is run on the current thread
+	 * with this permit: it never waits for an other permit, so it can't deadlock.
+	 * @param renderLimiter each mapper call needs one of its permits. Can be null.
+	 * @return mapped items, in the same order as items
+	 */
+	public static <T, R> List<R> parallelMap(final List<T> items,
+											 final Function<? super T, ? extends R> mapper,
+											 final int parallelism,
+											 final Semaphore renderLimiter) {
+		if (renderLimiter != null && HOLD_RENDER_PERMIT.get()) {
+			return items.stream()
+					.<R> map(mapper)
+					.toList();
+		}
+
+		final Function<T, R> limitedMapper = item -> applyLimited(item, mapper, renderLimiter);
+		if (parallelism < 2 || items.size() < 2) {
+			return items.stream()
+					.map(limitedMapper)
+					.toList();
+		}
+
+		try (var executor = Executors.newFixedThreadPool(Math.min(parallelism, items.size()),
+				Thread.ofPlatform().name("graphic-", 0).factory())) {
+			return items.stream()
+					.map(item -> CompletableFuture.supplyAsync(() -> limitedMapper.apply(item), executor))
+					.toList()
+					.stream()
+					.map(ParallelRendering::join)
+					.toList();
+		}
+	}
+
+	private static <T, R> R applyLimited(final T item,
+										 final Function<? super T, ? extends R> mapper,
+										 final Semaphore renderLimiter) {
+		if (renderLimiter == null) {
+			return mapper.apply(item);
+		}
+		try {
+			renderLimiter.acquire();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted during rendering wait", e);
+		}
+		HOLD_RENDER_PERMIT.set(true);
+		try {
+			return mapper.apply(item);
+		} finally {
+			HOLD_RENDER_PERMIT.set(false);
+			renderLimiter.release();
+		}
+	}
+
+	private static <R> R join(final CompletableFuture<R> rendering) {
+		try {
+			return rendering.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			} else if (e.getCause() instanceof final Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+}
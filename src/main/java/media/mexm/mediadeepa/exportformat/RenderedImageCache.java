@@ -0,0 +1,161 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import java.awt.Dimension;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.commons.io.FileUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rendered images for one export, so a same graphic is never rasterized twice (file export, report...).
+ * Images are kept in memory up to maxMemory bytes, the next ones are stored in temp files, deleted on close.
+ * Thread safe: concurrent requests for the same image wait for the first rendering.
+ */
+@Slf4j
+public class RenderedImageCache implements Closeable {
+
+	/**
+	 * @param variant all that changes the rendered bytes, like format, compression and renderer
+	 */
+	public record ImageKey(String name, Dimension size, String variant) {
+
+		public ImageKey {
+			Objects.requireNonNull(name, "\"name\" can't to be null");
+			size = new Dimension(Objects.requireNonNull(size, "\"size\" can't to be null"));
+			Objects.requireNonNull(variant, "\"variant\" can't to be null");
+		}
+
+	}
+
+	private final long maxMemory;
+	private final File tempDir;
+	private final ConcurrentHashMap<ImageKey, CachedImage> images;
+	private final AtomicLong memoryUsed;
+	private volatile boolean closed;
+
+	/**
+	 * @param tempDir can be null for the system temp dir
+	 */
+	public RenderedImageCache(final long maxMemory, final File tempDir) {
+		if (maxMemory < 0) {
+			throw new IllegalArgumentException("Invalid maxMemory: " + maxMemory);
+		}
+		this.maxMemory = maxMemory;
+		this.tempDir = tempDir;
+		images = new ConcurrentHashMap<>();
+		memoryUsed = new AtomicLong();
+	}
+
+	public ImageArtifact getImage(final ImageKey key, final Supplier<ImageArtifact> renderer) {
+		Objects.requireNonNull(renderer, "\"renderer\" can't to be null");
+		if (closed) {
+			throw new IllegalStateException("Cache is closed");
+		}
+		return images.computeIfAbsent(key, k -> new CachedImage()).get(renderer);
+	}
+
+	public long getMemoryUsed() {
+		return memoryUsed.get();
+	}
+
+	public int size() {
+		return images.size();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		images.values().forEach(CachedImage::delete);
+		images.clear();
+	}
+
+	private class CachedImage {
+
+		private ImageArtifact inMemory;
+		private File spilled;
+		private ImageArtifact spilledMetadatas;
+
+		synchronized ImageArtifact get(final Supplier<ImageArtifact> renderer) {
+			if (inMemory != null) {
+				return inMemory;
+			} else if (spilled != null) {
+				return readSpilled();
+			}
+
+			final var image = Objects.requireNonNull(renderer.get(), "Renderer can't return null");
+			final var imageSize = image.data().length;
+			if (memoryUsed.addAndGet(imageSize) <= maxMemory) {
+				inMemory = image;
+			} else {
+				memoryUsed.addAndGet(-imageSize);
+				spill(image);
+			}
+			return image;
+		}
+
+		private void spill(final ImageArtifact image) {
+			try {
+				final var file = Files.createTempFile(
+						tempDir != null ? tempDir.toPath() : FileUtils.getTempDirectory().toPath(),
+						"mediadeepa-image-",
+						".bin").toFile();
+				FileUtils.writeByteArrayToFile(file, image.data(), false);
+				spilled = file;
+				spilledMetadatas = new ImageArtifact(image.name(), image.size(), image.contentType(), new byte[0]);
+				log.trace("Store rendered image {} in {}", image.name(), file);
+			} catch (final IOException e) {
+				throw new UncheckedIOException("Can't write rendered image to temp file", e);
+			}
+		}
+
+		private ImageArtifact readSpilled() {
+			try {
+				return new ImageArtifact(
+						spilledMetadatas.name(),
+						spilledMetadatas.size(),
+						spilledMetadatas.contentType(),
+						FileUtils.readFileToByteArray(spilled));
+			} catch (final IOException e) {
+				throw new UncheckedIOException("Can't read rendered image from temp file " + spilled, e);
+			}
+		}
+
+		synchronized void delete() {
+			if (inMemory != null) {
+				memoryUsed.addAndGet(-inMemory.data().length);
+				inMemory = null;
+			}
+			if (spilled != null) {
+				FileUtils.deleteQuietly(spilled);
+				spilled = null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,204 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.lang.Float.NEGATIVE_INFINITY;
+import static java.lang.Float.POSITIVE_INFINITY;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Aggregate timed values by series in fixed time buckets, in a single pass.
+ * A bucket is closed (and pushed to the consumer) when a value arrives two buckets after it,
+ * so slightly unordered values (like packets by dts/pts) are still correctly aggregated.
+ * A later value for an already closed bucket is dropped (and counted, see getLateValues): it never
+ * reopens a bucket, so a series have only one bucket by resolution and position.
+ * Infinite values are bounded to -144/+144 like the table exports, NaN values are ignored.
+ * The 95th percentile is exact up to maxPercentileSamples values by bucket, else estimated on a uniform
+ * reservoir sample of maxPercentileSamples values, so a bucket memory usage stay bounded.
+ */
+public class RollupAccumulator {
+
+	private final List<Integer> resolutions;
+	private final int maxPercentileSamples;
+	private final SplittableRandom random;
+	private final Consumer<RollupBucket> onClosedBucket;
+	private final Map<String, List<TreeMap<Long, Bucket>>> openedBucketsBySeries;
+	private final Map<String, long[]> lastClosedIndexesBySeries;
+	private long lateValues;
+
+	/**
+	 * @param resolutions bucket durations, in seconds
+	 */
+	public RollupAccumulator(final List<Integer> resolutions,
+							 final int maxPercentileSamples,
+							 final Consumer<RollupBucket> onClosedBucket) {
+		Objects.requireNonNull(resolutions, "\"resolutions\" can't to be null");
+		this.onClosedBucket = Objects.requireNonNull(onClosedBucket, "\"onClosedBucket\" can't to be null");
+		if (resolutions.stream().anyMatch(r -> r == null || r < 1)) {
+			throw new IllegalArgumentException("Invalid rollup resolutions: " + resolutions);
+		} else if (maxPercentileSamples < 1) {
+			throw new IllegalArgumentException("Invalid maxPercentileSamples: " + maxPercentileSamples);
+		}
+		this.resolutions = resolutions.stream().distinct().sorted().toList();
+		this.maxPercentileSamples = maxPercentileSamples;
+		random = new SplittableRandom(0);
+		openedBucketsBySeries = new LinkedHashMap<>();
+		lastClosedIndexesBySeries = new HashMap<>();
+	}
+
+	public record RollupBucket(int resolution,
+							   String series,
+							   float position,
+							   int count,
+							   double sum,
+							   float average,
+							   float min,
+							   float max,
+							   float percentile95) {
+	}
+
+	public void add(final String series, final double time, final float value) {
+		Objects.requireNonNull(series, "\"series\" can't to be null");
+		if (Float.isNaN(value) || Double.isNaN(time) || time < 0d) {
+			return;
+		}
+		final var boundedValue = bound(value);
+
+		final var openedBuckets = openedBucketsBySeries.computeIfAbsent(series,
+				s -> resolutions.stream().map(r -> new TreeMap<Long, Bucket>()).toList());
+		final var lastClosedIndexes = getLastClosedIndexes(series);
+		var late = false;
+		for (var pos = 0; pos < resolutions.size(); pos++) {
+			final var resolution = resolutions.get(pos);
+			final var index = (long) Math.floor(time / resolution);
+			if (index <= lastClosedIndexes[pos]) {
+				late = true;
+				continue;
+			}
+			final var buckets = openedBuckets.get(pos);
+			buckets.computeIfAbsent(index, i -> new Bucket()).add(boundedValue);
+
+			final var closables = buckets.headMap(index - 1);
+			if (closables.isEmpty() == false) {
+				lastClosedIndexes[pos] = closables.lastKey();
+				closables.forEach((i, bucket) -> onClosedBucket.accept(bucket.close(resolution, series, i)));
+				closables.clear();
+			}
+		}
+		if (late) {
+			lateValues++;
+		}
+	}
+
+	private long[] getLastClosedIndexes(final String series) {
+		return lastClosedIndexesBySeries.computeIfAbsent(series, s -> {
+			final var lastClosedIndexes = new long[resolutions.size()];
+			Arrays.fill(lastClosedIndexes, Long.MIN_VALUE);
+			return lastClosedIndexes;
+		});
+	}
+
+	/**
+	 * @return values dropped from at least one resolution, because they arrived after the closing of their bucket
+	 */
+	public long getLateValues() {
+		return lateValues;
+	}
+
+	private static float bound(final float value) {
+		if (value == NEGATIVE_INFINITY) {
+			return -144f;
+		} else if (value == POSITIVE_INFINITY) {
+			return 144f;
+		}
+		return value;
+	}
+
+	/**
+	 * Close all opened buckets, by series, resolution, and position.
+	 */
+	public void end() {
+		openedBucketsBySeries.forEach((series, openedBuckets) -> {
+			final var lastClosedIndexes = getLastClosedIndexes(series);
+			for (var pos = 0; pos < resolutions.size(); pos++) {
+				final var resolution = resolutions.get(pos);
+				final var buckets = openedBuckets.get(pos);
+				if (buckets.isEmpty() == false) {
+					lastClosedIndexes[pos] = buckets.lastKey();
+				}
+				buckets.forEach((i, bucket) -> onClosedBucket.accept(bucket.close(resolution, series, i)));
+				buckets.clear();
+			}
+		});
+		openedBucketsBySeries.clear();
+	}
+
+	private class Bucket {
+		private float[] samples = new float[Math.min(16, maxPercentileSamples)];
+		private int count;
+		private double sum;
+		private float min = POSITIVE_INFINITY;
+		private float max = NEGATIVE_INFINITY;
+
+		void add(final float value) {
+			if (count < maxPercentileSamples) {
+				if (count == samples.length) {
+					samples = Arrays.copyOf(samples, Math.min(count * 2, maxPercentileSamples));
+				}
+				samples[count] = value;
+			} else {
+				final var pos = random.nextLong(count + 1L);
+				if (pos < maxPercentileSamples) {
+					samples[(int) pos] = value;
+				}
+			}
+			count++;
+			sum += value;
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+
+		/**
+		 * Percentile with the nearest-rank method, on the samples.
+		 */
+		RollupBucket close(final int resolution, final String series, final long index) {
+			final var sampleCount = Math.min(count, maxPercentileSamples);
+			Arrays.sort(samples, 0, sampleCount);
+			final var rank = (int) Math.ceil(0.95d * sampleCount) - 1;
+			return new RollupBucket(
+					resolution,
+					series,
+					index * resolution,
+					count,
+					sum,
+					(float) (sum / count),
+					min,
+					max,
+					samples[Math.max(0, rank)]);
+		}
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import java.util.Arrays;
+
+/**
+ * Reduce the point count of a series before display, keeping its visual shape.
+ */
+public class SeriesDecimator {
+
+	private SeriesDecimator() {
+	}
+
+	public enum Decimation {
+		/**
+		 * Keep all the points
+		 */
+		NONE,
+		/**
+		 * Min and max envelope, for signals: peaks are never lost
+		 */
+		MIN_MAX,
+		/**
+		 * Largest-Triangle-Three-Buckets, for smooth curves
+		 */
+		LTTB;
+
+		/**
+		 * @return sorted indexes, around two points by pixel column
+		 */
+		public int[] getIndexes(final double[] x, final double[] y, final int pixelColumns) {
+			return switch (this) {
+			case NONE -> allIndexes(y.length);
+			case MIN_MAX -> minMaxIndexes(y, pixelColumns);
+			case LTTB -> lttbIndexes(x, y, pixelColumns * 2);
+			};
+		}
+	}
+
+	/**
+	 * Split values in buckets by index, and keep the min and max point of each bucket, in index order.
+	 * First and last points are always kept. The first NaN of a bucket is also kept, so the gaps
+	 * in the series are still displayed.
+	 * @return all indexes if there are less than two values by bucket
+	 */
+	public static int[] minMaxIndexes(final double[] values, final int buckets) {
+		if (buckets < 1) {
+			throw new IllegalArgumentException("Invalid buckets count: " + buckets);
+		}
+		final var size = values.length;
+		if (size <= buckets * 2L + 2) {
+			return allIndexes(size);
+		}
+
+		final var result = new int[buckets * 3 + 2];
+		final var selected = new int[3];
+		var count = 0;
+		result[count++] = 0;
+		for (var bucket = 0; bucket < buckets; bucket++) {
+			final var from = (int) ((long) bucket * size / buckets);
+			final var to = (int) ((long) (bucket + 1) * size / buckets);
+
+			var posMin = -1;
+			var posMax = -1;
+			var posNaN = -1;
+			for (var pos = from; pos < to; pos++) {
+				final var value = values[pos];
+				if (Double.isNaN(value)) {
+					if (posNaN == -1) {
+						posNaN = pos;
+					}
+					continue;
+				}
+				if (posMin == -1 || value < values[posMin]) {
+					posMin = pos;
+				}
+				if (posMax == -1 || value > values[posMax]) {
+					posMax = pos;
+				}
+			}
+
+			var selectedCount = 0;
+			if (posMin > -1) {
+				selected[selectedCount++] = posMin;
+				selected[selectedCount++] = posMax;
+			}
+			if (posNaN > -1) {
+				selected[selectedCount++] = posNaN;
+			}
+			Arrays.sort(selected, 0, selectedCount);
+			for (var pos = 0; pos < selectedCount; pos++) {
+				if (selected[pos] > result[count - 1]) {
+					result[count++] = selected[pos];
+				}
+			}
+		}
+		if (result[count - 1] < size - 1) {
+			result[count++] = size - 1;
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Largest-Triangle-Three-Buckets: for each bucket, keep the point which makes the largest triangle
+	 * with the previous kept point and the average point of the next bucket.
+	 * First and last points are always kept.
+	 * @return all indexes if there are less values than threshold
+	 */
+	public static int[] lttbIndexes(final double[] x, final double[] y, final int threshold) {
+		if (threshold < 3) {
+			throw new IllegalArgumentException("Invalid threshold: " + threshold);
+		}
+		final var size = y.length;
+		if (size <= threshold) {
+			return allIndexes(size);
+		}
+
+		final var result = new int[threshold];
+		final var bucketSize = (double) (size - 2) / (threshold - 2);
+		var previous = 0;
+		for (var bucket = 0; bucket < threshold - 2; bucket++) {
+			final var from = (int) (bucket * bucketSize) + 1;
+			final var to = (int) ((bucket + 1) * bucketSize) + 1;
+			final var nextTo = Math.min(size, (int) ((bucket + 2) * bucketSize) + 1);
+
+			var averageX = 0d;
+			var averageY = 0d;
+			for (var pos = to; pos < nextTo; pos++) {
+				averageX += x[pos];
+				averageY += y[pos];
+			}
+			averageX /= nextTo - to;
+			averageY /= nextTo - to;
+
+			var selected = from;
+			var maxArea = -1d;
+			for (var pos = from; pos < to; pos++) {
+				final var area = Math.abs((x[previous] - averageX) * (y[pos] - y[previous])
+										  - (x[previous] - x[pos]) * (averageY - y[previous]));
+				if (area > maxArea) {
+					maxArea = area;
+					selected = pos;
+				}
+			}
+			result[bucket + 1] = selected;
+			previous = selected;
+		}
+		result[threshold - 1] = size - 1;
+		return result;
+	}
+
+	public static double[] select(final double[] values, final int[] indexes) {
+		final var result = new double[indexes.length];
+		for (var pos = 0; pos < indexes.length; pos++) {
+			result[pos] = values[indexes[pos]];
+		}
+		return result;
+	}
+
+	private static int[] allIndexes(final int size) {
+		final var result = new int[size];
+		Arrays.setAll(result, i -> i);
+		return result;
+	}
+
+}
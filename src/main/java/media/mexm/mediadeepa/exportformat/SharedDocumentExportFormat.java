@@ -0,0 +1,42 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * ExportFormat which works from an intermediate document, built once and shared between
+ * all the selected formats with the same shared document type.
+ */
+public interface SharedDocumentExportFormat<T> extends ExportFormat {
+
+	Class<T> getSharedDocumentType();
+
+	/**
+	 * The returned document must not be changed after, it can be read concurrently by several formats.
+	 */
+	T makeSharedDocument(DataResult result);
+
+	Map<String, File> exportResult(DataResult result, T sharedDocument);
+
+	@Override
+	default Map<String, File> exportResult(final DataResult result) {
+		return exportResult(result, makeSharedDocument(result));
+	}
+
+}
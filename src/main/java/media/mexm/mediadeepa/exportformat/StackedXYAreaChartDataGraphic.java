@@ -25,17 +25,20 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
 import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.XYSeries;
 
+import media.mexm.mediadeepa.exportformat.ChartData.ChartDataSeries;
+
 public class StackedXYAreaChartDataGraphic extends DataGraphic {
 
-	private final DefaultTableXYDataset dataset;
+	private final List<ChartDataSeries> chartDataSeries;
 	private final List<SeriesStyle> seriesStyles;
 
 	public StackedXYAreaChartDataGraphic(final RangeAxis rangeAxis) {
 		super(rangeAxis);
-		dataset = new DefaultTableXYDataset();
+		chartDataSeries = new ArrayList<>();
 		seriesStyles = new ArrayList<>();
 	}
 
@@ -50,18 +53,43 @@ public class StackedXYAreaChartDataGraphic extends DataGraphic {
 	}
 
 	public <T extends Number, U extends Number> void addSeries(final SeriesStyle style, final Map<T, U> values) {
-		final var series = new XYSeries(style.getName(), false, false);
-		values.keySet().stream().sorted().forEach(k -> series.add(k, values.get(k)));
-		dataset.addSeries(series);
+		final var keys = values.keySet().stream().sorted().toList();
+		final var x = new double[keys.size()];
+		final var y = new double[keys.size()];
+		for (var pos = 0; pos < keys.size(); pos++) {
+			x[pos] = keys.get(pos).doubleValue();
+			y[pos] = values.get(keys.get(pos)).doubleValue();
+		}
+		chartDataSeries.add(new ChartDataSeries(style, x, y));
 		seriesStyles.add(style);
 	}
 
 	@Override
-	protected ChartGraphicWrapper getChart() {
-		return new ChartGraphicWrapper(
-				rangeAxis.name(),
-				getSeriesStyle(),
-				ChartFactory.createStackedXYAreaChart("", "", "", dataset, VERTICAL, true, false, false));
+	protected List<ChartDataSeries> getChartDataSeries() {
+		return chartDataSeries;
+	}
+
+	@Override
+	protected boolean isTimeDomain() {
+		return false;
+	}
+
+	@Override
+	protected boolean isStacked() {
+		return true;
+	}
+
+	@Override
+	protected JFreeChart getChart(final ChartData data) {
+		final var dataset = new DefaultTableXYDataset();
+		data.series().forEach(s -> {
+			final var series = new XYSeries(s.style().getName(), false, false);
+			for (var pos = 0; pos < s.x().length; pos++) {
+				series.add(s.x()[pos], s.y()[pos]);
+			}
+			dataset.addSeries(series);
+		});
+		return ChartFactory.createStackedXYAreaChart("", "", "", dataset, VERTICAL, true, false, false);
 	}
 
 	@Override
@@ -38,10 +38,38 @@ public class TableDocument {
 
 	private final List<Table> tables;
 	private final NumberUtils numberUtils;
+	private final ExportFilter exportFilter;
+	private volatile boolean readOnly;
 
 	public TableDocument(final NumberUtils numberUtils) {
+		this(numberUtils, ExportFilter.NO_FILTER);
+	}
+
+	/**
+	 * The columns skipped by exportFilter will be ignored on cell adding.
+	 */
+	public TableDocument(final NumberUtils numberUtils, final ExportFilter exportFilter) {
 		tables = new ArrayList<>();
 		this.numberUtils = numberUtils;
+		this.exportFilter = Objects.requireNonNull(exportFilter, "\"exportFilter\" can't to be null");
+	}
+
+	/**
+	 * After that, this document can be safely shared and read by several exporters.
+	 */
+	public TableDocument setReadOnly() {
+		readOnly = true;
+		return this;
+	}
+
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	private void checkWritable() {
+		if (readOnly) {
+			throw new IllegalStateException("This table document is read only");
+		}
 	}
 
 	public class Table {
@@ -49,6 +77,8 @@ public class TableDocument {
 		@Getter
 		private final String tableName;
 		private List<String> header;
+		private int columnCount;
+		private boolean[] skippedColumns;
 		private final List<Row> rows;
 		private final List<Class<? extends TableCell>> rowTypes;
 
@@ -63,16 +93,21 @@ public class TableDocument {
 		}
 
 		public Table head(final List<String> header) {
-			this.header = Objects.requireNonNull(header, "\"header\" can't to be null");
+			checkWritable();
+			Objects.requireNonNull(header, "\"header\" can't to be null");
 			if (header.isEmpty()) {
 				throw new IllegalArgumentException("Empty header");
 			}
+			columnCount = header.size();
+			skippedColumns = exportFilter.getSkippedColumns(tableName, header).orElse(null);
+			this.header = ExportFilter.getKeptHeader(header, skippedColumns);
 			return this;
 		}
 
 		public class Row {
 
 			private final List<TableCell> cells;
+			private int posColumn;
 
 			private Row() {
 				cells = new ArrayList<>();
@@ -82,14 +117,23 @@ public class TableDocument {
 				return cells.isEmpty();
 			}
 
-			private void checkFull() {
-				if (cells.size() == header.size()) {
-					throw new IllegalStateException("Can't add new item in row. Table size=" + header.size());
+			/**
+			 * @return false if the next column is skipped by the export filter: ignore its value
+			 */
+			private boolean nextColumn() {
+				checkWritable();
+				if (posColumn == columnCount) {
+					throw new IllegalStateException("Can't add new item in row. Table size=" + columnCount);
 				}
+				final var kept = skippedColumns == null || skippedColumns[posColumn] == false;
+				posColumn++;
+				return kept;
 			}
 
 			public Row addCell(final String value) {
-				checkFull();
+				if (nextColumn() == false) {
+					return this;
+				}
 				if (value == null) {
 					cells.add(TableCellNull.INSTANCE);
 				} else {
@@ -101,6 +145,9 @@ public class TableDocument {
 
 			public Row addOptionalToString(final Object value) {
 				if (value == null) {
+					if (nextColumn() == false) {
+						return this;
+					}
 					cells.add(TableCellNull.INSTANCE);
 					importCellType(TableCellString.class);
 				} else {
@@ -110,7 +157,9 @@ public class TableDocument {
 			}
 
 			public Row addCell(final Number value) {
-				checkFull();
+				if (nextColumn() == false) {
+					return this;
+				}
 				if (value == null) {
 					cells.add(TableCellNull.INSTANCE);
 					importCellType(TableCellFloat.class);
@@ -139,7 +188,9 @@ public class TableDocument {
 			}
 
 			public Row addCell(final Duration value) {
-				checkFull();
+				if (nextColumn() == false) {
+					return this;
+				}
 				if (value == null) {
 					cells.add(TableCellNull.INSTANCE);
 				} else {
@@ -162,6 +213,7 @@ public class TableDocument {
 		}
 
 		public Row addRow() {
+			checkWritable();
 			final var l = new Row();
 			rows.add(l);
 			return l;
@@ -185,6 +237,7 @@ public class TableDocument {
 	}
 
 	public Table createTable(final String tableName) {
+		checkWritable();
 		final var t = new Table(tableName);
 		tables.add(t);
 		return t;
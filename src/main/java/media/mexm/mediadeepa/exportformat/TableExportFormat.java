@@ -16,22 +16,18 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
-import static media.mexm.mediadeepa.ImpExArchiveExtractionSession.TEN_MB;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER_ANALYSIS;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANALYSIS;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 
 import lombok.extern.slf4j.Slf4j;
@@ -41,7 +37,7 @@ import media.mexm.mediadeepa.exportformat.TableDocument.Table;
 import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
 
 @Slf4j
-public abstract class TableExportFormat implements ExportFormat {
+public abstract class TableExportFormat implements SharedDocumentExportFormat<TableDocument> {
 
 	protected final List<TableRendererEngine> engines;
 	protected final NumberUtils numberUtils;
@@ -62,38 +58,65 @@ public abstract class TableExportFormat implements ExportFormat {
 
 	public abstract String getInternalFileName();
 
+	/**
+	 * Override it for text documents, to produce a gzip file if the output compression is enabled.
+	 */
+	protected boolean isCompressibleDocument() {
+		return false;
+	}
+
 	public abstract void makeDocument(DataResult result,
 									  List<Table> tables,
 									  OutputStream outputStream);
 
 	@Override
-	public Map<String, File> exportResult(final DataResult result) {
-		final var tableDocument = new TableDocument(numberUtils);
+	public Class<TableDocument> getSharedDocumentType() {
+		return TableDocument.class;
+	}
+
+	@Override
+	public TableDocument makeSharedDocument(final DataResult result) {
+		final var tableDocument = new TableDocument(numberUtils, result.getExportFilter());
 		engines.forEach(en -> en.addToTable(result, tableDocument));
+		return tableDocument.setReadOnly();
+	}
 
-		final var outputFile = outputFileSupplier.makeOutputFile(result, getInternalFileName());
-		log.debug("Start export {} tables to {}...", tableDocument.getTables().size(), outputFile);
+	@Override
+	public Map<String, File> exportResult(final DataResult result, final TableDocument tableDocument) {
+		final File outputFile;
+		if (isCompressibleDocument()) {
+			outputFile = outputFileSupplier.makeCompressibleOutputFile(result, getInternalFileName());
+		} else {
+			outputFile = outputFileSupplier.makeOutputFile(result, getInternalFileName());
+		}
+		final var tables = tableDocument.getTables();
+		log.debug("Start export {} tables to {}...", tables.size(), outputFile);
+		makeDocument(result, tables, outputFile);
+		return Map.of("tables", outputFile);
+	}
 
-		try (var outputStream = new BufferedOutputStream(new FileOutputStream(outputFile), 0XFFFFFF)) {
-			makeDocument(result, tableDocument.getTables(), outputStream);
+	/**
+	 * Override it if the document can be directly created on the output file.
+	 */
+	protected void makeDocument(final DataResult result,
+								final List<Table> tables,
+								final File outputFile) {
+		try (var outputStream = new BufferedOutputStream(
+				outputFileSupplier.openOutputStream(result, outputFile), 0XFFFFFF)) {
+			makeDocument(result, tables, outputStream);
 		} catch (final FileNotFoundException e) {
 			throw new UncheckedIOException("Can't create file", e);
 		} catch (final IOException e1) {
 			throw new UncheckedIOException("Can't close stream file", e1);
 		}
-
-		return Map.of("tables", outputFile);
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
-		final var tableDocument = new TableDocument(numberUtils);
-		engines.forEach(en -> en.addToTable(result, tableDocument));
-
-		final var bias = new ByteArrayOutputStream(TEN_MB);
-		makeDocument(result, tableDocument.getTables(), bias);
-		return Optional.ofNullable(bias.toByteArray());
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
+		makeDocument(result, makeSharedDocument(result).getTables(), outputStream);
+		return true;
 	}
 
 	@Override
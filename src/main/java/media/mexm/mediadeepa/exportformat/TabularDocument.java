@@ -19,38 +19,50 @@ package media.mexm.mediadeepa.exportformat;
 import static java.lang.Float.NEGATIVE_INFINITY;
 import static java.lang.Float.POSITIVE_INFINITY;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
-
 import lombok.extern.slf4j.Slf4j;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 
 /**
- * Manage structured header/cols/row document
+ * Manage structured header/cols/row document.
+ * Values are kept as typed values (not yet formatted), so the same document can be exported
+ * by any TabularDocumentExporter: number and duration formatting is done on export.
  */
 @Slf4j
 public class TabularDocument {
-	private final List<List<String>> lines;
+	private final List<List<Object>> lines;
 	private List<String> header;
-	private final TabularDocumentExporter exporter;
+	private boolean[] skippedColumns;
 	private final String baseFileName;
 
-	public TabularDocument(final TabularDocumentExporter exporter, final String baseFileName) {
-		this.exporter = Objects.requireNonNull(exporter);
+	public TabularDocument(final String baseFileName) {
 		this.baseFileName = Objects.requireNonNull(baseFileName, "\"baseFileName\" can't to be null");
 		lines = new ArrayList<>();
 		header = List.of();
 	}
 
+	/**
+	 * A float value to format with TabularDocumentExporter.formatNumberLowPrecision
+	 */
+	public record LowPrecisionValue(float value) {
+	}
+
+	public static LowPrecisionValue lowPrecision(final float value) {
+		return new LowPrecisionValue(value);
+	}
+
 	public TabularDocument head(final List<String> header) {
 		this.header = Objects.requireNonNull(header, "\"header\" can't to be null");
 		if (header.isEmpty()) {
@@ -59,10 +71,25 @@ public class TabularDocument {
 		return this;
 	}
 
+	/**
+	 * Don't export the columns skipped by exportFilter. Call it after head.
+	 */
+	public TabularDocument applyExportFilter(final ExportFilter exportFilter) {
+		skippedColumns = exportFilter.getSkippedColumns(baseFileName, header).orElse(null);
+		return this;
+	}
+
 	public void row(final List<String> item) {
 		if (item == null || item.isEmpty()) {
 			return;
-		} else if (header.size() != item.size()) {
+		}
+		addLine(item.stream()
+				.map(TabularDocument::toNeutralValue)
+				.toList());
+	}
+
+	private void addLine(final List<Object> item) {
+		if (header.size() != item.size()) {
 			throw new IllegalArgumentException(
 					"Invalid item count (" + item.size() + "), header count is " + header.size() + ". Idem=" + item);
 		}
@@ -70,55 +97,120 @@ public class TabularDocument {
 	}
 
 	public TabularDocument row(final Object... item) {
-		row(Optional.ofNullable(item).stream()
+		final var line = Optional.ofNullable(item).stream()
 				.flatMap(Stream::of)
-				.map(o -> {
-					if (o == null) {
-						return "";
-					} else if (o instanceof final String str) {
-						return str;
-					} else if (o instanceof final Duration d) {
-						return exporter.getNumberUtils().durationToString(d);
-					} else if (o instanceof final Float oF) {
-						if (oF.isNaN()) {
-							return "";
-						} else if (oF == NEGATIVE_INFINITY) {
-							return "-144";
-						} else if (oF == POSITIVE_INFINITY) {
-							return "144";
-						}
-						return exporter.formatNumberHighPrecision(oF);
-					} else if (o instanceof Number) {
-						return String.valueOf(o);
-					} else {
-						return o.toString();
-					}
-				})
-				.toList());
+				.map(TabularDocument::toNeutralValue)
+				.toList();
+		if (line.isEmpty() == false) {
+			addLine(line);
+		}
 		return this;
 	}
 
-	public Optional<File> exportToFile(final OutputFileSupplier outputFileSupplier, final DataResult result) {
-		return exportToBytes()
-				.map(bytes -> {
-					final var outfile = outputFileSupplier.makeOutputFile(
-							result,
-							baseFileName + "." + exporter.getDocumentFileExtension());
-					try {
-						FileUtils.writeByteArrayToFile(outfile, bytes);
-						return outfile;
-					} catch (final IOException e) {
-						throw new UncheckedIOException("Can't write file", e);
+	/**
+	 * @return String, Float, LowPrecisionValue or Duration
+	 */
+	private static Object toNeutralValue(final Object o) {
+		if (o == null) {
+			return "";
+		} else if (o instanceof String
+				   || o instanceof Duration
+				   || o instanceof LowPrecisionValue) {
+			return o;
+		} else if (o instanceof final Float oF) {
+			if (oF.isNaN()) {
+				return "";
+			} else if (oF == NEGATIVE_INFINITY) {
+				return "-144";
+			} else if (oF == POSITIVE_INFINITY) {
+				return "144";
+			}
+			return oF;
+		} else if (o instanceof Number) {
+			return String.valueOf(o);
+		} else {
+			return o.toString();
+		}
+	}
+
+	private static String formatValue(final Object value, final TabularDocumentExporter exporter) {
+		if (value instanceof final String str) {
+			return str;
+		} else if (value instanceof final Float f) {
+			return exporter.formatNumberHighPrecision(f);
+		} else if (value instanceof final LowPrecisionValue lowPrecisionValue) {
+			return exporter.formatNumberLowPrecision(lowPrecisionValue.value());
+		} else if (value instanceof final Duration d) {
+			return exporter.getNumberUtils().durationToString(d);
+		}
+		return String.valueOf(value);
+	}
+
+	/**
+	 * Formatted lines view, formatted on the fly, one line on each get().
+	 */
+	private List<List<String>> getFormattedLines(final TabularDocumentExporter exporter) {
+		return new AbstractList<>() {
+
+			@Override
+			public List<String> get(final int index) {
+				final var line = lines.get(index);
+				final var formatted = new ArrayList<String>(line.size());
+				for (var pos = 0; pos < line.size(); pos++) {
+					if (skippedColumns == null || skippedColumns[pos] == false) {
+						formatted.add(formatValue(line.get(pos), exporter));
 					}
-				});
+				}
+				return formatted;
+			}
+
+			@Override
+			public int size() {
+				return lines.size();
+			}
+		};
+	}
+
+	private List<String> getExportedHeader() {
+		return ExportFilter.getKeptHeader(header, skippedColumns);
+	}
+
+	public Optional<File> exportToFile(final TabularDocumentExporter exporter,
+									   final OutputFileSupplier outputFileSupplier,
+									   final DataResult result) {
+		if (lines.isEmpty()) {
+			log.trace("Nothing to export for {}", baseFileName);
+			return Optional.empty();
+		}
+		final var outfile = outputFileSupplier.makeCompressibleOutputFile(
+				result,
+				baseFileName + "." + exporter.getDocumentFileExtension());
+		try (var outputStream = new BufferedOutputStream(outputFileSupplier.openOutputStream(result, outfile))) {
+			exporter.writeDocument(getExportedHeader(), getFormattedLines(exporter), outputStream);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write file", e);
+		}
+		return Optional.ofNullable(outfile);
 	}
 
-	public Optional<byte[]> exportToBytes() {
+	public Optional<byte[]> exportToBytes(final TabularDocumentExporter exporter) {
 		if (lines.isEmpty()) {
 			log.trace("Nothing to export for {}", baseFileName);
 			return Optional.empty();
 		}
-		return Optional.ofNullable(exporter.getDocument(header, lines));
+		return Optional.ofNullable(exporter.getDocument(getExportedHeader(), getFormattedLines(exporter)));
+	}
+
+	/**
+	 * @return false if nothing to write
+	 */
+	public boolean exportToStream(final TabularDocumentExporter exporter, final OutputStream outputStream) {
+		if (lines.isEmpty()) {
+			log.trace("Nothing to export for {}", baseFileName);
+			return false;
+		}
+		exporter.writeDocument(getExportedHeader(), getFormattedLines(exporter), outputStream);
+		return true;
 	}
 
 }
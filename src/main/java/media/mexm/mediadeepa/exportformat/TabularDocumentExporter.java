@@ -16,13 +16,21 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 import media.mexm.mediadeepa.components.NumberUtils;
 
 public interface TabularDocumentExporter {
 
-	byte[] getDocument(List<String> header, List<List<String>> lines);
+	void writeDocument(List<String> header, List<List<String>> lines, OutputStream outputStream);
+
+	default byte[] getDocument(final List<String> header, final List<List<String>> lines) {
+		final var outputStream = new ByteArrayOutputStream();
+		writeDocument(header, lines, outputStream);
+		return outputStream.toByteArray();
+	}
 
 	String getDocumentFileExtension();
 
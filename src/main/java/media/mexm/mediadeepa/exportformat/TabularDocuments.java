@@ -0,0 +1,31 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * All the TabularDocuments produced by the engines for a result, shared by all tabular export formats.
+ */
+public record TabularDocuments(List<TabularDocument> documents) {
+
+	public TabularDocuments {
+		documents = List.copyOf(Objects.requireNonNull(documents, "\"documents\" can't to be null"));
+	}
+
+}
@@ -16,7 +16,6 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER_ANALYSIS;
@@ -24,6 +23,7 @@ import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANA
 import static org.apache.commons.io.FilenameUtils.getBaseName;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,7 +33,9 @@ import java.util.Set;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.rendererengine.TabularRendererEngine;
 
-public abstract class TabularExportFormat implements ExportFormat, TabularDocumentExporter {
+public abstract class TabularExportFormat implements
+										  SharedDocumentExportFormat<TabularDocuments>,
+										  TabularDocumentExporter {
 
 	protected final List<TabularRendererEngine> engines;
 	protected final OutputFileSupplier outputFileSupplier;
@@ -60,23 +62,37 @@ public abstract class TabularExportFormat implements ExportFormat, TabularDocume
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
 		final var internalBaseFileName = getBaseName(internalFileName);
 		return engines.stream()
 				.filter(en -> en.getInternalTabularBaseFileNames().contains(internalBaseFileName))
 				.findFirst()
-				.map(en -> en.toSingleTabularDocument(internalBaseFileName, result, this))
-				.flatMap(identity())
-				.flatMap(TabularDocument::exportToBytes);
+				.flatMap(en -> en.toSingleTabularDocument(internalBaseFileName, result))
+				.map(tabular -> tabular.exportToStream(this, outputStream))
+				.orElse(false);
 	}
 
 	@Override
-	public Map<String, File> exportResult(final DataResult result) {
-		return engines.stream()
-				.map(en -> en.toTabularDocument(result, this))
+	public Class<TabularDocuments> getSharedDocumentType() {
+		return TabularDocuments.class;
+	}
+
+	@Override
+	public TabularDocuments makeSharedDocument(final DataResult result) {
+		return new TabularDocuments(engines.stream()
+				.map(en -> en.toTabularDocument(result))
 				.flatMap(List::stream)
-				.map(tabular -> tabular.exportToFile(outputFileSupplier, result))
+				.map(tabular -> tabular.applyExportFilter(result.getExportFilter()))
+				.toList());
+	}
+
+	@Override
+	public Map<String, File> exportResult(final DataResult result, final TabularDocuments tabularDocuments) {
+		return tabularDocuments.documents()
+				.stream()
+				.map(tabular -> tabular.exportToFile(this, outputFileSupplier, result))
 				.flatMap(Optional::stream)
 				.collect(toUnmodifiableMap(f -> getBaseName(f.getName()), f -> f));
 	}
@@ -16,16 +16,18 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.select;
+
 import java.awt.Paint;
 import java.awt.Stroke;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
 import org.jfree.data.general.SeriesException;
 import org.jfree.data.time.FixedMillisecond;
 import org.jfree.data.time.TimeSeries;
@@ -34,6 +36,7 @@ import org.jfree.data.time.TimeSeriesCollection;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
+import media.mexm.mediadeepa.exportformat.ChartData.ChartDataSeries;
 
 @Slf4j
 public class TimedDataGraphic extends DataGraphic {
@@ -126,34 +129,60 @@ public class TimedDataGraphic extends DataGraphic {
 			}
 		}
 
-		private TimeSeries getTimeSeries() {
-			final var ts = new TimeSeries(getName());
-			IntStream.range(0, datas.size())
-					.forEach(pos -> {
-						final var valuePos = positions.get(pos);
-						final var data = datas.get(pos);
-						try {
-							ts.add(valuePos, data);
-						} catch (final SeriesException se) {
-							log.warn("Duplicate values added on \"{}\": {} was previouly set. New value ignored: {}.",
-									getName(), valuePos.getSerialIndex(), data);
-						}
-					});
-			return ts;
+		private ChartDataSeries toChartDataSeries() {
+			final var x = new double[datas.size()];
+			final var y = new double[datas.size()];
+			for (var pos = 0; pos < datas.size(); pos++) {
+				x[pos] = positions.get(pos).getFirstMillisecond();
+				y[pos] = datas.get(pos);
+			}
+			final var indexes = decimate(x, y);
+			return new ChartDataSeries(this, select(x, indexes), select(y, indexes));
+		}
+
+	}
+
+	private static TimeSeries getTimeSeries(final ChartDataSeries dataSeries) {
+		final var name = dataSeries.style().getName();
+		final var ts = new TimeSeries(name);
+		final var x = dataSeries.x();
+		final var y = dataSeries.y();
+		for (var pos = 0; pos < x.length; pos++) {
+			final var valuePos = new FixedMillisecond((long) x[pos]);
+			try {
+				ts.add(valuePos, y[pos], false);
+			} catch (final SeriesException se) {
+				log.warn("Duplicate values added on \"{}\": {} was previouly set. New value ignored: {}.",
+						name, valuePos.getSerialIndex(), y[pos]);
+			}
 		}
+		return ts;
+	}
+
+	@Override
+	protected List<ChartDataSeries> getChartDataSeries() {
+		return series.stream()
+				.map(Series::toChartDataSeries)
+				.toList();
+	}
 
+	@Override
+	protected boolean isTimeDomain() {
+		return true;
+	}
+
+	@Override
+	protected boolean isStacked() {
+		return false;
 	}
 
 	@Override
-	protected ChartGraphicWrapper getChart() {
+	protected JFreeChart getChart(final ChartData data) {
 		final var tsc = new TimeSeriesCollection();
-		series.stream()
-				.map(Series::getTimeSeries)
+		data.series().stream()
+				.map(TimedDataGraphic::getTimeSeries)
 				.forEach(tsc::addSeries);
-		return new ChartGraphicWrapper(
-				rangeAxis.name(),
-				getSeriesStyle(),
-				ChartFactory.createTimeSeriesChart("", "", "", tsc, true, false, false));
+		return ChartFactory.createTimeSeriesChart("", "", "", tsc, true, false, false);
 	}
 
 	@Override
@@ -0,0 +1,214 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.awt.Color.BLACK;
+import static java.awt.RenderingHints.KEY_TEXT_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_TEXT_ANTIALIAS_ON;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static media.mexm.mediadeepa.exportformat.Java2DChartRenderer.adjustedLog10;
+import static media.mexm.mediadeepa.exportformat.Java2DChartRenderer.makeTimeTicks;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+/**
+ * Draw a mono audio waveform (peak and RMS envelopes) straight to a BufferedImage, one column by pixel,
+ * with the same look as the previous JFreeChart rendering: positive/negative areas around the center line,
+ * on a "adjusted log10" scale from -1 to 1, and a time axis.
+ */
+public class WaveformImageRenderer {
+
+	public static final Color RMS_COLOR = new Color(128, 180, 128);
+	public static final Color PEAK_COLOR = new Color(128, 160, 128);
+	public static final Color FONT_MARK_COLOR = new Color(64, 64, 64);
+
+	private static final Font TICK_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 20);
+	private static final int PADDING = 4;
+	private static final int TICK_LENGTH = 4;
+	private static final double FULL_SCALE = adjustedLog10(1d);
+
+	private WaveformImageRenderer() {
+	}
+
+	/**
+	 * @param peakNegative positive values, drawn under the center line
+	 * @param rmsNegative positive values, drawn under the center line
+	 */
+	public record Waveform(double[] positionsSec,
+						   double[] peakPositive,
+						   double[] peakNegative,
+						   double[] rmsPositive,
+						   double[] rmsNegative) {
+
+		public Waveform {
+			final var size = positionsSec.length;
+			if (peakPositive.length != size
+				|| peakNegative.length != size
+				|| rmsPositive.length != size
+				|| rmsNegative.length != size) {
+				throw new IllegalArgumentException("All waveform arrays must have the same size: " + size);
+			}
+		}
+
+		public int size() {
+			return positionsSec.length;
+		}
+
+	}
+
+	public static BufferedImage render(final Waveform waveform, final Dimension imageSize) {
+		Objects.requireNonNull(waveform, "\"waveform\" can't to be null");
+		Objects.requireNonNull(imageSize, "\"imageSize\" can't to be null");
+
+		final var image = new BufferedImage(imageSize.width, imageSize.height, TYPE_INT_RGB);
+		final var g = image.createGraphics();
+		try {
+			g.setColor(BLACK);
+			g.fillRect(0, 0, imageSize.width, imageSize.height);
+			draw(g, waveform, imageSize);
+		} finally {
+			g.dispose();
+		}
+		return image;
+	}
+
+	private static void draw(final Graphics2D g, final Waveform waveform, final Dimension imageSize) {
+		final var tickMetrics = g.getFontMetrics(TICK_FONT);
+		final var plot = new Rectangle(
+				PADDING,
+				PADDING,
+				Math.max(1, imageSize.width - PADDING * 2),
+				Math.max(2, imageSize.height - PADDING * 3 - TICK_LENGTH - tickMetrics.getHeight()));
+
+		if (waveform.size() > 0) {
+			final var domainMin = waveform.positionsSec()[0];
+			final var domainMax = Math.max(domainMin, waveform.positionsSec()[waveform.size() - 1]);
+			final var peakPositive = toColumns(waveform.positionsSec(), waveform.peakPositive(), plot.width);
+			final var peakNegative = toColumns(waveform.positionsSec(), waveform.peakNegative(), plot.width);
+			final var rmsPositive = toColumns(waveform.positionsSec(), waveform.rmsPositive(), plot.width);
+			final var rmsNegative = toColumns(waveform.positionsSec(), waveform.rmsNegative(), plot.width);
+
+			final var center = plot.y + plot.height / 2;
+			final var halfHeight = plot.height / 2;
+			for (var column = 0; column < plot.width; column++) {
+				final var x = plot.x + column;
+				final var peakTop = toPixels(peakPositive[column], halfHeight);
+				final var peakBottom = toPixels(peakNegative[column], halfHeight);
+				g.setColor(PEAK_COLOR);
+				g.fillRect(x, center - peakTop, 1, peakTop + peakBottom + 1);
+
+				final var rmsTop = Math.min(peakTop, toPixels(rmsPositive[column], halfHeight));
+				final var rmsBottom = Math.min(peakBottom, toPixels(rmsNegative[column], halfHeight));
+				g.setColor(RMS_COLOR);
+				g.fillRect(x, center - rmsTop, 1, rmsTop + rmsBottom + 1);
+			}
+
+			drawTimeAxis(g, plot, domainMin * 1000d, domainMax * 1000d, tickMetrics);
+		}
+
+		g.setColor(FONT_MARK_COLOR);
+		g.drawRect(plot.x, plot.y, plot.width, plot.height);
+	}
+
+	private static void drawTimeAxis(final Graphics2D g,
+									 final Rectangle plot,
+									 final double fromMs,
+									 final double toMs,
+									 final FontMetrics tickMetrics) {
+		if (toMs <= fromMs) {
+			return;
+		}
+		g.setRenderingHint(KEY_TEXT_ANTIALIASING, VALUE_TEXT_ANTIALIAS_ON);
+		g.setFont(TICK_FONT);
+		g.setColor(FONT_MARK_COLOR);
+		final var ticks = makeTimeTicks(new double[] { fromMs, toMs }, Math.max(2, plot.width / 250));
+		final var bottom = plot.y + plot.height;
+		final var scale = plot.width / (toMs - fromMs);
+		for (var pos = 0; pos < ticks.positions().size(); pos++) {
+			final var x = plot.x + (int) Math.round((ticks.positions().get(pos) - fromMs) * scale);
+			final var label = ticks.labels().get(pos);
+			final var labelWidth = tickMetrics.stringWidth(label);
+			g.drawLine(x, bottom, x, bottom + TICK_LENGTH);
+			g.drawString(label,
+					Math.max(0, Math.min(plot.x + plot.width - labelWidth, x - labelWidth / 2)),
+					bottom + TICK_LENGTH + tickMetrics.getAscent());
+		}
+	}
+
+	/**
+	 * @return for each pixel column, the max value of the entries on this column,
+	 *         linearly interpolated for columns without entries (less entries than columns)
+	 */
+	static double[] toColumns(final double[] positions, final double[] values, final int columns) {
+		final var result = new double[columns];
+		final var filled = new boolean[columns];
+		final var size = positions.length;
+		if (size == 0) {
+			return result;
+		}
+		final var from = positions[0];
+		final var span = positions[size - 1] - from;
+
+		for (var pos = 0; pos < size; pos++) {
+			final var value = values[pos];
+			if (Double.isFinite(value) == false) {
+				continue;
+			}
+			var column = 0;
+			if (span > 0d) {
+				column = (int) Math.round((positions[pos] - from) / span * (columns - 1));
+				column = Math.max(0, Math.min(columns - 1, column));
+			}
+			if (filled[column] == false || value > result[column]) {
+				result[column] = value;
+				filled[column] = true;
+			}
+		}
+
+		var previous = -1;
+		for (var column = 0; column < columns; column++) {
+			if (filled[column] == false) {
+				continue;
+			}
+			if (previous >= 0 && column - previous > 1) {
+				final var fromValue = result[previous];
+				final var toValue = result[column];
+				for (var gap = previous + 1; gap < column; gap++) {
+					result[gap] = fromValue + (toValue - fromValue) * (gap - previous) / (column - previous);
+				}
+			}
+			previous = column;
+		}
+		return result;
+	}
+
+	/**
+	 * @return the height in pixels for an absolute sample level (0 to 1), on the adjusted log10 scale
+	 */
+	static int toPixels(final double level, final int halfHeight) {
+		final var scaled = adjustedLog10(Math.min(1d, Math.abs(level))) / FULL_SCALE;
+		return (int) Math.round(scaled * halfHeight);
+	}
+
+}
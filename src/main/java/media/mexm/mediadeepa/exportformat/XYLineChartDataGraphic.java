@@ -16,6 +16,7 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.select;
 import static org.jfree.chart.plot.PlotOrientation.VERTICAL;
 
 import java.util.ArrayList;
@@ -23,25 +24,28 @@ import java.util.List;
 import java.util.stream.IntStream;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
 import org.jfree.data.xy.DefaultXYDataset;
 
+import media.mexm.mediadeepa.exportformat.ChartData.ChartDataSeries;
+
 public class XYLineChartDataGraphic extends DataGraphic {
 
 	protected final double[] xValues;
-	protected final DefaultXYDataset dataset;
+	private final List<double[]> seriesValues;
 	private final List<SeriesStyle> seriesStyles;
 
 	public XYLineChartDataGraphic(final RangeAxis rangeAxis,
 								  final int xSize) {
 		super(rangeAxis);
 		xValues = new double[xSize];
-		dataset = new DefaultXYDataset();
+		seriesValues = new ArrayList<>();
 		seriesStyles = new ArrayList<>();
 		IntStream.range(0, xSize).parallel().forEach(i -> xValues[i] = i);
 	}
 
 	public void addSeries(final SeriesStyle style, final double[] values) {
-		dataset.addSeries(style.getName(), new double[][] { xValues, values });
+		seriesValues.add(values);
 		seriesStyles.add(style);
 	}
 
@@ -51,11 +55,32 @@ public class XYLineChartDataGraphic extends DataGraphic {
 	}
 
 	@Override
-	protected ChartGraphicWrapper getChart() {
-		return new ChartGraphicWrapper(
-				rangeAxis.name(),
-				getSeriesStyle(),
-				ChartFactory.createXYLineChart("", "", "", dataset, VERTICAL, true, false, false));
+	protected List<ChartDataSeries> getChartDataSeries() {
+		final var result = new ArrayList<ChartDataSeries>(seriesValues.size());
+		for (var pos = 0; pos < seriesValues.size(); pos++) {
+			final var values = seriesValues.get(pos);
+			final var indexes = decimate(xValues, values);
+			result.add(new ChartDataSeries(seriesStyles.get(pos), select(xValues, indexes), select(values, indexes)));
+		}
+		return result;
+	}
+
+	@Override
+	protected boolean isTimeDomain() {
+		return false;
+	}
+
+	@Override
+	protected boolean isStacked() {
+		return false;
+	}
+
+	@Override
+	protected JFreeChart getChart(final ChartData data) {
+		final var dataset = new DefaultXYDataset();
+		data.series()
+				.forEach(s -> dataset.addSeries(s.style().getName(), new double[][] { s.x(), s.y() }));
+		return ChartFactory.createXYLineChart("", "", "", dataset, VERTICAL, true, false, false);
 	}
 
 }
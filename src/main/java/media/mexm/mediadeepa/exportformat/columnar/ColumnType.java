@@ -0,0 +1,77 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.columnar;
+
+import java.util.stream.Stream;
+
+import media.mexm.mediadeepa.exportformat.TableCell;
+import media.mexm.mediadeepa.exportformat.TableCellFloat;
+import media.mexm.mediadeepa.exportformat.TableCellInteger;
+import media.mexm.mediadeepa.exportformat.TableCellLong;
+import media.mexm.mediadeepa.exportformat.TableCellString;
+
+public enum ColumnType {
+
+	STRING(1, 0),
+	FLOAT(2, 4),
+	LONG(3, 8),
+	INTEGER(4, 4),
+	/**
+	 * Only for mixed FLOAT and LONG/INTEGER columns, without loss for integers up to 2^53
+	 */
+	DOUBLE(5, 8);
+
+	private final int id;
+	private final int valueSize;
+
+	ColumnType(final int id, final int valueSize) {
+		this.id = id;
+		this.valueSize = valueSize;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	/**
+	 * @return 0 for variable size values
+	 */
+	public int getValueSize() {
+		return valueSize;
+	}
+
+	public static ColumnType fromId(final int id) {
+		return Stream.of(values())
+				.filter(t -> t.id == id)
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Unknown column type id: " + id));
+	}
+
+	public static ColumnType fromTableCellType(final Class<? extends TableCell> type) {
+		if (type == TableCellString.class) {
+			return STRING;
+		} else if (type == TableCellFloat.class) {
+			return FLOAT;
+		} else if (type == TableCellLong.class) {
+			return LONG;
+		} else if (type == TableCellInteger.class) {
+			return INTEGER;
+		}
+		throw new IllegalArgumentException("Can't manage type " + type);
+	}
+
+}
@@ -0,0 +1,216 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.columnar;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static media.mexm.mediadeepa.exportformat.columnar.ColumnarWriter.DEFLATE_COMPRESSION;
+import static media.mexm.mediadeepa.exportformat.columnar.ColumnarWriter.MAGIC;
+import static media.mexm.mediadeepa.exportformat.columnar.ColumnarWriter.NO_COMPRESSION;
+import static media.mexm.mediadeepa.exportformat.columnar.ColumnarWriter.VERSION;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read back a ColumnarWriter produced file. See ColumnarWriter for the file layout.
+ */
+public class ColumnarReader {
+
+	private ColumnarReader() {
+	}
+
+	public record ColumnarTable(String name, int rowCount, List<Column> columns) {
+
+		public Column getColumn(final String name) {
+			return columns.stream()
+					.filter(c -> c.name().equals(name))
+					.findFirst()
+					.orElseThrow(() -> new IllegalArgumentException("Can't found column " + name));
+		}
+
+	}
+
+	/**
+	 * @param values null for null cells, else String, Float, Long or Integer, by type
+	 */
+	public record Column(String name, ColumnType type, List<Object> values, List<ChunkStatistics> chunkStatistics) {
+	}
+
+	/**
+	 * @param min null if no statistics are available for this chunk
+	 * @param max null if no statistics are available for this chunk
+	 */
+	public record ChunkStatistics(int rowCount, int nullCount, Number min, Number max) {
+	}
+
+	/**
+	 * Don't close inputStream here.
+	 */
+	public static List<ColumnarTable> read(final InputStream inputStream) throws IOException {
+		final var in = new DataInputStream(inputStream);
+		final var magic = new byte[MAGIC.length];
+		in.readFully(magic);
+		if (Arrays.equals(MAGIC, magic) == false) {
+			throw new IOException("Invalid columnar file, bad magic");
+		}
+		final var version = readInt(in);
+		if (version != VERSION) {
+			throw new IOException("Unsupported columnar file version: " + version);
+		}
+
+		final var tableCount = readInt(in);
+		final var tables = new ArrayList<ColumnarTable>(tableCount);
+		final var inflater = new Inflater();
+		try {
+			for (var pos = 0; pos < tableCount; pos++) {
+				tables.add(readTable(in, inflater));
+			}
+		} finally {
+			inflater.end();
+		}
+		return Collections.unmodifiableList(tables);
+	}
+
+	private static ColumnarTable readTable(final DataInputStream in, final Inflater inflater) throws IOException {
+		final var name = readString(in);
+		final var rowCount = readInt(in);
+		final var chunkMaxRows = readInt(in);
+		final var columnCount = readInt(in);
+
+		final var columnNames = new String[columnCount];
+		final var columnTypes = new ColumnType[columnCount];
+		final var columnValues = new ArrayList<List<Object>>(columnCount);
+		final var columnStatistics = new ArrayList<List<ChunkStatistics>>(columnCount);
+		for (var pos = 0; pos < columnCount; pos++) {
+			columnNames[pos] = readString(in);
+			columnTypes[pos] = ColumnType.fromId(in.readUnsignedByte());
+			columnValues.add(new ArrayList<>(rowCount));
+			columnStatistics.add(new ArrayList<>());
+		}
+
+		for (var fromRow = 0; fromRow < rowCount; fromRow += chunkMaxRows) {
+			for (var pos = 0; pos < columnCount; pos++) {
+				columnStatistics.get(pos).add(
+						readColumnChunk(in, inflater, columnTypes[pos], columnValues.get(pos)));
+			}
+		}
+
+		final var columns = new ArrayList<Column>(columnCount);
+		for (var pos = 0; pos < columnCount; pos++) {
+			columns.add(new Column(
+					columnNames[pos],
+					columnTypes[pos],
+					Collections.unmodifiableList(columnValues.get(pos)),
+					Collections.unmodifiableList(columnStatistics.get(pos))));
+		}
+		return new ColumnarTable(name, rowCount, Collections.unmodifiableList(columns));
+	}
+
+	private static ChunkStatistics readColumnChunk(final DataInputStream in,
+												   final Inflater inflater,
+												   final ColumnType columnType,
+												   final List<Object> values) throws IOException {
+		final var chunkRowCount = readInt(in);
+		final var nullBitmap = new byte[(chunkRowCount + 7) / 8];
+		in.readFully(nullBitmap);
+
+		Number min = null;
+		Number max = null;
+		if (in.readUnsignedByte() == 1) {
+			min = readNumber(in, columnType);
+			max = readNumber(in, columnType);
+		}
+
+		final var compression = in.readUnsignedByte();
+		final var rawSize = readInt(in);
+		final var storedBytes = new byte[readInt(in)];
+		in.readFully(storedBytes);
+
+		final byte[] rawBytes;
+		if (compression == NO_COMPRESSION) {
+			rawBytes = storedBytes;
+		} else if (compression == DEFLATE_COMPRESSION) {
+			rawBytes = inflate(inflater, storedBytes, rawSize);
+		} else {
+			throw new IOException("Unknown compression: " + compression);
+		}
+
+		final var rawIn = new DataInputStream(new ByteArrayInputStream(rawBytes));
+		var nullCount = 0;
+		for (var posRow = 0; posRow < chunkRowCount; posRow++) {
+			if ((nullBitmap[posRow / 8] & 1 << posRow % 8) != 0) {
+				values.add(null);
+				nullCount++;
+			} else if (columnType == ColumnType.STRING) {
+				values.add(readString(rawIn));
+			} else {
+				values.add(readNumber(rawIn, columnType));
+			}
+		}
+		return new ChunkStatistics(chunkRowCount, nullCount, min, max);
+	}
+
+	private static byte[] inflate(final Inflater inflater,
+								  final byte[] storedBytes,
+								  final int rawSize) throws IOException {
+		inflater.reset();
+		inflater.setInput(storedBytes);
+		final var rawBytes = new byte[rawSize];
+		try {
+			var pos = 0;
+			while (pos < rawSize) {
+				final var size = inflater.inflate(rawBytes, pos, rawSize - pos);
+				if (size == 0 && (inflater.finished() || inflater.needsInput())) {
+					throw new IOException("Truncated compressed chunk");
+				}
+				pos += size;
+			}
+		} catch (final DataFormatException e) {
+			throw new IOException("Invalid compressed chunk", e);
+		}
+		return rawBytes;
+	}
+
+	private static Number readNumber(final DataInputStream in, final ColumnType columnType) throws IOException {
+		return switch (columnType) {
+		case FLOAT -> Float.intBitsToFloat(readInt(in));
+		case LONG -> Long.reverseBytes(in.readLong());
+		case INTEGER -> readInt(in);
+		case DOUBLE -> Double.longBitsToDouble(Long.reverseBytes(in.readLong()));
+		default -> throw new IllegalArgumentException("Not a number type: " + columnType);
+		};
+	}
+
+	private static int readInt(final DataInputStream in) throws IOException {
+		return Integer.reverseBytes(in.readInt());
+	}
+
+	private static String readString(final DataInputStream in) throws IOException {
+		final var bytes = new byte[readInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, UTF_8);
+	}
+
+}
@@ -0,0 +1,314 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.columnar;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import media.mexm.mediadeepa.exportformat.TableCell;
+import media.mexm.mediadeepa.exportformat.TableCellFloat;
+import media.mexm.mediadeepa.exportformat.TableCellInteger;
+import media.mexm.mediadeepa.exportformat.TableCellLong;
+import media.mexm.mediadeepa.exportformat.TableCellNull;
+import media.mexm.mediadeepa.exportformat.TableCellString;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table.Row;
+
+/**
+ * Binary columnar file layout, all numbers are little-endian, string = size (int32) + UTF-8 bytes:
+ * <ul>
+ * <li>File: magic "MXCL", version (int32), table count (int32), tables</li>
+ * <li>Table: name (string), row count (int32), chunk max rows (int32), column count (int32),
+ * column names (string) and type ids (int8), then for each chunk, a column chunk for each column</li>
+ * <li>Column chunk: row count (int32), null bitmap ((row count + 7) / 8 bytes, bit set for null),
+ * has statistics (int8), min and max values (column type size, only for numbers),
+ * compression (int8, 0 none, 1 deflate), raw size (int32), stored size (int32), stored bytes</li>
+ * <li>Raw bytes: only the non null values, strings as size (int32) + UTF-8 bytes</li>
+ * </ul>
+ */
+public class ColumnarWriter {
+
+	static final byte[] MAGIC = { 'M', 'X', 'C', 'L' };
+	static final int VERSION = 1;
+	static final int NO_COMPRESSION = 0;
+	static final int DEFLATE_COMPRESSION = 1;
+
+	private final int chunkMaxRows;
+	private final boolean compress;
+	private final int compressionLevel;
+
+	public ColumnarWriter(final int chunkMaxRows, final boolean compress, final int compressionLevel) {
+		if (chunkMaxRows < 1) {
+			throw new IllegalArgumentException("Invalid chunkMaxRows: " + chunkMaxRows);
+		}
+		this.chunkMaxRows = chunkMaxRows;
+		this.compress = compress;
+		this.compressionLevel = compressionLevel;
+	}
+
+	/**
+	 * Don't close outputStream here.
+	 */
+	public void write(final List<Table> tables, final OutputStream outputStream) throws IOException {
+		final var out = new DataOutputStream(outputStream);
+		out.write(MAGIC);
+		out.writeInt(Integer.reverseBytes(VERSION));
+		out.writeInt(Integer.reverseBytes(tables.size()));
+
+		final var raw = new ByteArrayOutputStream();
+		final var deflater = compress ? new Deflater(compressionLevel) : null;
+		try {
+			for (final var table : tables) {
+				writeTable(table, out, raw, deflater);
+			}
+		} finally {
+			if (deflater != null) {
+				deflater.end();
+			}
+		}
+		out.flush();
+	}
+
+	private void writeTable(final Table table,
+							final DataOutputStream out,
+							final ByteArrayOutputStream raw,
+							final Deflater deflater) throws IOException {
+		final var header = table.getHeader();
+		final var rowTypes = table.getRowTypes();
+		final var rows = table.getRows();
+
+		writeString(out, table.getTableName());
+		out.writeInt(Integer.reverseBytes(rows.size()));
+		out.writeInt(Integer.reverseBytes(chunkMaxRows));
+		out.writeInt(Integer.reverseBytes(header.size()));
+
+		final var columnTypes = new ColumnType[header.size()];
+		for (var pos = 0; pos < header.size(); pos++) {
+			columnTypes[pos] = getColumnType(rows, pos, rowTypes.get(pos));
+			writeString(out, header.get(pos));
+			out.writeByte(columnTypes[pos].getId());
+		}
+
+		for (var fromRow = 0; fromRow < rows.size(); fromRow += chunkMaxRows) {
+			final var chunkRows = rows.subList(fromRow, Math.min(rows.size(), fromRow + chunkMaxRows));
+			for (var posColumn = 0; posColumn < columnTypes.length; posColumn++) {
+				writeColumnChunk(chunkRows, posColumn, columnTypes[posColumn], out, raw, deflater);
+			}
+		}
+	}
+
+	/**
+	 * A null cell declares a float row type: only the non null cells have the last word.
+	 * The column type is widened to hold all of them, like INTEGER and LONG cells to a LONG column,
+	 * and FLOAT with LONG or INTEGER cells to a DOUBLE column.
+	 */
+	private static ColumnType getColumnType(final List<Row> rows,
+											final int posColumn,
+											final Class<? extends TableCell> rowType) {
+		ColumnType columnType = null;
+		for (var posRow = 0; posRow < rows.size(); posRow++) {
+			final var cell = getCell(rows.get(posRow), posColumn);
+			if (isNull(cell) == false) {
+				columnType = widen(columnType, ColumnType.fromTableCellType(cell.getClass()));
+			}
+		}
+		if (columnType == null) {
+			return ColumnType.fromTableCellType(rowType);
+		}
+		return columnType;
+	}
+
+	/**
+	 * @param current can be null
+	 * @return STRING if one is a STRING, else DOUBLE if one is a FLOAT or a DOUBLE, else LONG if one is a LONG,
+	 *         else INTEGER
+	 */
+	private static ColumnType widen(final ColumnType current, final ColumnType other) {
+		if (current == null || current == other) {
+			return other;
+		}
+		for (final var type : List.of(ColumnType.STRING, ColumnType.DOUBLE, ColumnType.FLOAT)) {
+			if (current == type || other == type) {
+				return type == ColumnType.FLOAT ? ColumnType.DOUBLE : type;
+			}
+		}
+		return ColumnType.LONG;
+	}
+
+	/**
+	 * @return null if the row is too short
+	 */
+	private static TableCell getCell(final Row row, final int posColumn) {
+		final var cells = row.getCells();
+		if (posColumn < cells.size()) {
+			return cells.get(posColumn);
+		}
+		return null;
+	}
+
+	private static boolean isNull(final TableCell cell) {
+		return cell == null || cell instanceof TableCellNull;
+	}
+
+	private static Number toNumber(final TableCell cell) {
+		if (cell instanceof final TableCellFloat cellContent) {
+			return cellContent.value();
+		} else if (cell instanceof final TableCellLong cellContent2) {
+			return cellContent2.value();
+		} else if (cell instanceof final TableCellInteger cellContent3) {
+			return cellContent3.value();
+		}
+		throw new IllegalArgumentException("Can't manage as number " + cell.getClass());
+	}
+
+	private static String toStringValue(final TableCell cell) {
+		if (cell instanceof final TableCellString cellContent) {
+			return cellContent.value();
+		}
+		return String.valueOf(toNumber(cell));
+	}
+
+	private void writeColumnChunk(final List<Row> chunkRows,
+								  final int posColumn,
+								  final ColumnType columnType,
+								  final DataOutputStream out,
+								  final ByteArrayOutputStream raw,
+								  final Deflater deflater) throws IOException {
+		out.writeInt(Integer.reverseBytes(chunkRows.size()));
+
+		final var nullBitmap = new byte[(chunkRows.size() + 7) / 8];
+		final var values = new ArrayList<TableCell>(chunkRows.size());
+		for (var posRow = 0; posRow < chunkRows.size(); posRow++) {
+			final var cell = getCell(chunkRows.get(posRow), posColumn);
+			if (isNull(cell)) {
+				nullBitmap[posRow / 8] |= (byte) (1 << posRow % 8);
+			} else {
+				values.add(cell);
+			}
+		}
+		out.write(nullBitmap);
+
+		writeStatistics(values, columnType, out);
+
+		raw.reset();
+		final var rawOut = new DataOutputStream(raw);
+		for (var pos = 0; pos < values.size(); pos++) {
+			final var cell = values.get(pos);
+			switch (columnType) {
+			case STRING -> writeString(rawOut, toStringValue(cell));
+			case FLOAT -> rawOut.writeInt(Integer.reverseBytes(Float.floatToRawIntBits(toNumber(cell).floatValue())));
+			case LONG -> rawOut.writeLong(Long.reverseBytes(toNumber(cell).longValue()));
+			case INTEGER -> rawOut.writeInt(Integer.reverseBytes(toNumber(cell).intValue()));
+			case DOUBLE -> rawOut.writeLong(
+					Long.reverseBytes(Double.doubleToRawLongBits(toNumber(cell).doubleValue())));
+			}
+		}
+		rawOut.flush();
+		final var rawBytes = raw.toByteArray();
+
+		if (deflater != null) {
+			deflater.reset();
+			deflater.setInput(rawBytes);
+			deflater.finish();
+			final var compressed = new ByteArrayOutputStream(rawBytes.length / 2 + 16);
+			final var buffer = new byte[8192];
+			while (deflater.finished() == false) {
+				compressed.write(buffer, 0, deflater.deflate(buffer));
+			}
+			if (compressed.size() < rawBytes.length) {
+				out.writeByte(DEFLATE_COMPRESSION);
+				out.writeInt(Integer.reverseBytes(rawBytes.length));
+				out.writeInt(Integer.reverseBytes(compressed.size()));
+				compressed.writeTo(out);
+				return;
+			}
+		}
+
+		out.writeByte(NO_COMPRESSION);
+		out.writeInt(Integer.reverseBytes(rawBytes.length));
+		out.writeInt(Integer.reverseBytes(rawBytes.length));
+		out.write(rawBytes);
+	}
+
+	private static void writeStatistics(final List<TableCell> values,
+										final ColumnType columnType,
+										final DataOutputStream out) throws IOException {
+		if (columnType == ColumnType.STRING) {
+			out.writeByte(0);
+			return;
+		}
+
+		var hasStatistics = false;
+		var minDouble = Double.POSITIVE_INFINITY;
+		var maxDouble = Double.NEGATIVE_INFINITY;
+		var minLong = Long.MAX_VALUE;
+		var maxLong = Long.MIN_VALUE;
+		for (var pos = 0; pos < values.size(); pos++) {
+			final var value = toNumber(values.get(pos));
+			if (columnType == ColumnType.FLOAT || columnType == ColumnType.DOUBLE) {
+				final var doubleValue = value.doubleValue();
+				if (Double.isNaN(doubleValue) == false) {
+					minDouble = Math.min(minDouble, doubleValue);
+					maxDouble = Math.max(maxDouble, doubleValue);
+					hasStatistics = true;
+				}
+			} else {
+				final var longValue = columnType == ColumnType.INTEGER ? value.intValue() : value.longValue();
+				minLong = Math.min(minLong, longValue);
+				maxLong = Math.max(maxLong, longValue);
+				hasStatistics = true;
+			}
+		}
+
+		out.writeByte(hasStatistics ? 1 : 0);
+		if (hasStatistics == false) {
+			return;
+		}
+		switch (columnType) {
+		case FLOAT -> {
+			out.writeInt(Integer.reverseBytes(Float.floatToRawIntBits((float) minDouble)));
+			out.writeInt(Integer.reverseBytes(Float.floatToRawIntBits((float) maxDouble)));
+		}
+		case DOUBLE -> {
+			out.writeLong(Long.reverseBytes(Double.doubleToRawLongBits(minDouble)));
+			out.writeLong(Long.reverseBytes(Double.doubleToRawLongBits(maxDouble)));
+		}
+		case LONG -> {
+			out.writeLong(Long.reverseBytes(minLong));
+			out.writeLong(Long.reverseBytes(maxLong));
+		}
+		default -> {
+			out.writeInt(Integer.reverseBytes((int) minLong));
+			out.writeInt(Integer.reverseBytes((int) maxLong));
+		}
+		}
+	}
+
+	private static void writeString(final DataOutputStream out, final String value) throws IOException {
+		final var bytes = value.getBytes(UTF_8);
+		out.writeInt(Integer.reverseBytes(bytes.length));
+		out.write(bytes);
+	}
+
+}
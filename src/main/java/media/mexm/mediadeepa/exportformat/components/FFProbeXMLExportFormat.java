@@ -23,12 +23,12 @@ import static org.apache.commons.io.FilenameUtils.getBaseName;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -66,13 +66,10 @@ public class FFProbeXMLExportFormat implements ExportFormat {
 	public Map<String, File> exportResult(final DataResult result) {
 		return result.getFFprobeResult()
 				.map(ffprobeJABX -> {
-					final var outFile = outputFileSupplier.makeOutputFile(result, appConfig.getFfprobexmlFileName());
-					try {
-						FileUtils.write(
-								outFile,
-								ffprobeJABX.getXmlContent(),
-								UTF_8,
-								false);
+					final var outFile = outputFileSupplier.makeCompressibleOutputFile(
+							result, appConfig.getFfprobexmlFileName());
+					try (var outputStream = outputFileSupplier.openOutputStream(result, outFile)) {
+						IOUtils.write(ffprobeJABX.getXmlContent(), outputStream, UTF_8);
 					} catch (final IOException e) {
 						throw new UncheckedIOException("Can't save file", e);
 					}
@@ -83,11 +80,20 @@ public class FFProbeXMLExportFormat implements ExportFormat {
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
-		return result.getFFprobeResult()
-				.map(FFprobeJAXB::getXmlContent)
-				.map(f -> f.getBytes(UTF_8));
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
+		final var oXmlContent = result.getFFprobeResult()
+				.map(FFprobeJAXB::getXmlContent);
+		if (oXmlContent.isEmpty()) {
+			return false;
+		}
+		try {
+			IOUtils.write(oXmlContent.get(), outputStream, UTF_8);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write to stream", e);
+		}
+		return true;
 	}
 
 	@Override
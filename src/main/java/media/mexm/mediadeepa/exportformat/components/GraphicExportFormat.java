@@ -20,14 +20,17 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toUnmodifiableMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static media.mexm.mediadeepa.exportformat.ParallelRendering.parallelMap;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER_ANALYSIS;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANALYSIS;
 import static org.apache.commons.io.FilenameUtils.getBaseName;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,10 +63,15 @@ public class GraphicExportFormat implements ExportFormat {
 
 	@Override
 	public Map<String, File> exportResult(final DataResult result) {
-		return engines.stream()
-				.map(engine -> engine.toGraphic(result))
+		final var parallelism = appConfig.getGraphicConfig().getRenderParallelism();
+		final var renderLimiter = result.getRenderLimiter();
+		final var graphics = parallelMap(engines, engine -> engine.toGraphic(result), parallelism, renderLimiter)
+				.stream()
 				.flatMap(List::stream)
-				.map(f -> f.save(appCommand, appConfig, outputFileSupplier, result))
+				.toList();
+		return parallelMap(graphics, f -> f.save(appCommand, appConfig, outputFileSupplier, result), parallelism,
+				renderLimiter)
+				.stream()
 				.collect(toUnmodifiableMap(
 						f -> getBaseName(f.getName()),
 						identity()));
@@ -79,14 +87,29 @@ public class GraphicExportFormat implements ExportFormat {
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
+	public boolean isProducingFile(final String internalFileName) {
+		return getInternalProducedFileNames().contains(getBaseName(internalFileName));
+	}
+
+	@Override
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
 		final var baseFileName = getBaseName(internalFileName);
-		return engines.stream()
+		final var oImage = engines.stream()
 				.filter(engine -> engine.getGraphicInternalProducedBaseFileNames().contains(baseFileName))
 				.findFirst()
 				.flatMap(engine -> engine.toSingleGraphic(baseFileName, result))
-				.map(ga -> ga.getImage(appCommand, appConfig).data());
+				.map(ga -> ga.getImage(appCommand, appConfig, result).data());
+		if (oImage.isEmpty()) {
+			return false;
+		}
+		try {
+			outputStream.write(oImage.get());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write to stream", e);
+		}
+		return true;
 	}
 
 	@Override
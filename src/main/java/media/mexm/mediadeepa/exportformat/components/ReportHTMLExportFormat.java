@@ -17,18 +17,24 @@
 package media.mexm.mediadeepa.exportformat.components;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableMap;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER_ANALYSIS;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANALYSIS;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.SNAPSHOT_IMAGE;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.WAVEFORM;
-import static org.apache.commons.io.FileUtils.write;
+import static media.mexm.mediadeepa.exportformat.report.ReportImageLinker.EMBEDDED;
+import static org.apache.commons.io.FilenameUtils.getBaseName;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,13 +48,14 @@ import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.components.RendererEngineComparator;
 import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
-import media.mexm.mediadeepa.exportformat.ExportFormat;
 import media.mexm.mediadeepa.exportformat.ProcessingHandledData;
+import media.mexm.mediadeepa.exportformat.SharedDocumentExportFormat;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
+import media.mexm.mediadeepa.exportformat.report.ReportImageLinker;
 import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
 
 @Component
-public class ReportHTMLExportFormat implements ExportFormat, ConstStrings {
+public class ReportHTMLExportFormat implements SharedDocumentExportFormat<ReportDocument>, ConstStrings {
 
 	@Autowired
 	private List<ReportRendererEngine> engines;
@@ -60,6 +67,12 @@ public class ReportHTMLExportFormat implements ExportFormat, ConstStrings {
 	private NumberUtils numberUtils;
 	@Autowired
 	private OutputFileSupplier outputFileSupplier;
+	@Autowired
+	private GraphicExportFormat graphicExportFormat;
+	@Autowired
+	private SignalImageExportFormat signalImageExportFormat;
+	@Autowired
+	private SnapshotImageExportFormat snapshotImageExportFormat;
 
 	@Value("classpath:html-report-style.css")
 	private Resource cssHTMLReportResource;
@@ -87,28 +100,69 @@ public class ReportHTMLExportFormat implements ExportFormat, ConstStrings {
 	}
 
 	@Override
-	public Map<String, File> exportResult(final DataResult result) {
+	public Class<ReportDocument> getSharedDocumentType() {
+		return ReportDocument.class;
+	}
+
+	@Override
+	public ReportDocument makeSharedDocument(final DataResult result) {
+		return new ReportDocument(result, engines, rendererEngineComparator,
+				appConfig.getReportConfig().getSectionsParallelism());
+	}
+
+	@Override
+	public Map<String, File> exportResult(final DataResult result, final ReportDocument reportDocument) {
 		try {
 			final var outFile = outputFileSupplier.makeOutputFile(
 					result, appConfig.getReportConfig().getHtmlFilename());
-			write(outFile,
-					new ReportDocument(result, engines, rendererEngineComparator)
-							.toHTML(cssHTMLReportResource, jsHTMLReportResource, numberUtils),
-					UTF_8, false);
-
-			return Map.of("html_report", outFile);
+			final var producedFiles = new LinkedHashMap<String, File>();
+			producedFiles.put("html_report", outFile);
+
+			try (var writer = new BufferedWriter(
+					new OutputStreamWriter(outputFileSupplier.openOutputStream(result, outFile), UTF_8))) {
+				reportDocument.writeHTML(cssHTMLReportResource, jsHTMLReportResource, numberUtils,
+						makeImageLinker(result, producedFiles), writer);
+			}
+			return unmodifiableMap(producedFiles);
 		} catch (final IOException e) {
 			throw new UncheckedIOException("Can't write html file", e);
 		}
 	}
 
+	/**
+	 * @param producedFiles will be populated by the image files written by the linker
+	 */
+	private ReportImageLinker makeImageLinker(final DataResult result, final Map<String, File> producedFiles) {
+		if (outputFileSupplier.isReportLinkedImages() == false) {
+			return EMBEDDED;
+		}
+		final var imageExportFormats = List.of(graphicExportFormat, signalImageExportFormat, snapshotImageExportFormat);
+		return (image, internalFileName) -> {
+			final var imageFile = outputFileSupplier.makeOutputFile(result, internalFileName);
+			final var producedByAnotherFormat = imageExportFormats.stream()
+					.filter(f -> outputFileSupplier.isExportFormatRequested(f.getFormatName()))
+					.anyMatch(f -> f.isProducingFile(internalFileName));
+			if (producedByAnotherFormat == false) {
+				image.writeToFile(imageFile);
+				producedFiles.put("html_report_image_" + getBaseName(internalFileName), imageFile);
+			}
+			return URLEncoder.encode(imageFile.getName(), UTF_8).replace("+", "%20");
+		};
+	}
+
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
-		return Optional.ofNullable(
-				new ReportDocument(result, engines, rendererEngineComparator)
-						.toHTML(cssHTMLReportResource, jsHTMLReportResource, numberUtils)
-						.getBytes(UTF_8));
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
+		try {
+			final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+			makeSharedDocument(result)
+					.writeHTML(cssHTMLReportResource, jsHTMLReportResource, numberUtils, EMBEDDED, writer);
+			writer.flush();
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write html to stream", e);
+		}
+		return true;
 	}
 
 	@Override
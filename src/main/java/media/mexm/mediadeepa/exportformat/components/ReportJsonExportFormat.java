@@ -20,25 +20,24 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKN
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Locale.ENGLISH;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER_ANALYSIS;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANALYSIS;
 import static media.mexm.mediadeepa.exportformat.report.JsonContentProvider.createModule;
-import static org.apache.commons.io.FileUtils.write;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.annotation.PostConstruct;
@@ -47,13 +46,13 @@ import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.components.RendererEngineComparator;
 import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
-import media.mexm.mediadeepa.exportformat.ExportFormat;
 import media.mexm.mediadeepa.exportformat.ProcessingHandledData;
+import media.mexm.mediadeepa.exportformat.SharedDocumentExportFormat;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
 
 @Component
-public class ReportJsonExportFormat implements ExportFormat, ConstStrings {
+public class ReportJsonExportFormat implements SharedDocumentExportFormat<ReportDocument>, ConstStrings {
 
 	@Autowired
 	private List<ReportRendererEngine> engines;
@@ -73,6 +72,7 @@ public class ReportJsonExportFormat implements ExportFormat, ConstStrings {
 		objectMapper.configure(INDENT_OUTPUT, appConfig.getReportConfig().isJsonIdentOutput());
 		objectMapper.configure(WRITE_DATES_AS_TIMESTAMPS, false);
 		objectMapper.configure(WRITE_DATES_WITH_CONTEXT_TIME_ZONE, true);
+		objectMapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
 		objectMapper.findAndRegisterModules();
 		objectMapper.registerModule(createModule());
 	}
@@ -97,22 +97,25 @@ public class ReportJsonExportFormat implements ExportFormat, ConstStrings {
 		return Set.of(MEDIA_ANALYSIS, CONTAINER_ANALYSIS);
 	}
 
-	private String getJson(final Object object) {
-		try {
-			return objectMapper.writeValueAsString(object);
-		} catch (final JsonProcessingException e) {
-			throw new IllegalStateException("Trouble with " + object.getClass().getName(), e);
-		}
+	@Override
+	public Class<ReportDocument> getSharedDocumentType() {
+		return ReportDocument.class;
 	}
 
 	@Override
-	public Map<String, File> exportResult(final DataResult result) {
+	public ReportDocument makeSharedDocument(final DataResult result) {
+		return new ReportDocument(result, engines, rendererEngineComparator,
+				appConfig.getReportConfig().getSectionsParallelism());
+	}
+
+	@Override
+	public Map<String, File> exportResult(final DataResult result, final ReportDocument reportDocument) {
 		try {
-			final var outFile = outputFileSupplier.makeOutputFile(
+			final var outFile = outputFileSupplier.makeCompressibleOutputFile(
 					result, appConfig.getReportConfig().getJsonFilename());
-			write(outFile,
-					getJson(new ReportDocument(result, engines, rendererEngineComparator)),
-					UTF_8, false);
+			try (var outputStream = new BufferedOutputStream(outputFileSupplier.openOutputStream(result, outFile))) {
+				objectMapper.writeValue(outputStream, reportDocument);
+			}
 
 			return Map.of("json_report", outFile);
 		} catch (final IOException e) {
@@ -121,10 +124,15 @@ public class ReportJsonExportFormat implements ExportFormat, ConstStrings {
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
-		return Optional.ofNullable(
-				getJson(new ReportDocument(result, engines, rendererEngineComparator)).getBytes(UTF_8));
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
+		try {
+			objectMapper.writeValue(outputStream, makeSharedDocument(result));
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write json to stream", e);
+		}
+		return true;
 	}
 
 	@Override
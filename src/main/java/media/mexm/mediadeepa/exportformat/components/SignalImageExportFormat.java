@@ -18,10 +18,12 @@ package media.mexm.mediadeepa.exportformat.components;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static media.mexm.mediadeepa.exportformat.ParallelRendering.parallelMap;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.WAVEFORM;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import media.mexm.mediadeepa.components.OutputFileSupplier;
+import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.ExportFormat;
 import media.mexm.mediadeepa.exportformat.ImageArtifact;
@@ -46,6 +49,8 @@ public class SignalImageExportFormat implements ExportFormat {
 	private OutputFileSupplier outputFileSupplier;
 	@Autowired
 	private List<SignalImageRendererEngine> engines;
+	@Autowired
+	private AppConfig appConfig;
 
 	@Override
 	public Set<ProcessingHandledData> canHandleProcessingData() {
@@ -79,8 +84,9 @@ public class SignalImageExportFormat implements ExportFormat {
 
 	@Override
 	public Map<String, File> exportResult(final DataResult result) {
-		return engines.stream()
-				.map(e -> signalToFile(result, e))
+		return parallelMap(engines, e -> signalToFile(result, e),
+				appConfig.getGraphicConfig().getRenderParallelism(), result.getRenderLimiter())
+				.stream()
 				.flatMap(Optional::stream)
 				.collect(toUnmodifiableMap(f -> f.name, f -> f.content));
 	}
@@ -105,12 +111,23 @@ public class SignalImageExportFormat implements ExportFormat {
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result, final String internalFileName) {
-		return engines.stream()
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
+		final var oImage = engines.stream()
 				.filter(e -> e.getDefaultInternalFileName().equals(internalFileName))
 				.findFirst()
 				.flatMap(e -> e.makeimagePNG(result))
 				.map(ImageArtifact::data);
+		if (oImage.isEmpty()) {
+			return false;
+		}
+		try {
+			outputStream.write(oImage.get());
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write to stream", e);
+		}
+		return true;
 	}
 
 }
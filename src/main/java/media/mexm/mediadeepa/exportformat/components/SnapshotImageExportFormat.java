@@ -18,16 +18,15 @@ package media.mexm.mediadeepa.exportformat.components;
 
 import static java.lang.String.format;
 import static java.util.Collections.unmodifiableMap;
-import static java.util.Optional.empty;
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.SNAPSHOT_IMAGE;
 import static org.apache.commons.io.FileUtils.writeByteArrayToFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 
@@ -120,16 +119,33 @@ public class SnapshotImageExportFormat implements ExportFormat {
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result, final String internalFileName) {
+	public boolean isProducingFile(final String internalFileName) {
+		return internalFileName.equals(significantEngine.getDefaultInternalFileName())
+			   && appConfig.getSnapshotImageConfig().isExportSignificant();
+	}
+
+	@Override
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
 		if (internalFileName.equals(significantEngine.getDefaultInternalFileName())) {
-			return significantEngine.makeimage(result)
+			final var oImage = significantEngine.makeimage(result)
 					.map(ImageArtifact::data);
+			if (oImage.isEmpty()) {
+				return false;
+			}
+			try {
+				outputStream.write(oImage.get());
+			} catch (final IOException e) {
+				throw new UncheckedIOException("Can't write to stream", e);
+			}
+			return true;
 		}
 		if (internalFileName.equals(stripEngine.getDefaultInternalFileName())) {
 			log.error("Can't extract strip images as single export");
 		}
 
-		return empty();
+		return false;
 	}
 
 }
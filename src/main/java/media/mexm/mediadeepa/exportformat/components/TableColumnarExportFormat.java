@@ -0,0 +1,85 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.components.OutputFileSupplier;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table;
+import media.mexm.mediadeepa.exportformat.TableExportFormat;
+import media.mexm.mediadeepa.exportformat.columnar.ColumnarWriter;
+import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
+
+@Component
+public class TableColumnarExportFormat extends TableExportFormat {
+
+	private final AppConfig appConfig;
+
+	public TableColumnarExportFormat(@Autowired final List<TableRendererEngine> engines,
+									 @Autowired final AppConfig appConfig,
+									 @Autowired final NumberUtils numberUtils,
+									 @Autowired final OutputFileSupplier outputFileSupplier) {
+		super(engines, numberUtils, outputFileSupplier);
+		this.appConfig = appConfig;
+	}
+
+	@Override
+	public String getFormatName() {
+		return "columnar";
+	}
+
+	@Override
+	public String getFormatLongName() {
+		return "Binary columnar file";
+	}
+
+	@Override
+	public String getFormatDescription() {
+		return "typed little-endian column chunks, with min/max statistics, read it with ColumnarReader";
+	}
+
+	@Override
+	public void makeDocument(final DataResult result,
+							 final List<Table> tables,
+							 final OutputStream outputStream) {
+		final var columnarConfig = appConfig.getColumnarConfig();
+		final var writer = new ColumnarWriter(
+				columnarConfig.getChunkRows(),
+				columnarConfig.isCompress(),
+				columnarConfig.getCompressionLevel());
+		try {
+			writer.write(tables, outputStream);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write columnar file", e);
+		}
+	}
+
+	@Override
+	public String getInternalFileName() {
+		return appConfig.getColumnartableFileName();
+	}
+
+}
@@ -27,12 +27,14 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 
 import lombok.extern.slf4j.Slf4j;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.TableCell;
 import media.mexm.mediadeepa.exportformat.TableCellFloat;
 import media.mexm.mediadeepa.exportformat.TableCellInteger;
 import media.mexm.mediadeepa.exportformat.TableCellLong;
@@ -55,7 +57,9 @@ public class TableJsonExportFormat extends TableExportFormat {
 								 @Autowired final NumberUtils numberUtils,
 								 @Autowired final OutputFileSupplier outputFileSupplier) {
 		super(engines, numberUtils, outputFileSupplier);
-		jsonFactory = new JsonFactory();
+		jsonFactory = JsonFactory.builder()
+				.disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+				.build();
 		this.appConfig = appConfig;
 	}
 
@@ -94,7 +98,7 @@ public class TableJsonExportFormat extends TableExportFormat {
 		final var rows = table.getRows();
 		final var header = table.getHeader();
 
-		log.debug("Add {} rows to \"{}\" sheet in XML", rows.size(), table.getTableName());
+		log.debug("Add {} rows to \"{}\" sheet in JSON", rows.size(), table.getTableName());
 		json.writeFieldName(table.getTableName());
 
 		json.writeStartArray();
@@ -113,26 +117,33 @@ public class TableJsonExportFormat extends TableExportFormat {
 
 		final var cells = row.getCells();
 		for (var posCell = 0; posCell < cells.size(); posCell++) {
-			final var cell = cells.get(posCell);
-			final var headerName = header.get(posCell);
-
-			if (cell instanceof final TableCellString cellContent) {
-				json.writeStringField(headerName, cellContent.value());
-			} else if (cell instanceof final TableCellFloat cellContent) {
-				json.writeNumberField(headerName, cellContent.value());
-			} else if (cell instanceof final TableCellLong cellContent2) {
-				json.writeNumberField(headerName, cellContent2.value());
-			} else if (cell instanceof final TableCellInteger cellContent3) {
-				json.writeNumberField(headerName, cellContent3.value());
-			} else if (cell instanceof TableCellNull) {
-				json.writeNullField(headerName);
-			} else {
-				throw new IllegalArgumentException("Can't manage type " + cell.getClass());
-			}
+			json.writeFieldName(header.get(posCell));
+			writeCellValue(json, cells.get(posCell));
 		}
 		json.writeEndObject();
 	}
 
+	static void writeCellValue(final JsonGenerator json, final TableCell cell) throws IOException {
+		if (cell instanceof final TableCellString cellContent) {
+			json.writeString(cellContent.value());
+		} else if (cell instanceof final TableCellFloat cellContent) {
+			json.writeNumber(cellContent.value());
+		} else if (cell instanceof final TableCellLong cellContent2) {
+			json.writeNumber(cellContent2.value());
+		} else if (cell instanceof final TableCellInteger cellContent3) {
+			json.writeNumber(cellContent3.value());
+		} else if (cell instanceof TableCellNull) {
+			json.writeNull();
+		} else {
+			throw new IllegalArgumentException("Can't manage type " + cell.getClass());
+		}
+	}
+
+	@Override
+	protected boolean isCompressibleDocument() {
+		return true;
+	}
+
 	@Override
 	public String getInternalFileName() {
 		return appConfig.getJsontableFileName();
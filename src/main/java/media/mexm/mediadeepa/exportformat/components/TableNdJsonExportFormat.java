@@ -0,0 +1,122 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import static media.mexm.mediadeepa.exportformat.components.TableJsonExportFormat.writeCellValue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import lombok.extern.slf4j.Slf4j;
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.components.OutputFileSupplier;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table;
+import media.mexm.mediadeepa.exportformat.TableExportFormat;
+import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
+
+@Slf4j
+@Component
+public class TableNdJsonExportFormat extends TableExportFormat {
+
+	public static final String TABLE_FIELD_NAME = "table";
+
+	private final JsonFactory jsonFactory;
+	private final AppConfig appConfig;
+
+	public TableNdJsonExportFormat(@Autowired final List<TableRendererEngine> engines,
+								   @Autowired final AppConfig appConfig,
+								   @Autowired final NumberUtils numberUtils,
+								   @Autowired final OutputFileSupplier outputFileSupplier) {
+		super(engines, numberUtils, outputFileSupplier);
+		jsonFactory = JsonFactory.builder()
+				.disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+				.build();
+		this.appConfig = appConfig;
+	}
+
+	@Override
+	public String getFormatName() {
+		return "ndjson";
+	}
+
+	@Override
+	public String getFormatLongName() {
+		return "Newline delimited JSON";
+	}
+
+	@Override
+	public String getFormatDescription() {
+		return "one JSON object by line, for each row of each table";
+	}
+
+	@Override
+	public void makeDocument(final DataResult result,
+							 final List<Table> tables,
+							 final OutputStream outputStream) {
+		try (final var json = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+			json.setRootValueSeparator(null);
+			for (final var table : tables) {
+				makeTable(table, json);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write NDJSON file", e);
+		}
+	}
+
+	private static void makeTable(final Table table, final JsonGenerator json) throws IOException {
+		final var rows = table.getRows();
+		final var header = table.getHeader();
+		final var tableName = table.getTableName();
+		log.debug("Add {} rows to \"{}\" sheet in NDJSON", rows.size(), tableName);
+
+		for (var posRow = 0; posRow < rows.size(); posRow++) {
+			json.writeStartObject();
+			json.writeStringField(TABLE_FIELD_NAME, tableName);
+
+			final var cells = rows.get(posRow).getCells();
+			for (var posCell = 0; posCell < cells.size(); posCell++) {
+				json.writeFieldName(header.get(posCell));
+				writeCellValue(json, cells.get(posCell));
+			}
+			json.writeEndObject();
+			json.writeRaw('\n');
+		}
+	}
+
+	@Override
+	protected boolean isCompressibleDocument() {
+		return true;
+	}
+
+	@Override
+	public String getInternalFileName() {
+		return appConfig.getNdjsontableFileName();
+	}
+
+}
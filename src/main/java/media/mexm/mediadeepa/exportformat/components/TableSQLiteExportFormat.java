@@ -22,8 +22,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
+import java.sql.Types;
 import java.util.List;
 import java.util.StringJoiner;
 
@@ -32,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.sqlite.SQLiteConfig;
 import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteConfig.LockingMode;
 import org.sqlite.SQLiteConfig.SynchronousMode;
 import org.sqlite.SQLiteConfig.TempStore;
 
@@ -41,6 +44,7 @@ import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.TableCell;
 import media.mexm.mediadeepa.exportformat.TableCellFloat;
 import media.mexm.mediadeepa.exportformat.TableCellInteger;
 import media.mexm.mediadeepa.exportformat.TableCellLong;
@@ -77,6 +81,20 @@ public class TableSQLiteExportFormat extends TableExportFormat {
 		return "SQLite database";
 	}
 
+	@Override
+	protected void makeDocument(final DataResult result,
+								final List<Table> tables,
+								final File outputFile) {
+		try {
+			if (outputFile.exists()) {
+				FileUtils.forceDelete(outputFile);
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't remove previous SQLite db file", e);
+		}
+		writeDatabase(tables, outputFile);
+	}
+
 	@Override
 	public void makeDocument(final DataResult result,
 							 final List<Table> tables,
@@ -88,7 +106,23 @@ public class TableSQLiteExportFormat extends TableExportFormat {
 		} catch (final IOException e) {
 			throw new UncheckedIOException("Can't prepare temp file", e);
 		}
-		final var url = "jdbc:sqlite:" + tempOutputFile.getPath().replace('\\', '/');
+
+		writeDatabase(tables, tempOutputFile);
+
+		try {
+			FileUtils.copyFile(tempOutputFile, outputStream);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't read from previously writed SQLite db file", e);
+		}
+
+		if (FileUtils.deleteQuietly(tempOutputFile) == false) {
+			tempOutputFile.deleteOnExit();
+		}
+	}
+
+	private void writeDatabase(final List<Table> tables, final File dbFile) {
+		final var url = "jdbc:sqlite:" + dbFile.getPath().replace('\\', '/');
+		final var config = appConfig.getSqliteConfig();
 
 		final var sqliteConfig = new SQLiteConfig();
 		sqliteConfig.enableFullSync(false);
@@ -96,119 +130,147 @@ public class TableSQLiteExportFormat extends TableExportFormat {
 		sqliteConfig.setJournalMode(JournalMode.OFF);
 		sqliteConfig.setSynchronous(SynchronousMode.OFF);
 		sqliteConfig.setTempStore(TempStore.MEMORY);
+		sqliteConfig.setLockingMode(LockingMode.EXCLUSIVE);
+		sqliteConfig.setPageSize(config.getPageSize());
+		sqliteConfig.setCacheSize(-config.getCacheSizeKb());
 
 		try (final var connection = sqliteConfig.createConnection(url)) {
-			try (final var statement = connection.createStatement()) {
-				statement.setQueryTimeout(240);
-
-				tables.forEach(table -> {
-					try {
-						makeTableOnSQL(table, statement);
-					} catch (final SQLException e) {
-						throw new IllegalStateException("Can't create/update SQLlite table " + table.getTableName(), e);
+			connection.setAutoCommit(false);
+			for (final var table : tables) {
+				try {
+					makeTableOnSQL(table, connection, config.getMaxBatchSize());
+					if (config.isCreateTimeIndexes()) {
+						makeTimeIndexesOnSQL(table, connection);
 					}
-				});
+				} catch (final SQLException e) {
+					throw new IllegalStateException("Can't create/update SQLlite table " + table.getTableName(), e);
+				}
 			}
+			connection.commit();
 		} catch (final SQLException e) {
 			throw new IllegalStateException("Can't operate SQLlite file", e);
 		}
-
-		try {
-			FileUtils.copyFile(tempOutputFile, outputStream);
-		} catch (final IOException e) {
-			throw new UncheckedIOException("Can't read from previously writed SQLite db file", e);
-		}
-
-		if (FileUtils.deleteQuietly(tempOutputFile) == false) {
-			tempOutputFile.deleteOnExit();
-		}
 	}
 
-	private static void makeTableOnSQL(final Table table, final Statement statement) throws SQLException {
+	private static void makeTableOnSQL(final Table table,
+									   final Connection connection,
+									   final int maxBatch) throws SQLException {
 		final var tableName = cleanNameToFieldName(table.getTableName());
-		statement.executeUpdate("DROP TABLE IF EXISTS \"" + tableName + "\"");// NOSONAR S2077
-
 		final var sqlFieldsCreate = new StringJoiner(", ");
 		sqlFieldsCreate.add("\"id\" INTEGER");
 
 		final var header = table.getHeader();
 		final var rowTypes = table.getRowTypes();
 		for (var posHeader = 0; posHeader < header.size(); posHeader++) {
-			final var type = rowTypes.get(posHeader);
 			final var headerName = cleanNameToFieldName(header.get(posHeader));
-
-			if (type == TableCellString.class) {
-				sqlFieldsCreate.add("\"" + headerName + "\" TEXT");
-			} else if (type == TableCellFloat.class) {
-				sqlFieldsCreate.add("\"" + headerName + "\" REAL");
-			} else if (type == TableCellLong.class
-					   || type == TableCellInteger.class) {
-				sqlFieldsCreate.add("\"" + headerName + "\" INTEGER");
-			} else {
-				throw new IllegalArgumentException("Can't manage type " + type);
-			}
+			sqlFieldsCreate.add("\"" + headerName + "\" " + toSQLType(rowTypes.get(posHeader)));
 		}
 
 		sqlFieldsCreate.add("PRIMARY KEY(\"id\" AUTOINCREMENT)");
 
 		final var sqlCreate = "CREATE TABLE \"" + tableName + "\" (" + sqlFieldsCreate.toString() + ");";
-		log.debug("Execute SQL: {}", sqlCreate);
-		statement.executeUpdate(sqlCreate);// NOSONAR S2077
+		try (final var statement = connection.createStatement()) {
+			statement.executeUpdate("DROP TABLE IF EXISTS \"" + tableName + "\"");// NOSONAR S2077
+			log.debug("Execute SQL: {}", sqlCreate);
+			statement.executeUpdate(sqlCreate);// NOSONAR S2077
+		}
 
 		final var sqlFields = header.stream()
 				.map(TableSQLiteExportFormat::cleanNameToFieldName)
+				.map(f -> "\"" + f + "\"")
+				.collect(joining(", "));
+		final var sqlValues = header.stream()
+				.map(f -> "?")
 				.collect(joining(", "));
+		final var sqlInsert = "INSERT INTO \"" + tableName + "\" (" + sqlFields + ") VALUES (" + sqlValues + ")";
+		log.debug("Prepare SQL: {}", sqlInsert);
 
-		pushRowsToSQL(table, statement, tableName, sqlFields);
+		try (final var statement = connection.prepareStatement(sqlInsert)) {// NOSONAR S2077
+			pushRowsToSQL(table, statement, maxBatch);
+		}
 	}
 
 	private static void pushRowsToSQL(final Table table,
-									  final Statement statement,
-									  final String tableName,
-									  final String sqlFields) throws SQLException {
+									  final PreparedStatement statement,
+									  final int maxBatch) throws SQLException {
 		final var rows = table.getRows();
 		log.debug("Add {} rows to \"{}\" sheet in SQLite", rows.size(), table.getTableName());
 
 		var batchSize = 0;
-		final var maxBatch = 10000;
 		for (var posRow = 0; posRow < rows.size(); posRow++) {
-			if (batchSize++ == maxBatch) {
-				log.debug("SQL executeBatch {}", batchSize - 1);
-				statement.executeBatch();
-				batchSize = 0;
-			}
-
-			final var sqlValues = new StringJoiner(",");
 			final var cells = rows.get(posRow).getCells();
-
 			for (var posCell = 0; posCell < cells.size(); posCell++) {
-				final var cell = cells.get(posCell);
-				if (cell instanceof final TableCellString cellContent) {
-					sqlValues.add("\"" + cellContent.value() + "\"");
-				} else if (cell instanceof final TableCellFloat cellContent) {
-					sqlValues.add(String.valueOf(cellContent.value()));
-				} else if (cell instanceof final TableCellLong cellContent2) {
-					sqlValues.add(String.valueOf(cellContent2.value()));
-				} else if (cell instanceof final TableCellInteger cellContent3) {
-					sqlValues.add(String.valueOf(cellContent3.value()));
-				} else if (cell instanceof TableCellNull) {
-					sqlValues.add("NULL");
-				} else {
-					throw new IllegalArgumentException("Can't manage type " + cell.getClass());
-				}
+				bindCell(statement, posCell + 1, cells.get(posCell));
+			}
+			statement.addBatch();
+
+			if (++batchSize == maxBatch) {
+				statement.executeBatch();
+				batchSize = 0;
 			}
-			final var sqlAdd = "INSERT INTO \"" + tableName
-							   + "\" (" + sqlFields
-							   + ") VALUES (" + sqlValues.toString() + ")";
-			log.trace("SQL {}" + sqlAdd);
-			statement.addBatch(sqlAdd);// NOSONAR S2077
 		}
 		if (batchSize > 0) {
-			log.debug("SQL executeBatch {}", batchSize);
 			statement.executeBatch();
 		}
 	}
 
+	static String toSQLType(final Class<? extends TableCell> type) {
+		if (type == TableCellString.class) {
+			return "TEXT";
+		} else if (type == TableCellFloat.class) {
+			return "REAL";
+		} else if (type == TableCellLong.class
+				   || type == TableCellInteger.class) {
+			return "INTEGER";
+		}
+		throw new IllegalArgumentException("Can't manage type " + type);
+	}
+
+	static void bindCell(final PreparedStatement statement,
+						 final int parameterIndex,
+						 final TableCell cell) throws SQLException {
+		if (cell instanceof final TableCellString cellContent) {
+			statement.setString(parameterIndex, cellContent.value());
+		} else if (cell instanceof final TableCellFloat cellContent) {
+			statement.setDouble(parameterIndex, Double.parseDouble(Float.toString(cellContent.value())));
+		} else if (cell instanceof final TableCellLong cellContent2) {
+			statement.setLong(parameterIndex, cellContent2.value());
+		} else if (cell instanceof final TableCellInteger cellContent3) {
+			statement.setInt(parameterIndex, cellContent3.value());
+		} else if (cell instanceof TableCellNull) {
+			statement.setNull(parameterIndex, Types.NULL);
+		} else {
+			throw new IllegalArgumentException("Can't manage type " + cell.getClass());
+		}
+	}
+
+	private static void makeTimeIndexesOnSQL(final Table table,
+											 final Connection connection) throws SQLException {
+		final var tableName = cleanNameToFieldName(table.getTableName());
+		final var timeFields = table.getHeader().stream()
+				.map(TableSQLiteExportFormat::cleanNameToFieldName)
+				.filter(TableSQLiteExportFormat::isTimeFieldName)
+				.distinct()
+				.toList();
+		if (timeFields.isEmpty()) {
+			return;
+		}
+
+		try (final var statement = connection.createStatement()) {
+			for (final var timeField : timeFields) {
+				final var sqlIndex = "CREATE INDEX \"idx_" + tableName + "_" + timeField
+									 + "\" ON \"" + tableName + "\" (\"" + timeField + "\")";
+				log.debug("Execute SQL: {}", sqlIndex);
+				statement.executeUpdate(sqlIndex);// NOSONAR S2077
+			}
+		}
+	}
+
+	static boolean isTimeFieldName(final String fieldName) {
+		return fieldName.equals("position")
+			   || fieldName.endsWith("_time") && fieldName.endsWith("duration_time") == false;
+	}
+
 	public static String cleanNameToFieldName(final String name) {
 		return name.trim()
 				.toLowerCase()
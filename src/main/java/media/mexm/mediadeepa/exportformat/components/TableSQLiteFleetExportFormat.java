@@ -0,0 +1,146 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER_ANALYSIS;
+import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANALYSIS;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.components.OutputFileSupplier;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.ProcessingHandledData;
+import media.mexm.mediadeepa.exportformat.SharedDocumentExportFormat;
+import media.mexm.mediadeepa.exportformat.TableDocument;
+import media.mexm.mediadeepa.exportformat.components.TableSQLiteFleetWriter.FleetMedia;
+import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
+
+/**
+ * Append all the sources (scan, multiple inputs) to the same SQLite database.
+ * It only works on its own shared file: it can't write to a stream, like the other table formats.
+ */
+@Slf4j
+@Component
+public class TableSQLiteFleetExportFormat implements SharedDocumentExportFormat<TableDocument> {
+
+	private final List<TableRendererEngine> engines;
+	private final AppConfig appConfig;
+	private final NumberUtils numberUtils;
+	private final OutputFileSupplier outputFileSupplier;
+	private final TableSQLiteFleetWriter fleetWriter;
+
+	public TableSQLiteFleetExportFormat(@Autowired final List<TableRendererEngine> engines,
+										@Autowired final AppConfig appConfig,
+										@Autowired final NumberUtils numberUtils,
+										@Autowired final OutputFileSupplier outputFileSupplier,
+										@Autowired final TableSQLiteFleetWriter fleetWriter) {
+		this.engines = engines;
+		this.appConfig = appConfig;
+		this.numberUtils = numberUtils;
+		this.outputFileSupplier = outputFileSupplier;
+		this.fleetWriter = fleetWriter;
+	}
+
+	@Override
+	public String getFormatName() {
+		return "sqlitefleet";
+	}
+
+	@Override
+	public String getFormatLongName() {
+		return "SQLite database, shared and appended by all sources";
+	}
+
+	@Override
+	public Set<ProcessingHandledData> canHandleProcessingData() {
+		return Set.of(MEDIA_ANALYSIS, CONTAINER_ANALYSIS);
+	}
+
+	@Override
+	public Class<TableDocument> getSharedDocumentType() {
+		return TableDocument.class;
+	}
+
+	@Override
+	public TableDocument makeSharedDocument(final DataResult result) {
+		final var tableDocument = new TableDocument(numberUtils, result.getExportFilter());
+		engines.forEach(en -> en.addToTable(result, tableDocument));
+		return tableDocument.setReadOnly();
+	}
+
+	@Override
+	public Map<String, File> exportResult(final DataResult result, final TableDocument tableDocument) {
+		final var fleetFile = outputFileSupplier.makeSharedOutputFile(getInternalFileName());
+		final var tables = tableDocument.getTables();
+		log.debug("Start append {} tables to {}...", tables.size(), fleetFile);
+
+		final var mediaId = fleetWriter.append(fleetFile, getFleetMedia(result), tables);
+		log.debug("{} is appended to {} as media #{}", result.getSource(), fleetFile, mediaId);
+		return Map.of("tables", fleetFile);
+	}
+
+	private static FleetMedia getFleetMedia(final DataResult result) {
+		return result.getSourceFile()
+				.map(f -> new FleetMedia(f.getAbsolutePath(), f.length(), f.lastModified(), result.getSource()))
+				.orElseGet(() -> new FleetMedia(result.getSource(), 0, 0, result.getSource()));
+	}
+
+	@Override
+	public boolean canWriteSingleExport() {
+		return false;
+	}
+
+	/**
+	 * @return always false, nothing can be written here: see canWriteSingleExport
+	 */
+	@Override
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
+		log.warn("A fleet database can only be appended to its own file, nothing is written for {}",
+				internalFileName);
+		return false;
+	}
+
+	/**
+	 * Can't be used as single export, and can't be selected by a single export file name.
+	 */
+	@Override
+	public Set<String> getInternalProducedFileNames() {
+		return Set.of();
+	}
+
+	@Override
+	public boolean isProducingFile(final String internalFileName) {
+		return getInternalFileName().equals(internalFileName);
+	}
+
+	private String getInternalFileName() {
+		return appConfig.getSqliteConfig().getFleetFileName();
+	}
+
+}
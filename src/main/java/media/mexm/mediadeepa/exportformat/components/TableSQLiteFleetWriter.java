@@ -0,0 +1,358 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import static media.mexm.mediadeepa.ConstStrings.CODEC_TYPE;
+import static media.mexm.mediadeepa.ConstStrings.FLAGS;
+import static media.mexm.mediadeepa.ConstStrings.KEY_FRAME;
+import static media.mexm.mediadeepa.ConstStrings.NB_SAMPLES;
+import static media.mexm.mediadeepa.ConstStrings.PICT_TYPE;
+import static media.mexm.mediadeepa.ConstStrings.PKT_SIZE;
+import static media.mexm.mediadeepa.ConstStrings.PTS_TIME;
+import static media.mexm.mediadeepa.ConstStrings.SIZE;
+import static media.mexm.mediadeepa.ConstStrings.STREAM_INDEX;
+import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.bindCell;
+import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.cleanNameToFieldName;
+import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.toSQLType;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConfig.JournalMode;
+import org.sqlite.SQLiteConfig.SynchronousMode;
+import org.sqlite.SQLiteConfig.TempStore;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table;
+
+/**
+ * Only one thread write to the fleet databases: all the appends are queued here.
+ * Data tables get (media_id, time column) lookup indexes, or a media_id index without time column.
+ * Packets and frames tables, the biggest ones, get a covering (media_id, pts_time, queried columns) index
+ * instead: a cross media time range SELECT on these columns never reads the table rows.
+ */
+@Slf4j
+@Component
+public class TableSQLiteFleetWriter {
+
+	private static final String MEDIA_TABLE = "media";
+	private static final String MEDIA_ID = "media_id";
+	private static final Map<String, List<String>> COVERED_FIELDS_BY_TABLE = Map.of(
+			"container_packets", List.of(CODEC_TYPE, STREAM_INDEX, SIZE, FLAGS),
+			"container_video_frames", List.of(STREAM_INDEX, KEY_FRAME, PICT_TYPE, PKT_SIZE),
+			"container_audio_frames", List.of(STREAM_INDEX, NB_SAMPLES, PKT_SIZE));
+	private static final String COVERED_TIME_FIELD = cleanNameToFieldName(PTS_TIME);
+
+	private final AppConfig appConfig;
+	private final ExecutorService writer;
+	/**
+	 * Only used by the writer thread
+	 */
+	private final Map<File, Connection> connections;
+
+	public TableSQLiteFleetWriter(@Autowired final AppConfig appConfig) {
+		this.appConfig = appConfig;
+		writer = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("sqlite-fleet-writer").factory());
+		connections = new HashMap<>();
+	}
+
+	/**
+	 * @param path source path, with size and mtime, identify a media.
+	 *        Re-append a known media replace its previous rows.
+	 */
+	public record FleetMedia(String path, long size, long mtime, String source) {
+	}
+
+	/**
+	 * Blocking, until the media and all its tables are committed.
+	 * @return the media id in the fleet database
+	 */
+	public long append(final File fleetFile, final FleetMedia media, final List<Table> tables) {
+		final var future = writer.submit(() -> write(fleetFile, media, tables));
+		try {
+			return future.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted during append to " + fleetFile, e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("Can't append to SQLite fleet file " + fleetFile, e.getCause());
+		}
+	}
+
+	private long write(final File fleetFile, final FleetMedia media, final List<Table> tables) throws SQLException {
+		var connection = connections.get(fleetFile);
+		if (connection == null) {
+			connection = openConnection(fleetFile);
+			connections.put(fleetFile, connection);
+		}
+
+		try {
+			final var mediaId = upsertMedia(connection, media);
+			for (final var table : tables) {
+				appendTable(connection, mediaId, table);
+			}
+			connection.commit();
+			log.debug("Append {} tables for media #{} ({}) to {}", tables.size(), mediaId, media.path(), fleetFile);
+			return mediaId;
+		} catch (final SQLException | RuntimeException e) {
+			connection.rollback();
+			throw e;
+		}
+	}
+
+	private Connection openConnection(final File fleetFile) throws SQLException {
+		final var url = "jdbc:sqlite:" + fleetFile.getPath().replace('\\', '/');
+		final var config = appConfig.getSqliteConfig();
+
+		final var sqliteConfig = new SQLiteConfig();
+		sqliteConfig.enableLoadExtension(false);
+		sqliteConfig.setJournalMode(JournalMode.WAL);
+		sqliteConfig.setSynchronous(SynchronousMode.NORMAL);
+		sqliteConfig.setTempStore(TempStore.MEMORY);
+		sqliteConfig.setPageSize(config.getPageSize());
+		sqliteConfig.setCacheSize(-config.getCacheSizeKb());
+
+		log.info("Open SQLite fleet database {}", fleetFile);
+		final var connection = sqliteConfig.createConnection(url);
+		connection.setAutoCommit(false);
+		try (final var statement = connection.createStatement()) {
+			statement.executeUpdate("CREATE TABLE IF NOT EXISTS \"" + MEDIA_TABLE + "\" ("
+									+ "\"id\" INTEGER, "
+									+ "\"path\" TEXT NOT NULL, "
+									+ "\"size\" INTEGER NOT NULL, "
+									+ "\"mtime\" INTEGER NOT NULL, "
+									+ "\"source\" TEXT, "
+									+ "\"analysed\" INTEGER, "
+									+ "UNIQUE(\"path\", \"size\", \"mtime\"), "
+									+ "PRIMARY KEY(\"id\" AUTOINCREMENT))");
+		}
+		connection.commit();
+		return connection;
+	}
+
+	private static long upsertMedia(final Connection connection, final FleetMedia media) throws SQLException {
+		Long mediaId = null;
+		try (final var statement = connection.prepareStatement(
+				"SELECT \"id\" FROM \"" + MEDIA_TABLE + "\" WHERE \"path\" = ? AND \"size\" = ? AND \"mtime\" = ?")) {
+			statement.setString(1, media.path());
+			statement.setLong(2, media.size());
+			statement.setLong(3, media.mtime());
+			try (final var resultSet = statement.executeQuery()) {
+				if (resultSet.next()) {
+					mediaId = resultSet.getLong(1);
+				}
+			}
+		}
+
+		if (mediaId != null) {
+			log.info("Replace previous datas for {} (media #{})", media.path(), mediaId);
+			for (final var tableName : getMediaTableNames(connection)) {
+				try (final var statement = connection.prepareStatement(
+						"DELETE FROM \"" + tableName + "\" WHERE \"" + MEDIA_ID + "\" = ?")) {// NOSONAR S2077
+					statement.setLong(1, mediaId);
+					statement.executeUpdate();
+				}
+			}
+			try (final var statement = connection.prepareStatement(
+					"UPDATE \"" + MEDIA_TABLE + "\" SET \"source\" = ?, \"analysed\" = ? WHERE \"id\" = ?")) {
+				statement.setString(1, media.source());
+				statement.setLong(2, System.currentTimeMillis());
+				statement.setLong(3, mediaId);
+				statement.executeUpdate();
+			}
+			return mediaId;
+		}
+
+		try (final var statement = connection.prepareStatement(
+				"INSERT INTO \"" + MEDIA_TABLE + "\" (\"path\", \"size\", \"mtime\", \"source\", \"analysed\") "
+										+ "VALUES (?, ?, ?, ?, ?)")) {
+			statement.setString(1, media.path());
+			statement.setLong(2, media.size());
+			statement.setLong(3, media.mtime());
+			statement.setString(4, media.source());
+			statement.setLong(5, System.currentTimeMillis());
+			statement.executeUpdate();
+		}
+		try (final var statement = connection.createStatement();
+			 final var resultSet = statement.executeQuery("SELECT last_insert_rowid()")) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+
+	private static List<String> getMediaTableNames(final Connection connection) throws SQLException {
+		final var tableNames = new ArrayList<String>();
+		try (final var statement = connection.createStatement();
+			 final var resultSet = statement.executeQuery(
+					 "SELECT \"name\" FROM \"sqlite_master\" WHERE \"type\" = 'table'")) {
+			while (resultSet.next()) {
+				tableNames.add(resultSet.getString(1));
+			}
+		}
+		final var mediaTableNames = new ArrayList<String>();
+		for (final var tableName : tableNames) {
+			if (getFieldNames(connection, tableName).contains(MEDIA_ID)) {
+				mediaTableNames.add(tableName);
+			}
+		}
+		return mediaTableNames;
+	}
+
+	private static Set<String> getFieldNames(final Connection connection,
+											 final String tableName) throws SQLException {
+		final var fieldNames = new HashSet<String>();
+		try (final var statement = connection.createStatement();
+			 final var resultSet = statement.executeQuery(
+					 "PRAGMA table_info(\"" + tableName + "\")")) {// NOSONAR S2077
+			while (resultSet.next()) {
+				fieldNames.add(resultSet.getString("name"));
+			}
+		}
+		return fieldNames;
+	}
+
+	private void appendTable(final Connection connection,
+							 final long mediaId,
+							 final Table table) throws SQLException {
+		final var tableName = cleanNameToFieldName(table.getTableName());
+		final var header = table.getHeader().stream()
+				.map(TableSQLiteExportFormat::cleanNameToFieldName)
+				.toList();
+		final var rowTypes = table.getRowTypes();
+
+		final var sqlFieldsCreate = new StringJoiner(", ");
+		sqlFieldsCreate.add("\"id\" INTEGER");
+		sqlFieldsCreate.add("\"" + MEDIA_ID + "\" INTEGER NOT NULL REFERENCES \"" + MEDIA_TABLE + "\" (\"id\")");
+		for (var posHeader = 0; posHeader < header.size(); posHeader++) {
+			sqlFieldsCreate.add("\"" + header.get(posHeader) + "\" " + toSQLType(rowTypes.get(posHeader)));
+		}
+		sqlFieldsCreate.add("PRIMARY KEY(\"id\" AUTOINCREMENT)");
+
+		try (final var statement = connection.createStatement()) {
+			statement.executeUpdate("CREATE TABLE IF NOT EXISTS \"" + tableName + "\" ("
+									+ sqlFieldsCreate.toString() + ")");// NOSONAR S2077
+
+			final var actualFieldNames = getFieldNames(connection, tableName);
+			for (var posHeader = 0; posHeader < header.size(); posHeader++) {
+				final var fieldName = header.get(posHeader);
+				if (actualFieldNames.add(fieldName)) {
+					log.debug("Add missing \"{}\" column to \"{}\" table", fieldName, tableName);
+					statement.executeUpdate("ALTER TABLE \"" + tableName + "\" ADD COLUMN \""
+											+ fieldName + "\" " + toSQLType(rowTypes.get(posHeader)));// NOSONAR S2077
+				}
+			}
+
+			final var timeFieldNames = header.stream()
+					.filter(TableSQLiteExportFormat::isTimeFieldName)
+					.distinct()
+					.toList();
+			if (timeFieldNames.isEmpty()) {
+				statement.executeUpdate("CREATE INDEX IF NOT EXISTS \"idx_" + tableName + "_" + MEDIA_ID
+										+ "\" ON \"" + tableName + "\" (\"" + MEDIA_ID + "\")");// NOSONAR S2077
+			}
+			final var coveredFieldNames = getCoveredFieldNames(tableName, actualFieldNames);
+			for (final var timeFieldName : timeFieldNames) {
+				if (timeFieldName.equals(COVERED_TIME_FIELD) && coveredFieldNames.isEmpty() == false) {
+					statement.executeUpdate("CREATE INDEX IF NOT EXISTS \"idx_" + tableName + "_" + MEDIA_ID + "_"
+											+ timeFieldName + "_covering\" ON \"" + tableName + "\" (\""
+											+ MEDIA_ID + "\", \"" + timeFieldName + "\", "
+											+ coveredFieldNames + ")");// NOSONAR S2077
+					continue;
+				}
+				statement.executeUpdate("CREATE INDEX IF NOT EXISTS \"idx_" + tableName + "_" + MEDIA_ID + "_"
+										+ timeFieldName + "\" ON \"" + tableName + "\" (\"" + MEDIA_ID + "\", \""
+										+ timeFieldName + "\")");// NOSONAR S2077
+			}
+		}
+
+		final var sqlFields = new StringJoiner(", ");
+		final var sqlValues = new StringJoiner(", ");
+		sqlFields.add("\"" + MEDIA_ID + "\"");
+		sqlValues.add("?");
+		header.forEach(f -> {
+			sqlFields.add("\"" + f + "\"");
+			sqlValues.add("?");
+		});
+
+		final var rows = table.getRows();
+		final var maxBatch = appConfig.getSqliteConfig().getMaxBatchSize();
+		try (final var statement = connection.prepareStatement(
+				"INSERT INTO \"" + tableName + "\" (" + sqlFields + ") VALUES (" + sqlValues + ")")) {// NOSONAR S2077
+			var batchSize = 0;
+			for (var posRow = 0; posRow < rows.size(); posRow++) {
+				statement.setLong(1, mediaId);
+				final var cells = rows.get(posRow).getCells();
+				for (var posCell = 0; posCell < cells.size(); posCell++) {
+					bindCell(statement, posCell + 2, cells.get(posCell));
+				}
+				statement.addBatch();
+
+				if (++batchSize == maxBatch) {
+					statement.executeBatch();
+					batchSize = 0;
+				}
+			}
+			if (batchSize > 0) {
+				statement.executeBatch();
+			}
+		}
+	}
+
+	private static String getCoveredFieldNames(final String tableName, final Set<String> actualFieldNames) {
+		final var coveredFieldNames = new StringJoiner(", ");
+		coveredFieldNames.setEmptyValue("");
+		COVERED_FIELDS_BY_TABLE.getOrDefault(tableName, List.of()).stream()
+				.map(TableSQLiteExportFormat::cleanNameToFieldName)
+				.filter(actualFieldNames::contains)
+				.forEach(f -> coveredFieldNames.add("\"" + f + "\""));
+		return coveredFieldNames.toString();
+	}
+
+	@PreDestroy
+	void close() {
+		writer.close();
+		connections.forEach((fleetFile, connection) -> {
+			try {
+				connection.close();
+				log.debug("Close SQLite fleet database {}", fleetFile);
+			} catch (final SQLException e) {
+				log.warn("Can't close SQLite fleet database {}", fleetFile, e);
+			}
+		});
+		connections.clear();
+	}
+
+}
@@ -25,6 +25,7 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
 
+import org.apache.poi.ss.util.WorkbookUtil;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -34,12 +35,14 @@ import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.TableCell;
 import media.mexm.mediadeepa.exportformat.TableCellFloat;
 import media.mexm.mediadeepa.exportformat.TableCellInteger;
 import media.mexm.mediadeepa.exportformat.TableCellLong;
 import media.mexm.mediadeepa.exportformat.TableCellNull;
 import media.mexm.mediadeepa.exportformat.TableCellString;
 import media.mexm.mediadeepa.exportformat.TableDocument.Table;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table.Row;
 import media.mexm.mediadeepa.exportformat.TableExportFormat;
 import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
 
@@ -47,6 +50,9 @@ import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
 @Component
 public class TableXLSXExportFormat extends TableExportFormat {
 
+	private static final int MAX_SHEET_NAME_LENGTH = 31;
+	private static final int MAX_COLUMN_WIDTH = 255;
+
 	private final AppConfig appConfig;
 
 	public TableXLSXExportFormat(@Autowired final List<TableRendererEngine> engines,
@@ -76,8 +82,9 @@ public class TableXLSXExportFormat extends TableExportFormat {
 	public void makeDocument(final DataResult result,
 							 final List<Table> tables,
 							 final OutputStream outputStream) {
-		try (final var wb = new SXSSFWorkbook()) {
-			wb.setCompressTempFiles(false);
+		final var xlsxConfig = appConfig.getXlsxConfig();
+		try (final var wb = new SXSSFWorkbook(xlsxConfig.getRowAccessWindowSize())) {
+			wb.setCompressTempFiles(xlsxConfig.isCompressTempFiles());
 			tables.forEach(table -> makeTableOnWorkbook(wb, table));
 			wb.write(outputStream);
 		} catch (final IOException e) {
@@ -85,18 +92,98 @@ public class TableXLSXExportFormat extends TableExportFormat {
 		}
 	}
 
-	private static void makeTableOnWorkbook(final SXSSFWorkbook wb, final Table table) {
-		final var sSheet = wb.createSheet(table.getTableName());
+	private void makeTableOnWorkbook(final SXSSFWorkbook wb, final Table table) {
+		final var headers = table.getHeader();
+		final var rows = table.getRows();
+		final var columnWidths = getColumnWidths(headers, rows);
+		final var maxRowsBySheet = Math.max(1, appConfig.getXlsxConfig().getMaxRowsBySheet());
+		final var sheetCount = Math.max(1, (rows.size() + maxRowsBySheet - 1) / maxRowsBySheet);
+
+		if (sheetCount > 1) {
+			log.info("Split \"{}\" table ({} rows) on {} sheets in XLSX",
+					table.getTableName(), rows.size(), sheetCount);
+		}
+
+		for (var posSheet = 0; posSheet < sheetCount; posSheet++) {
+			final var sheetName = getSheetName(table.getTableName(), posSheet);
+			final var fromRow = posSheet * maxRowsBySheet;
+			final var toRow = Math.min(rows.size(), fromRow + maxRowsBySheet);
+			makeSheetOnWorkbook(wb, sheetName, headers, columnWidths, rows.subList(fromRow, toRow));
+		}
+	}
+
+	/**
+	 * @return a valid sheet name: invalid chars replaced, truncated to 31 chars, and suffixed by "_2", "_3"...
+	 *         after the first sheet.
+	 */
+	static String getSheetName(final String tableName, final int posSheet) {
+		final var safeName = WorkbookUtil.createSafeSheetName(tableName);
+		if (posSheet == 0) {
+			return safeName;
+		}
+		final var suffix = "_" + (posSheet + 1);
+		if (safeName.length() + suffix.length() > MAX_SHEET_NAME_LENGTH) {
+			return safeName.substring(0, MAX_SHEET_NAME_LENGTH - suffix.length()) + suffix;
+		}
+		return safeName + suffix;
+	}
+
+	/**
+	 * Only with the header and the first rows: SXSSF can't see all the rows.
+	 * @return in 1/256th of a character width
+	 */
+	private int[] getColumnWidths(final List<String> headers, final List<Row> rows) {
+		final var xlsxConfig = appConfig.getXlsxConfig();
+		final var columnWidths = new int[headers.size()];
+		for (var pos = 0; pos < headers.size(); pos++) {
+			columnWidths[pos] = headers.get(pos).length();
+		}
+
+		final var sampleRows = Math.min(rows.size(), xlsxConfig.getColumnWidthSampleRows());
+		for (var posRow = 0; posRow < sampleRows; posRow++) {
+			final var cells = rows.get(posRow).getCells();
+			for (var posCell = 0; posCell < cells.size() && posCell < columnWidths.length; posCell++) {
+				columnWidths[posCell] = Math.max(columnWidths[posCell], getCellTextLength(cells.get(posCell)));
+			}
+		}
+
+		final var maxColumnWidth = Math.min(MAX_COLUMN_WIDTH, xlsxConfig.getMaxColumnWidth());
+		for (var pos = 0; pos < columnWidths.length; pos++) {
+			columnWidths[pos] = Math.min(maxColumnWidth, columnWidths[pos] + 2) * 256;
+		}
+		return columnWidths;
+	}
+
+	private static int getCellTextLength(final TableCell cell) {
+		if (cell instanceof final TableCellString cellContent) {
+			return cellContent.value().length();
+		} else if (cell instanceof final TableCellFloat cellContent) {
+			return String.valueOf(cellContent.value()).length();
+		} else if (cell instanceof final TableCellLong cellContent2) {
+			return String.valueOf(cellContent2.value()).length();
+		} else if (cell instanceof final TableCellInteger cellContent3) {
+			return String.valueOf(cellContent3.value()).length();
+		}
+		return 0;
+	}
+
+	private static void makeSheetOnWorkbook(final SXSSFWorkbook wb,
+											final String sheetName,
+											final List<String> headers,
+											final int[] columnWidths,
+											final List<Row> rows) {
+		final var sSheet = wb.createSheet(sheetName);
+		for (var pos = 0; pos < columnWidths.length; pos++) {
+			sSheet.setColumnWidth(pos, columnWidths[pos]);
+		}
 
 		final var sRowHeader = sSheet.createRow(0);
-		final var headers = table.getHeader();
 		for (var pos = 0; pos < headers.size(); pos++) {
 			final var sCellHeader = sRowHeader.createCell(pos, STRING);
 			sCellHeader.setCellValue(headers.get(pos));
 		}
 
-		final var rows = table.getRows();
-		log.debug("Add {} rows to \"{}\" sheet in XLSX", rows.size(), table.getTableName());
+		log.debug("Add {} rows to \"{}\" sheet in XLSX", rows.size(), sheetName);
 
 		for (var posRow = 0; posRow < rows.size(); posRow++) {
 			final var sRow = sSheet.createRow(posRow + 1);
@@ -126,17 +213,11 @@ public class TableXLSXExportFormat extends TableExportFormat {
 			}
 		}
 
-		sSheet.trackAllColumnsForAutoSizing();
-		for (var pos = 0; pos < headers.size(); pos++) {
-			sSheet.autoSizeColumn(pos);
-		}
-		sSheet.untrackAllColumnsForAutoSizing();
-
 		try {
-			log.trace("Flush export \"{}\" sheet in XLSX", table.getTableName());
+			log.trace("Flush export \"{}\" sheet in XLSX", sheetName);
 			sSheet.flushRows();
 		} catch (final IOException e) {
-			throw new UncheckedIOException("Can't flush " + table.getTableName(), e);
+			throw new UncheckedIOException("Can't flush " + sheetName, e);
 		}
 	}
 
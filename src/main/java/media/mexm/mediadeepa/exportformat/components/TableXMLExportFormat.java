@@ -16,20 +16,26 @@
  */
 package media.mexm.mediadeepa.exportformat.components;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.ENGLISH;
 import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.cleanNameToFieldName;
 
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
-import javax.xml.stream.XMLEventFactory;
-import javax.xml.stream.XMLEventWriter;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import lombok.extern.slf4j.Slf4j;
+import media.mexm.mediadeepa.components.FastDecimalFormat;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.components.OutputFileSupplier;
 import media.mexm.mediadeepa.config.AppConfig;
@@ -49,9 +55,10 @@ import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
 public class TableXMLExportFormat extends TableExportFormat {
 
 	private static final String REPORT = "report";
+	private static final int BUFFER_SIZE = 0xFFFF;
+	private static final FastDecimalFormat FLOAT_FORMAT = new FastDecimalFormat(5, ENGLISH);
 
 	private final AppConfig appConfig;
-	private final XMLEventFactory xml;
 
 	public TableXMLExportFormat(@Autowired final List<TableRendererEngine> engines,
 								@Autowired final AppConfig appConfig,
@@ -59,7 +66,6 @@ public class TableXMLExportFormat extends TableExportFormat {
 								@Autowired final OutputFileSupplier outputFileSupplier) {
 		super(engines, numberUtils, outputFileSupplier);
 		this.appConfig = appConfig;
-		xml = XMLEventFactory.newInstance();
 	}
 
 	@Override
@@ -72,102 +78,118 @@ public class TableXMLExportFormat extends TableExportFormat {
 		return "XML Document";
 	}
 
+	@Override
+	protected void makeDocument(final DataResult result,
+								final List<Table> tables,
+								final File outputFile) {
+		try (var outputStream = new BufferedOutputStream(
+				outputFileSupplier.openOutputStream(result, outputFile), BUFFER_SIZE)) {
+			makeDocument(result, tables, outputStream);
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write XML file " + outputFile, e);
+		}
+	}
+
 	@Override
 	public void makeDocument(final DataResult result,
 							 final List<Table> tables,
 							 final OutputStream outputStream) {
 		try {
 			final var writer = XMLOutputFactory.newInstance()
-					.createXMLEventWriter(outputStream);
-			writer.add(xml.createStartDocument());
-			writer.add(xml.createStartElement("", null, REPORT));
+					.createXMLStreamWriter(outputStream, UTF_8.name());
+			writer.writeStartDocument(UTF_8.name(), "1.0");
+			writer.writeStartElement(REPORT);
 
-			for (var posTable = 0; posTable < tables.size(); posTable++) {
-				makeTable(tables, writer, posTable);
+			final var sb = new StringBuilder();
+			for (final var table : tables) {
+				makeTable(writer, table, sb);
 			}
 
-			writer.add(xml.createEndElement("", null, REPORT));
-			writer.add(xml.createEndDocument());
+			writer.writeEndElement();
+			writer.writeEndDocument();
 
+			writer.flush();
 			writer.close();
 		} catch (final XMLStreamException e) {
 			throw new IllegalStateException("Can't write XML file", e);
 		}
 	}
 
-	private void makeTable(final List<Table> tables,
-						   final XMLEventWriter writer,
-						   final int posTable) throws XMLStreamException {
-		final var table = tables.get(posTable);
+	private static void makeTable(final XMLStreamWriter writer,
+								  final Table table,
+								  final StringBuilder sb) throws XMLStreamException {
 		final var rows = table.getRows();
 		log.debug("Add {} rows to \"{}\" sheet in XML", rows.size(), table.getTableName());
 
-		writer.add(xml.createStartElement("", null, "table"));
-		writer.add(xml.createAttribute("", null, "name", cleanNameToFieldName(table.getTableName())));
-		writer.add(xml.createAttribute("", null, "long-name", table.getTableName()));
+		writer.writeStartElement("table");
+		writer.writeAttribute("name", cleanNameToFieldName(table.getTableName()));
+		writer.writeAttribute("long-name", table.getTableName());
 
-		writer.add(xml.createStartElement("", null, "headers"));
+		writer.writeStartElement("headers");
 		final var header = table.getHeader();
 		final var rowTypes = table.getRowTypes();
+		final var headerNames = new String[header.size()];
 		for (var pos = 0; pos < header.size(); pos++) {
 			final var headerLongName = header.get(pos);
 			final var type = rowTypes.get(pos);
-			writer.add(xml.createStartElement("", null, "header"));
-			writer.add(xml.createAttribute("", null, "name", cleanNameToFieldName(headerLongName)));
-			writer.add(xml.createAttribute("", null, "long-name", headerLongName));
+			headerNames[pos] = cleanNameToFieldName(headerLongName);
+
+			writer.writeEmptyElement("header");
+			writer.writeAttribute("name", headerNames[pos]);
+			writer.writeAttribute("long-name", headerLongName);
 
 			if (type == TableCellString.class) {
-				writer.add(xml.createAttribute("", null, "type", "string"));
+				writer.writeAttribute("type", "string");
 			} else if (type == TableCellFloat.class) {
-				writer.add(xml.createAttribute("", null, "type", "float"));
+				writer.writeAttribute("type", "float");
 			} else if (type == TableCellLong.class) {
-				writer.add(xml.createAttribute("", null, "type", "long"));
+				writer.writeAttribute("type", "long");
 			} else if (type == TableCellInteger.class) {
-				writer.add(xml.createAttribute("", null, "type", "int"));
+				writer.writeAttribute("type", "int");
 			} else {
-				writer.add(xml.createAttribute("", null, "type", "undefinited"));
+				writer.writeAttribute("type", "undefinited");
 			}
-			writer.add(xml.createEndElement("", null, "header"));
 		}
-		writer.add(xml.createEndElement("", null, "headers"));
+		writer.writeEndElement();
 
 		for (var posRow = 0; posRow < rows.size(); posRow++) {
-			makeRow(writer, header, rows, posRow);
+			makeRow(writer, headerNames, rows.get(posRow), sb);
 		}
 
-		writer.add(xml.createEndElement("", null, "table"));
+		writer.writeEndElement();
 	}
 
-	private void makeRow(final XMLEventWriter writer,
-						 final List<String> header,
-						 final List<Row> rows,
-						 final int posRow) throws XMLStreamException {
-		final var row = rows.get(posRow);
-		writer.add(xml.createStartElement("", null, "entry"));
+	private static void makeRow(final XMLStreamWriter writer,
+								final String[] headerNames,
+								final Row row,
+								final StringBuilder sb) throws XMLStreamException {
+		writer.writeEmptyElement("entry");
 
 		final var cells = row.getCells();
 		for (var posCell = 0; posCell < cells.size(); posCell++) {
 			final var cell = cells.get(posCell);
-			final var headerName = cleanNameToFieldName(header.get(posCell));
+			final var headerName = headerNames[posCell];
 
 			if (cell instanceof final TableCellString cellContent) {
-				writer.add(xml.createAttribute("", null, headerName, cellContent.value()));
+				writer.writeAttribute(headerName, cellContent.value());
 			} else if (cell instanceof final TableCellFloat cellContent) {
-				writer.add(xml.createAttribute("", null, headerName,
-						numberUtils.formatDecimalSimple5En(cellContent.value())));
+				sb.setLength(0);
+				writer.writeAttribute(headerName, FLOAT_FORMAT.append(sb, cellContent.value()).toString());
 			} else if (cell instanceof final TableCellLong cellContent2) {
-				writer.add(xml.createAttribute("", null, headerName,
-						String.valueOf(cellContent2.value())));
+				writer.writeAttribute(headerName, String.valueOf(cellContent2.value()));
 			} else if (cell instanceof final TableCellInteger cellContent3) {
-				writer.add(xml.createAttribute("", null, headerName,
-						String.valueOf(cellContent3.value())));
+				writer.writeAttribute(headerName, String.valueOf(cellContent3.value()));
 			} else if (cell instanceof TableCellNull) {
-				writer.add(xml.createAttribute("", null, headerName, ""));
+				writer.writeAttribute(headerName, "");
 			} else {
 				throw new IllegalArgumentException("Can't manage type " + cell.getClass());
 			}
 		}
-		writer.add(xml.createEndElement("", null, "entry"));
+	}
+
+	@Override
+	protected boolean isCompressibleDocument() {
+		return true;
 	}
 
 	@Override
@@ -22,7 +22,10 @@ import static com.opencsv.ICSVParser.DEFAULT_SEPARATOR;
 import static com.opencsv.ICSVWriter.RFC4180_LINE_END;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.io.StringWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -64,8 +67,10 @@ public class TabularCSVExportFormat extends TabularTXTExportFormat {
 	}
 
 	@Override
-	public byte[] getDocument(final List<String> header, final List<List<String>> lines) {
-		final var writer = new StringWriter();
+	public void writeDocument(final List<String> header,
+							  final List<List<String>> lines,
+							  final OutputStream outputStream) {
+		final var writer = new OutputStreamWriter(outputStream, UTF_8);
 		final var csvWriter = prepareCSVWriter(new CSVWriterBuilder(writer)).build();
 
 		final var nextLine = new String[header.size()];
@@ -77,8 +82,11 @@ public class TabularCSVExportFormat extends TabularTXTExportFormat {
 			csvWriter.writeNext(nextLine, false);
 		});
 
-		csvWriter.flushQuietly();
-		return writer.toString().getBytes(UTF_8);
+		try {
+			csvWriter.flush();
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write csv document", e);
+		}
 	}
 
 	protected CSVWriterBuilder prepareCSVWriter(final CSVWriterBuilder csvWriter) {
@@ -18,8 +18,13 @@ package media.mexm.mediadeepa.exportformat.components;
 
 import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.joining;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -73,13 +78,29 @@ public class TabularTXTExportFormat extends TabularExportFormat {
 	}
 
 	@Override
-	public byte[] getDocument(final List<String> header, final List<List<String>> lines) {
-		final var head = header.stream().collect(joining("\t"));
-		final var doc = lines.stream()
-				.map(r -> r.stream().collect(joining("\t")))
-				.collect(joining(lineSeparator()));
-		final var document = head + lineSeparator() + doc + lineSeparator();
-		return document.getBytes(UTF_8);
+	public void writeDocument(final List<String> header,
+							  final List<List<String>> lines,
+							  final OutputStream outputStream) {
+		final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+		try {
+			writeLine(writer, header);
+			for (var pos = 0; pos < lines.size(); pos++) {
+				writeLine(writer, lines.get(pos));
+			}
+			writer.flush();
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write txt document", e);
+		}
+	}
+
+	private static void writeLine(final Writer writer, final List<String> line) throws IOException {
+		for (var pos = 0; pos < line.size(); pos++) {
+			if (pos > 0) {
+				writer.write('\t');
+			}
+			writer.write(line.get(pos));
+		}
+		writer.write(lineSeparator());
 	}
 
 }
@@ -0,0 +1,228 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.report;
+
+import static j2html.TagCreator.attrs;
+import static j2html.TagCreator.canvas;
+import static j2html.TagCreator.figcaption;
+import static j2html.TagCreator.figure;
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.minMaxIndexes;
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.select;
+
+import java.awt.BasicStroke;
+import java.awt.Dimension;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import j2html.tags.DomContent;
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.exportformat.ChartData.ChartMarker;
+import media.mexm.mediadeepa.exportformat.ChartGraphicWrapper;
+
+/**
+ * A graphic drawn by the report script in the browser, from downsampled series datas,
+ * instead of a server side rendered image.
+ * @param rangeMin NaN for an automatic range
+ * @param rangeMax NaN for an automatic range
+ */
+public record ChartReportEntry(DomContentProvider caption,
+							   int displayWidth,
+							   int displayHeight,
+							   boolean timeDomain,
+							   boolean logarithmic,
+							   boolean stacked,
+							   double rangeMin,
+							   double rangeMax,
+							   List<Double> markers,
+							   List<ChartSeries> series) implements ReportEntry {
+
+	/**
+	 * @param x in milliseconds for a time domain
+	 */
+	public record ChartSeries(String name, String color, float lineWidth, double[] x, double[] y) {
+	}
+
+	/**
+	 * Each series is reduced to the min and max values for each display pixel column.
+	 * Stacked series share the same selected points, chosen on the stacked total.
+	 */
+	public static ChartReportEntry create(final ChartGraphicWrapper graphic,
+										  final Dimension imageSize,
+										  final int displayWidth) {
+		final var data = graphic.data();
+		final var dataSeries = data.series();
+		final var stacked = data.stacked();
+
+		int[] stackedIndexes = null;
+		if (stacked && dataSeries.isEmpty() == false) {
+			final var totals = new double[dataSeries.get(0).y().length];
+			for (final var s : dataSeries) {
+				final var values = s.y();
+				for (var pos = 0; pos < Math.min(totals.length, values.length); pos++) {
+					if (Double.isNaN(values[pos]) == false) {
+						totals[pos] += values[pos];
+					}
+				}
+			}
+			stackedIndexes = minMaxIndexes(totals, displayWidth);
+		}
+
+		final var scale = (float) displayWidth / (float) imageSize.width;
+		final var series = new ArrayList<ChartSeries>(dataSeries.size());
+		for (final var s : dataSeries) {
+			final var style = s.style();
+			var lineWidth = 1f;
+			if (style.getStroke() instanceof final BasicStroke stroke) {
+				lineWidth = Math.max(1f, stroke.getLineWidth() * scale);
+			}
+			var indexes = stackedIndexes;
+			if (indexes == null) {
+				indexes = minMaxIndexes(s.y(), displayWidth);
+			}
+			series.add(new ChartSeries(
+					style.getName(),
+					style.getCSSColor(),
+					lineWidth,
+					select(s.x(), indexes),
+					select(s.y(), indexes)));
+		}
+
+		final var fixedRange = data.getFixedRange();
+		return new ChartReportEntry(
+				graphic,
+				displayWidth,
+				Math.round((float) displayWidth / (float) imageSize.width * imageSize.height),
+				data.timeDomain(),
+				data.logarithmic(),
+				stacked,
+				fixedRange.map(r -> r[0]).orElse(Double.NaN),
+				fixedRange.map(r -> r[1]).orElse(Double.NaN),
+				data.markers().stream().map(ChartMarker::value).toList(),
+				List.copyOf(series));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return series.isEmpty();
+	}
+
+	@Override
+	public DomContent toDomContent(final NumberUtils numberUtils) {
+		return figure(attrs(".chart"),
+				canvas()
+						.withWidth(String.valueOf(displayWidth))
+						.withHeight(String.valueOf(displayHeight))
+						.attr("data-chart", toJsonData()),
+				figcaption(caption.toDomContent(numberUtils)));
+	}
+
+	/**
+	 * Compact JSON for the report script: NaN/infinite values are set to null.
+	 */
+	public String toJsonData() {
+		final var sb = new StringBuilder();
+		sb.append("{\"time\":").append(timeDomain);
+		sb.append(",\"log\":").append(logarithmic);
+		sb.append(",\"stacked\":").append(stacked);
+		sb.append(",\"min\":");
+		appendNumber(sb, rangeMin);
+		sb.append(",\"max\":");
+		appendNumber(sb, rangeMax);
+		sb.append(",\"markers\":[");
+		for (var pos = 0; pos < markers.size(); pos++) {
+			if (pos > 0) {
+				sb.append(',');
+			}
+			appendNumber(sb, markers.get(pos));
+		}
+		sb.append("],\"series\":[");
+		for (var pos = 0; pos < series.size(); pos++) {
+			final var s = series.get(pos);
+			if (pos > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"name\":\"");
+			JsonStringEncoder.getInstance().quoteAsString(s.name(), sb);
+			sb.append("\",\"color\":\"").append(s.color());
+			sb.append("\",\"width\":");
+			appendNumber(sb, s.lineWidth());
+			sb.append(",\"x\":");
+			appendNumbers(sb, s.x());
+			sb.append(",\"y\":");
+			appendNumbers(sb, s.y());
+			sb.append('}');
+		}
+		sb.append("]}");
+		return sb.toString();
+	}
+
+	private static void appendNumbers(final StringBuilder sb, final double[] values) {
+		sb.append('[');
+		for (var pos = 0; pos < values.length; pos++) {
+			if (pos > 0) {
+				sb.append(',');
+			}
+			appendNumber(sb, values[pos]);
+		}
+		sb.append(']');
+	}
+
+	private static void appendNumber(final StringBuilder sb, final double value) {
+		if (Double.isFinite(value) == false) {
+			sb.append("null");
+		} else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+			sb.append((long) value);
+		} else {
+			sb.append((float) value);
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(caption);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		final var other = (ChartReportEntry) obj;
+		return Objects.equals(caption, other.caption);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("ChartReportEntry [caption=");
+		builder.append(caption);
+		builder.append(", series=");
+		builder.append(series.size());
+		builder.append("]");
+		return builder.toString();
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.report;
+
+import static j2html.TagCreator.attrs;
+import static j2html.TagCreator.div;
+import static j2html.TagCreator.each;
+import static j2html.TagCreator.li;
+import static j2html.TagCreator.span;
+import static j2html.TagCreator.ul;
+import static media.mexm.mediadeepa.exportformat.report.EventReportEntry.haveScope;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import j2html.tags.DomContent;
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.exportformat.BoundedEventList.DurationEvent;
+import media.mexm.mediadeepa.exportformat.BoundedEventList.DurationHistogramBucket;
+import media.mexm.mediadeepa.exportformat.BoundedEventList.EventsOverflow;
+import tv.hd3g.fflauncher.filtering.lavfimtd.LavfiMtdEvent;
+
+public record EventsOverflowReportEntry(String eventType, EventsOverflow<LavfiMtdEvent> overflow)
+									   implements ReportEntry, JsonContentProvider {
+
+	@Override
+	public boolean isEmpty() {
+		return overflow == null || overflow.count() == 0;
+	}
+
+	private static String getSeconds(final Duration duration, final NumberUtils numberUtils) {
+		return numberUtils.formatDecimalSimple5En(duration.toMillis() / 1000d) + " s";
+	}
+
+	private static String getLongestEvent(final DurationEvent<LavfiMtdEvent> event, final NumberUtils numberUtils) {
+		final var mtdEvent = event.event();
+		final var scope = haveScope(mtdEvent) ? " (" + mtdEvent.scope() + ")" : "";
+		return numberUtils.durationToString(mtdEvent.start()) + scope
+			   + ", during " + numberUtils.durationToString(event.duration());
+	}
+
+	private static String getHistogramBucket(final DurationHistogramBucket bucket, final NumberUtils numberUtils) {
+		final var range = bucket.to()
+				.map(to -> getSeconds(bucket.from(), numberUtils) + " to " + getSeconds(to, numberUtils))
+				.orElseGet(() -> getSeconds(bucket.from(), numberUtils) + " and more");
+		return range + ": " + bucket.count();
+	}
+
+	@Override
+	public DomContent toDomContent(final NumberUtils numberUtils) {
+		return each(
+				div(attrs(".entry"),
+						span(attrs(".key"), eventType + ", not listed"),
+						span(attrs(".value"), numberUtils.valueToString(overflow.count())),
+						span(attrs(".unit"), " event(s), for a total duration of "
+											 + numberUtils.durationToString(overflow.totalDuration()))),
+				div(attrs(".entry"),
+						span(attrs(".key"), "Longest not listed events"),
+						ul(attrs(".value"), each(overflow.longest().stream()
+								.map(event -> li(getLongestEvent(event, numberUtils)))))),
+				div(attrs(".entry"),
+						span(attrs(".key"), "Not listed events by duration"),
+						ul(attrs(".value"), each(overflow.histogram().stream()
+								.filter(bucket -> bucket.count() > 0)
+								.map(bucket -> li(getHistogramBucket(bucket, numberUtils)))))));
+	}
+
+	@Override
+	public void toJson(final JsonGenerator gen,
+					   final SerializerProvider provider) throws IOException {
+		gen.writeObjectFieldStart(jsonHeader("events_overflow_" + eventType));
+		gen.writeStringField("type", eventType);
+		gen.writeNumberField("count", overflow.count());
+		gen.writeNumberField("total_duration", overflow.totalDuration().toMillis());
+
+		gen.writeArrayFieldStart("longest");
+		for (final var event : overflow.longest()) {
+			gen.writeStartObject();
+			if (haveScope(event.event())) {
+				gen.writeStringField("scope", event.event().scope());
+			}
+			gen.writeNumberField("start", event.event().start().toMillis());
+			gen.writeNumberField("duration", event.duration().toMillis());
+			gen.writeEndObject();
+		}
+		gen.writeEndArray();
+
+		gen.writeArrayFieldStart("histogram");
+		for (final var bucket : overflow.histogram()) {
+			gen.writeStartObject();
+			gen.writeNumberField("from", bucket.from().toMillis());
+			if (bucket.to().isPresent()) {
+				gen.writeNumberField("to", bucket.to().get().toMillis());
+			}
+			gen.writeNumberField("count", bucket.count());
+			gen.writeEndObject();
+		}
+		gen.writeEndArray();
+
+		gen.writeEndObject();
+	}
+
+}
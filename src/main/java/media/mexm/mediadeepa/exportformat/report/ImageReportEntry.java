@@ -20,7 +20,7 @@ import static j2html.TagCreator.attrs;
 import static j2html.TagCreator.figcaption;
 import static j2html.TagCreator.figure;
 import static j2html.TagCreator.img;
-import static org.apache.commons.codec.binary.Base64.encodeBase64String;
+import static media.mexm.mediadeepa.exportformat.report.ReportImageLinker.EMBEDDED;
 
 import java.util.Objects;
 
@@ -29,9 +29,13 @@ import j2html.tags.specialized.ImgTag;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.ImageArtifact;
 
+/**
+ * @param internalFileName the file name to use if the image is linked instead of embedded in the report
+ */
 public record ImageReportEntry(ImageArtifact image,
 							   DomContentProvider caption,
-							   int displayWidth) implements ReportEntry {
+							   int displayWidth,
+							   String internalFileName) implements ImagesReportEntry {
 
 	@Override
 	public boolean isEmpty() {
@@ -39,14 +43,18 @@ public record ImageReportEntry(ImageArtifact image,
 	}
 
 	@Override
-	public DomContent toDomContent(final NumberUtils numberUtils) {
-		final var img = makeEmbeddedHTMLImage("Image " + image.name());
+	public DomContent toDomContent(final NumberUtils numberUtils, final ReportImageLinker imageLinker) {
+		final var img = makeHTMLImage("Image " + image.name(), imageLinker);
 		return figure(attrs(".image"),
 				img,
 				figcaption(caption.toDomContent(numberUtils)));
 	}
 
 	public ImgTag makeEmbeddedHTMLImage(final String alt) {
+		return makeHTMLImage(alt, EMBEDDED);
+	}
+
+	public ImgTag makeHTMLImage(final String alt, final ReportImageLinker imageLinker) {
 		final var imageWidth = image.size().width;
 		final var imageHeight = image.size().height;
 
@@ -56,7 +64,8 @@ public record ImageReportEntry(ImageArtifact image,
 				.withAlt(alt)
 				.withWidth(String.valueOf(displayWidth))
 				.withHeight(String.valueOf(displayHeight))
-				.withSrc("data:" + image.contentType() + ";base64," + encodeBase64String(image.data()));
+				.withSrc(imageLinker.getSource(image, internalFileName))
+				.attr("loading", "lazy");
 	}
 
 	@Override
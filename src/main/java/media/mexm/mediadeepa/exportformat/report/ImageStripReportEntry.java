@@ -21,24 +21,29 @@ import static j2html.TagCreator.div;
 import static j2html.TagCreator.each;
 import static j2html.TagCreator.figure;
 import static j2html.TagCreator.img;
-import static org.apache.commons.codec.binary.Base64.encodeBase64String;
+import static media.mexm.mediadeepa.exportformat.GraphicArtifact.DOT_JPEG;
+import static media.mexm.mediadeepa.exportformat.GraphicArtifact.DOT_PNG;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import j2html.tags.DomContent;
 import j2html.tags.specialized.ImgTag;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.ImageArtifact;
 
-public record ImageStripReportEntry(List<ImageArtifact> images) implements ReportEntry {
+public record ImageStripReportEntry(List<ImageArtifact> images) implements ImagesReportEntry {
 
 	@Override
-	public DomContent toDomContent(final NumberUtils numberUtils) {
-		final var fullStrip = each(images.stream().map(this::makeEmbeddedHTMLImage));
+	public DomContent toDomContent(final NumberUtils numberUtils, final ReportImageLinker imageLinker) {
+		final var fullStrip = each(IntStream.range(0, images.size())
+				.mapToObj(pos -> makeHTMLImage(images.get(pos), pos, imageLinker)));
 		return figure(attrs(".imagestrip"), div(fullStrip));
 	}
 
-	private ImgTag makeEmbeddedHTMLImage(final ImageArtifact image) {
+	private static ImgTag makeHTMLImage(final ImageArtifact image,
+										final int pos,
+										final ReportImageLinker imageLinker) {
 		final var imageWidth = image.size().width;
 		final var imageHeight = image.size().height;
 
@@ -46,7 +51,9 @@ public record ImageStripReportEntry(List<ImageArtifact> images) implements Repor
 				.withAlt("Image strip")
 				.withWidth(String.valueOf(imageWidth))
 				.withHeight(String.valueOf(imageHeight))
-				.withSrc("data:" + image.contentType() + ";base64," + encodeBase64String(image.data()));
+				.withSrc(imageLinker.getSource(image,
+						"report-image-strip-" + (pos + 1) + (image.isJPEG() ? DOT_JPEG : DOT_PNG)))
+				.attr("loading", "lazy");
 	}
 
 	@Override
@@ -0,0 +1,33 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.report;
+
+import static media.mexm.mediadeepa.exportformat.report.ReportImageLinker.EMBEDDED;
+
+import j2html.tags.DomContent;
+import media.mexm.mediadeepa.components.NumberUtils;
+
+public interface ImagesReportEntry extends ReportEntry {
+
+	DomContent toDomContent(NumberUtils numberUtils, ReportImageLinker imageLinker);
+
+	@Override
+	default DomContent toDomContent(final NumberUtils numberUtils) {
+		return toDomContent(numberUtils, EMBEDDED);
+	}
+
+}
@@ -46,6 +46,7 @@ public sealed interface JsonContentProvider
 											KeyPreValueReportEntry,
 											EventReportEntry,
 											EventReportEntryHeader,
+											EventsOverflowReportEntry,
 											CropEventTableReportEntry,
 											CropEventReportEntry,
 											ReportEntryStream,
@@ -19,7 +19,6 @@ package media.mexm.mediadeepa.exportformat.report;
 import static j2html.TagCreator.a;
 import static j2html.TagCreator.article;
 import static j2html.TagCreator.attrs;
-import static j2html.TagCreator.body;
 import static j2html.TagCreator.div;
 import static j2html.TagCreator.each;
 import static j2html.TagCreator.footer;
@@ -27,11 +26,9 @@ import static j2html.TagCreator.h1;
 import static j2html.TagCreator.h2;
 import static j2html.TagCreator.head;
 import static j2html.TagCreator.header;
-import static j2html.TagCreator.html;
 import static j2html.TagCreator.img;
 import static j2html.TagCreator.li;
 import static j2html.TagCreator.link;
-import static j2html.TagCreator.main;
 import static j2html.TagCreator.meta;
 import static j2html.TagCreator.nav;
 import static j2html.TagCreator.script;
@@ -45,13 +42,16 @@ import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.AB
 import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.SUMMARY;
 
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -60,43 +60,103 @@ import org.springframework.core.io.Resource;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 
+import j2html.rendering.FlatHtml;
+import j2html.tags.DomContent;
+import j2html.tags.specialized.ArticleTag;
 import media.mexm.mediadeepa.ConstStrings;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.components.RendererEngineComparator;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
 
+/**
+ * Built once for a DataResult, then read only: it can be rendered (HTML, JSON) several times, concurrently.
+ */
 public final class ReportDocument implements ConstStrings, JsonContentProvider {
 
 	private final String source;
+	private final ZonedDateTime creationDate;
+	private volatile boolean readOnly;
 
 	private final List<ReportSection> sections;
 	private final ReportSection summarySection;
 	private final ReportSection aboutSection;
 
+	/**
+	 * Engines are run concurrently if parallelism is more than 1, each in its own document buffer,
+	 * then merged in the rendererEngineComparator order.
+	 */
 	public ReportDocument(final DataResult result,
 						  final List<ReportRendererEngine> engines,
-						  final RendererEngineComparator rendererEngineComparator) {
-		source = result.getSource();
+						  final RendererEngineComparator rendererEngineComparator,
+						  final int parallelism) {
+		this(result.getSource());
+		final var sortedEngines = engines.stream()
+				.sorted(rendererEngineComparator)
+				.toList();
+
+		if (parallelism < 2 || sortedEngines.size() < 2) {
+			sortedEngines.forEach(engine -> engine.addToReport(result, this));
+		} else {
+			try (var executor = Executors.newFixedThreadPool(Math.min(parallelism, sortedEngines.size()),
+					Thread.ofPlatform().name("report-", 0).factory())) {
+				sortedEngines.stream()
+						.map(engine -> CompletableFuture.supplyAsync(() -> {
+							final var engineDocument = new ReportDocument(source);
+							engine.addToReport(result, engineDocument);
+							return engineDocument;
+						}, executor))
+						.toList()
+						.forEach(engineDocument -> merge(join(engineDocument)));
+			}
+		}
+		result.resultMetadatasToReportDocument(this);
+		readOnly = true;
+	}
+
+	private ReportDocument(final String source) {
+		this.source = source;
+		creationDate = ZonedDateTime.now();
 		sections = new ArrayList<>();
 		summarySection = new ReportSection(SUMMARY, "Media summary");
 		aboutSection = new ReportSection(ABOUT, ABOUT_THIS_DOCUMENT);
+	}
 
-		engines.stream()
-				.sorted(rendererEngineComparator)
-				.forEach(engine -> engine.addToReport(result, this));
-		result.resultMetadatasToReportDocument(this);
+	private static ReportDocument join(final CompletableFuture<ReportDocument> engineDocument) {
+		try {
+			return engineDocument.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private void merge(final ReportDocument engineDocument) {
+		sections.addAll(engineDocument.sections);
+		summarySection.addAll(engineDocument.summarySection);
+		aboutSection.addAll(engineDocument.aboutSection);
+	}
+
+	private void checkWritable() {
+		if (readOnly) {
+			throw new IllegalStateException("This report document is read only");
+		}
 	}
 
 	public void add(final ReportSection section) {
+		checkWritable();
 		sections.add(Objects.requireNonNull(section, "\"section\" can't to be null"));
 	}
 
 	public void addSummarySection(final ReportEntry reportEntry) {
+		checkWritable();
 		summarySection.add(reportEntry);
 	}
 
 	public void addAboutSection(final ReportEntry reportEntry) {
+		checkWritable();
 		aboutSection.add(reportEntry);
 	}
 
@@ -106,86 +166,84 @@ public final class ReportDocument implements ConstStrings, JsonContentProvider {
 				.sorted((l, r) -> l.getCategory().compareTo(r.getCategory()));
 	}
 
-	public String toHTML(final Resource cssHTMLReportResource,
-						 final Resource jsHTMLReportResource,
-						 final NumberUtils numberUtils) {
-		var documentCSS = "";
-		var documentJS = "";
-		try {
-			documentCSS = cssHTMLReportResource.getContentAsString(UTF_8);
-			documentJS = jsHTMLReportResource.getContentAsString(UTF_8);
-		} catch (final IOException e) {
-			throw new UncheckedIOException("Can't get CSS file from resources", e);
+	/**
+	 * Render the HTML document section by section to writer,
+	 * without keeping the full DOM tree and the full text in memory.
+	 * Don't close writer here.
+	 */
+	public void writeHTML(final Resource cssHTMLReportResource,
+						  final Resource jsHTMLReportResource,
+						  final NumberUtils numberUtils,
+						  final ReportImageLinker imageLinker,
+						  final Writer writer) throws IOException {
+		final var documentCSS = cssHTMLReportResource.getContentAsString(UTF_8);
+		final var documentJS = jsHTMLReportResource.getContentAsString(UTF_8);
+
+		writer.write("<!DOCTYPE html>\r\n<html lang=\"en\">");
+		render(head(
+				title(source + " :: Mediadeepa report"),
+				meta()
+						.withName("viewport")
+						.withContent("width=device-width, initial-scale=1.0"),
+				meta()
+						.withData(HTTP_EQUIV, "Content-Type")
+						.withContent("text/html; charset=UTF-8"),
+				style(documentCSS).withType("text/css"),
+				script(documentJS),
+				link()
+						.withMedia("all")
+						.withRel("stylesheet")
+						.withHref("style.css")), writer);
+
+		writer.write("<body>");
+		render(header(
+				h1(MEDIADEEPA_REPORT_DOCUMENT),
+				new SimpleKeyValueReportEntry(TARGET_SOURCE, source)
+						.toDomContent(numberUtils),
+				new SimpleKeyValueReportEntry(DOCUMENT_CREATION_DATE,
+						Date.from(creationDate.toInstant()).toString())
+								.toDomContent(numberUtils),
+				summarySection
+						.toDomContent(numberUtils, imageLinker)), writer);
+
+		final var activeSections = getActiveSectionStream().toList();
+		render(nav(
+				a().withId("top"),
+				h2("🗃 Table of content"),
+				ul(each(
+						each(activeSections.stream()
+								.map(section -> li(
+										a(section.getCategory().getEmoji() + " " + section.getTitle())
+												.withHref("#" + section.getSectionAnchorName())))),
+						li(a(aboutSection.getCategory().getEmoji() + " " + aboutSection.getTitle())
+								.withHref("#" + aboutSection.getSectionAnchorName()))))), writer);
+
+		writer.write("<main>");
+		for (final var section : activeSections) {
+			render(makeArticle(section, numberUtils, imageLinker), writer);
 		}
+		render(div(attrs(".image-modal-popup"),
+				div(attrs(".wrapper"), img())), writer);
+		writer.write("</main>");
+
+		render(footer(makeArticle(aboutSection, numberUtils, imageLinker)), writer);
+		writer.write("</body></html>");
+	}
+
+	private static ArticleTag makeArticle(final ReportSection section,
+										  final NumberUtils numberUtils,
+										  final ReportImageLinker imageLinker) {
+		return article(
+				a().withId(section.getSectionAnchorName()),
+				h2(text(section.getCategory().getEmoji()
+						+ " "
+						+ section.getTitle()),
+						a(attrs(".backtotop"), TO_TOP_ICON).withHref("#top")),
+				section.toDomContent(numberUtils, imageLinker));
+	}
 
-		final var modalPopupWapper = div(attrs(".image-modal-popup"),
-				div(attrs(".wrapper"), img()));
-
-		final var htmlDocument = html(
-				head(
-						title(source + " :: Mediadeepa report"),
-						meta()
-								.withName("viewport")
-								.withContent("width=device-width, initial-scale=1.0"),
-						meta()
-								.withData(HTTP_EQUIV, "Content-Type")
-								.withContent("text/html; charset=UTF-8"),
-						style(documentCSS).withType("text/css"),
-						script(documentJS),
-						link()
-								.withMedia("all")
-								.withRel("stylesheet")
-								.withHref("style.css")),
-				body(each(
-						header(
-								h1(MEDIADEEPA_REPORT_DOCUMENT),
-								new SimpleKeyValueReportEntry(TARGET_SOURCE, source)
-										.toDomContent(numberUtils),
-								new SimpleKeyValueReportEntry(DOCUMENT_CREATION_DATE, new Date()
-										.toString())
-												.toDomContent(numberUtils),
-								summarySection
-										.toDomContent(numberUtils)),
-						nav(
-								a().withId("top"),
-								h2("🗃 Table of content"),
-								ul(each(
-										each(getActiveSectionStream()
-												.map(section -> li(
-														a(section.getCategory().getEmoji() + " "
-														  + section
-																  .getTitle())
-																		  .withHref("#" + section
-																				  .getSectionAnchorName())))),
-										li(a(aboutSection.getCategory().getEmoji() + " " + aboutSection
-												.getTitle())
-														.withHref("#" + aboutSection
-																.getSectionAnchorName()))))),
-						main(
-								each(getActiveSectionStream()
-										.map(section -> article(
-												a().withId(section.getSectionAnchorName()),
-												h2(text(section.getCategory().getEmoji()
-														+ " "
-														+ section.getTitle()),
-														a(attrs(".backtotop"), TO_TOP_ICON).withHref("#top")),
-												section.toDomContent(numberUtils)))),
-								modalPopupWapper),
-						footer(
-								article(
-										a().withId(aboutSection.getSectionAnchorName()),
-										h2(text(aboutSection.getCategory().getEmoji()
-												+ " "
-												+ aboutSection.getTitle()),
-												a(attrs(".backtotop"), TO_TOP_ICON).withHref("#top")),
-										aboutSection.toDomContent(numberUtils))))));
-
-		return String.join("\r\n",
-				"<!DOCTYPE html>",
-				htmlDocument
-						.withLang("en")
-						.render()
-						.trim());
+	private static void render(final DomContent content, final Writer writer) throws IOException {
+		content.render(FlatHtml.into(writer));
 	}
 
 	@Override
@@ -194,7 +252,7 @@ public final class ReportDocument implements ConstStrings, JsonContentProvider {
 		gen.writeStartObject();
 		gen.writeStringField("title", MEDIADEEPA_REPORT_DOCUMENT);
 		gen.writeStringField(jsonHeader(TARGET_SOURCE), source);
-		gen.writeObjectField(jsonHeader(DOCUMENT_CREATION_DATE), ZonedDateTime.now());
+		gen.writeObjectField(jsonHeader(DOCUMENT_CREATION_DATE), creationDate);
 
 		final var allSections = Stream.of(
 				Stream.of(summarySection),
@@ -0,0 +1,38 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.report;
+
+import static org.apache.commons.codec.binary.Base64.encodeBase64String;
+
+import media.mexm.mediadeepa.exportformat.ImageArtifact;
+
+/**
+ * Choose how an image is referenced by the HTML report.
+ */
+@FunctionalInterface
+public interface ReportImageLinker {
+
+	ReportImageLinker EMBEDDED = (image, internalFileName) -> "data:" + image.contentType()
+															  + ";base64," + encodeBase64String(image.data());
+
+	/**
+	 * @param internalFileName the file name to use if the image is written as a file, next to the report
+	 * @return the img src URL
+	 */
+	String getSource(ImageArtifact image, String internalFileName);
+
+}
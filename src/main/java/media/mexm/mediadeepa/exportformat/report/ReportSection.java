@@ -56,11 +56,20 @@ public final class ReportSection implements DomContentProvider, JsonContentProvi
 
 	@Override
 	public DomContent toDomContent(final NumberUtils numberUtils) {
+		return toDomContent(numberUtils, ReportImageLinker.EMBEDDED);
+	}
+
+	public DomContent toDomContent(final NumberUtils numberUtils, final ReportImageLinker imageLinker) {
 		return section(
 				attrs(".reportsection"),
 				each(entries.stream()
 						.filter(not(ReportEntry::isEmpty))
-						.map(r -> r.toDomContent(numberUtils))));
+						.map(r -> {
+							if (r instanceof final ImagesReportEntry imagesEntry) {
+								return imagesEntry.toDomContent(numberUtils, imageLinker);
+							}
+							return r.toDomContent(numberUtils);
+						})));
 	}
 
 	public ReportSection add(final ReportEntry... entry) {
@@ -78,6 +87,11 @@ public final class ReportSection implements DomContentProvider, JsonContentProvi
 		return this;
 	}
 
+	ReportSection addAll(final ReportSection from) {
+		entries.addAll(from.entries);
+		return this;
+	}
+
 	public boolean isNotEmpty() {
 		return ReportEntry.isEmpty(entries) == false;
 	}
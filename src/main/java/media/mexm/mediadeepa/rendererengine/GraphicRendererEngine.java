@@ -16,6 +16,7 @@
  */
 package media.mexm.mediadeepa.rendererengine;
 
+import static media.mexm.mediadeepa.exportformat.ParallelRendering.parallelMap;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.util.List;
@@ -55,8 +56,16 @@ public interface GraphicRendererEngine {
 		}
 
 		internalLog.debug("Add {} graphic(s) to report producing", graphics.size());
-		graphics.stream()
-				.map(f -> f.toGraphicReportEntry(appCommand, appConfig))
+		if (appConfig.getReportConfig().isInteractiveGraphics()) {
+			graphics.stream()
+					.map(f -> f.toChartReportEntry(appConfig))
+					.forEach(section::add);
+			return;
+		}
+		parallelMap(graphics,
+				f -> f.toGraphicReportEntry(appCommand, appConfig, result),
+				appConfig.getGraphicConfig().getRenderParallelism(),
+				result.getRenderLimiter())
 				.forEach(section::add);
 	}
 
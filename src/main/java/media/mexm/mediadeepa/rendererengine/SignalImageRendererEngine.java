@@ -47,7 +47,9 @@ public interface SignalImageRendererEngine extends DomContentProvider {
 		}
 
 		makeimagePNG(result)
-				.map(image -> new ImageReportEntry(image, this, appConfig.getReportConfig().getDisplayImageSizeWidth()))
+				.map(image -> new ImageReportEntry(image, this,
+						appConfig.getReportConfig().getDisplayImageSizeWidth(),
+						getDefaultInternalFileName()))
 				.ifPresent(section::add);
 	}
 
@@ -21,15 +21,13 @@ import java.util.Set;
 
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 
 public interface SingleTabularDocumentExporterTraits extends TabularRendererEngine {
 
 	@Override
 	default Optional<TabularDocument> toSingleTabularDocument(final String internalTabularBaseFileName,
-															  final DataResult result,
-															  final TabularExportFormat tabularExportFormat) {
-		return toTabularDocument(result, tabularExportFormat).stream().findFirst();
+															  final DataResult result) {
+		return toTabularDocument(result).stream().findFirst();
 	}
 
 	@Override
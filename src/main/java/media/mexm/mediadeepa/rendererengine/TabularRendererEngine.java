@@ -22,15 +22,13 @@ import java.util.Set;
 
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 
 public interface TabularRendererEngine {
 
-	List<TabularDocument> toTabularDocument(DataResult result, TabularExportFormat tabularExportFormat);
+	List<TabularDocument> toTabularDocument(DataResult result);
 
 	Optional<TabularDocument> toSingleTabularDocument(String internalTabularBaseFileName,
-													  DataResult result,
-													  TabularExportFormat tabularExportFormat);
+													  DataResult result);
 
 	Set<String> getInternalTabularBaseFileNames();
 
@@ -28,7 +28,6 @@ import media.mexm.mediadeepa.ConstStrings;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
 import media.mexm.mediadeepa.exportformat.report.SimpleKeyValueReportEntry;
@@ -66,12 +65,10 @@ public class AConstsRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getContainerAnalyserProcessResult()
 				.map(caResult -> {
-					final var aConsts = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName())
+					final var aConsts = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 									.head(HEAD_ACONSTS);
 					Stream.concat(
 							caResult.olderAudioConsts().stream(),
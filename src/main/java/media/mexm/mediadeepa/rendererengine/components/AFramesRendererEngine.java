@@ -17,6 +17,7 @@
 package media.mexm.mediadeepa.rendererengine.components;
 
 import static media.mexm.mediadeepa.exportformat.DataGraphic.THIN_STROKE;
+import static media.mexm.mediadeepa.exportformat.ExportFilter.getFramePosition;
 import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.CONTAINER;
 import static media.mexm.mediadeepa.exportformat.report.StatisticsUnitValueReportEntry.createFromFloat;
 import static media.mexm.mediadeepa.exportformat.report.StatisticsUnitValueReportEntry.createFromInteger;
@@ -38,7 +39,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
@@ -90,15 +90,14 @@ public class AFramesRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getContainerAnalyserProcessResult()
 				.map(caResult -> {
-					final var aFrames = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(
+					final var aFrames = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(
 									HEAD_AFRAMES);
 
-					caResult.audioFrames().forEach(r -> {
+					final var exportFilter = result.getExportFilter();
+					caResult.audioFrames().forEach(exportFilter.inTimeRange(r -> getFramePosition(r.frame()), r -> {
 						final var frame = r.frame();
 						aFrames.row(
 								frame.streamIndex(),
@@ -113,7 +112,7 @@ public class AFramesRendererEngine implements
 								frame.durationTime(),
 								frame.pktPos(),
 								frame.pktSize());
-					});
+					}));
 					return aFrames;
 				})
 				.stream()
@@ -125,7 +124,8 @@ public class AFramesRendererEngine implements
 		result.getContainerAnalyserProcessResult()
 				.ifPresent(caResult -> {
 					final var aFrames = tableDocument.createTable("Container audio frames").head(HEAD_AFRAMES);
-					caResult.audioFrames().forEach(r -> {
+					final var exportFilter = result.getExportFilter();
+					caResult.audioFrames().forEach(exportFilter.inTimeRange(r -> getFramePosition(r.frame()), r -> {
 						final var frame = r.frame();
 						aFrames.addRow()
 								.addCell(frame.streamIndex())
@@ -140,7 +140,7 @@ public class AFramesRendererEngine implements
 								.addCell(frame.durationTime())
 								.addCell(frame.pktPos())
 								.addCell(frame.pktSize());
-					});
+					}));
 				});
 	}
 
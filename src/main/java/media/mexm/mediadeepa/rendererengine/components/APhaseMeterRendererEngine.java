@@ -35,7 +35,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -75,15 +74,14 @@ public class APhaseMeterRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var aPhaseMeter = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(HEAD_APHASE);
+					final var aPhaseMeter = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(HEAD_APHASE);
 					lavfiMetadatas.getAPhaseMeterReport()
-							.forEach(a -> aPhaseMeter.row(a.frame(), a.pts(), a.ptsTime(), a.value()));
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(),
+									a -> aPhaseMeter.row(a.frame(), a.pts(), a.ptsTime(), a.value())));
 					return aPhaseMeter;
 				})
 				.stream()
@@ -98,11 +96,11 @@ public class APhaseMeterRendererEngine implements
 					final var aPhaseMeter = doc.createTable("Audio phase").head(HEAD_APHASE);
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
 					lavfiMetadatas.getAPhaseMeterReport()
-							.forEach(a -> aPhaseMeter.addRow()
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> aPhaseMeter.addRow()
 									.addCell(a.frame())
 									.addCell(a.pts())
 									.addCell(a.ptsTime())
-									.addCell(a.value()));
+									.addCell(a.value())));
 				});
 	}
 
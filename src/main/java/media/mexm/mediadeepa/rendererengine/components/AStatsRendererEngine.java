@@ -44,7 +44,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
@@ -111,15 +110,13 @@ public class AStatsRendererEngine implements
 			.toList();
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var aStats = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(HEAD_ASTATS);
+					final var aStats = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(HEAD_ASTATS);
 					lavfiMetadatas.getAStatsReport()
-							.forEach(a -> {
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> {
 								final var channels = a.value().channels();
 								for (var pos = 0; pos < channels.size(); pos++) {
 									final var channel = channels.get(pos);
@@ -138,7 +135,7 @@ public class AStatsRendererEngine implements
 
 									aStats.row(items);
 								}
-							});
+							}));
 					return aStats;
 				})
 				.stream()
@@ -151,7 +148,7 @@ public class AStatsRendererEngine implements
 				.ifPresent(maResult -> {
 					final var aStats = tableDocument.createTable("Audio Stats").head(HEAD_ASTATS);
 					maResult.lavfiMetadatas().getAStatsReport()
-							.forEach(a -> {
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> {
 								final var channels = a.value().channels();
 								for (var pos = 0; pos < channels.size(); pos++) {
 									final var channel = channels.get(pos);
@@ -169,7 +166,7 @@ public class AStatsRendererEngine implements
 									channel.getValues().forEach(row::addCell);
 									row.addCell(other);
 								}
-							});
+							}));
 				});
 	}
 
@@ -33,7 +33,6 @@ import media.mexm.mediadeepa.RunnedJavaCmdLine;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.KeyPreValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -61,13 +60,12 @@ public class AboutMeasureRendererEngine implements
 
 	@Override
 	public Optional<TabularDocument> toSingleTabularDocument(final String internalTabularBaseFileName,
-															 final DataResult result,
-															 final TabularExportFormat tabularExportFormat) {
+															 final DataResult result) {
 		if (ABOUT_NAME.equalsIgnoreCase(internalTabularBaseFileName)) {
-			return Optional.ofNullable(getAboutTabular(result, tabularExportFormat));
+			return Optional.ofNullable(getAboutTabular(result));
 		}
 		if (FILTERS.equalsIgnoreCase(internalTabularBaseFileName)) {
-			return getFiltersTabular(result, tabularExportFormat);
+			return getFiltersTabular(result);
 		}
 		return Optional.empty();
 	}
@@ -77,11 +75,10 @@ public class AboutMeasureRendererEngine implements
 		return Set.of(ABOUT_NAME, FILTERS);
 	}
 
-	private Optional<TabularDocument> getFiltersTabular(final DataResult result,
-														final TabularExportFormat tabularExportFormat) {
+	private Optional<TabularDocument> getFiltersTabular(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
-					final var tFilters = new TabularDocument(tabularExportFormat, FILTERS)
+					final var tFilters = new TabularDocument(FILTERS)
 							.head(HEAD_ABOUT);
 					maResult.filters()
 							.forEach(f -> tFilters.row(
@@ -93,8 +90,8 @@ public class AboutMeasureRendererEngine implements
 				});
 	}
 
-	private TabularDocument getAboutTabular(final DataResult result, final TabularExportFormat tabularExportFormat) {
-		final var tAbout = new TabularDocument(tabularExportFormat, ABOUT_NAME).head(HEAD_APP_ABOUT);
+	private TabularDocument getAboutTabular(final DataResult result) {
+		final var tAbout = new TabularDocument(ABOUT_NAME).head(HEAD_APP_ABOUT);
 		result.getVersions().entrySet().forEach(entry -> tAbout.row(entry.getKey(), entry.getValue()));
 
 		runnedJavaCmdLine.makeArchiveCommandline()
@@ -104,10 +101,9 @@ public class AboutMeasureRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
-		final var tAbout = getAboutTabular(result, tabularExportFormat);
-		final var oTFilters = getFiltersTabular(result, tabularExportFormat);
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
+		final var tAbout = getAboutTabular(result);
+		final var oTFilters = getFiltersTabular(result);
 		return Stream.concat(Stream.of(tAbout), oTFilters.stream()).toList();
 	}
 
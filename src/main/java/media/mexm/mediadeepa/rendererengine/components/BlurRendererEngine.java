@@ -36,7 +36,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -75,15 +74,14 @@ public class BlurRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var blur = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(HEAD_BLUR);
+					final var blur = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(HEAD_BLUR);
 					lavfiMetadatas.getBlurDetectReport()
-							.forEach(a -> blur.row(a.frame(), a.pts(), a.ptsTime(), a.value()));
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(),
+									a -> blur.row(a.frame(), a.pts(), a.ptsTime(), a.value())));
 					return blur;
 				})
 				.stream()
@@ -96,11 +94,11 @@ public class BlurRendererEngine implements
 				.ifPresent(maResult -> {
 					final var blur = tableDocument.createTable("Blur detect").head(HEAD_BLUR);
 					maResult.lavfiMetadatas().getBlurDetectReport()
-							.forEach(a -> blur.addRow()
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> blur.addRow()
 									.addCell(a.frame())
 									.addCell(a.pts())
 									.addCell(a.ptsTime())
-									.addCell(a.value()));
+									.addCell(a.value())));
 				});
 	}
 
@@ -44,7 +44,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.CropEventTableReportEntry;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
@@ -91,19 +90,18 @@ public class CropRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var crop = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(HEAD_CROP);
-					lavfiMetadatas.getCropDetectReport().forEach(a -> {
+					final var crop = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(HEAD_CROP);
+					final var exportFilter = result.getExportFilter();
+					lavfiMetadatas.getCropDetectReport().forEach(exportFilter.inTimeRange(a -> a.ptsTime(), a -> {
 						final var value = a.value();
 						crop.row(a.frame(), a.pts(), a.ptsTime(),
 								value.x1(), value.x2(), value.y1(), value.y2(),
 								value.w(), value.h(), value.x(), value.y());
-					});
+					}));
 					return crop;
 				})
 				.stream()
@@ -115,15 +113,18 @@ public class CropRendererEngine implements
 		result.getMediaAnalyserProcessResult()
 				.ifPresent(maResult -> {
 					final var crop = tableDocument.createTable("Crop detect").head(HEAD_CROP);
-					maResult.lavfiMetadatas().getCropDetectReport().forEach(a -> {
-						final var value = a.value();
-						crop.addRow()
-								.addCell(a.frame())
-								.addCell(a.pts())
-								.addCell(a.ptsTime())
-								.addCell(value.x1()).addCell(value.x2()).addCell(value.y1()).addCell(value.y2())
-								.addCell(value.w()).addCell(value.h()).addCell(value.x()).addCell(value.y());
-					});
+					final var exportFilter = result.getExportFilter();
+					maResult.lavfiMetadatas().getCropDetectReport().forEach(exportFilter.inTimeRange(
+							a -> a.ptsTime(),
+							a -> {
+								final var value = a.value();
+								crop.addRow()
+										.addCell(a.frame())
+										.addCell(a.pts())
+										.addCell(a.ptsTime())
+										.addCell(value.x1()).addCell(value.x2()).addCell(value.y1()).addCell(value.y2())
+										.addCell(value.w()).addCell(value.h()).addCell(value.x()).addCell(value.y());
+							}));
 				});
 	}
 
@@ -22,6 +22,8 @@ import static java.awt.Color.RED;
 import static java.util.function.Predicate.not;
 import static media.mexm.mediadeepa.exportformat.DataGraphic.THICK_STROKE;
 import static media.mexm.mediadeepa.exportformat.DataGraphic.THIN_STROKE;
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.Decimation.LTTB;
+import static media.mexm.mediadeepa.exportformat.TabularDocument.lowPrecision;
 import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.AUDIO;
 import static tv.hd3g.fflauncher.recipes.MediaAnalyserProcessResult.R128_DEFAULT_LUFS_TARGET;
 
@@ -43,7 +45,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -95,25 +96,24 @@ public class Ebur128RendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
-		final var t = new TabularDocument(tabularExportFormat, getSingleUniqTabularDocumentBaseFileName()).head(
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
+		final var t = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(
 				HEAD_EBUR128);
 		result.getMediaAnalyserProcessResult()
 				.map(MediaAnalyserProcessResult::lavfiMetadatas)
 				.map(LavfiMetadataFilterParser::getR128Report)
 				.stream()
 				.flatMap(List::stream)
-				.forEach(ebu -> t.row(
-						tabularExportFormat.formatNumberLowPrecision(ebu.ptsTime()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().integrated()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().momentary()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().shortTerm()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().loudnessRange()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().samplePeaks().left()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().samplePeaks().right()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().truePeaks().left()),
-						tabularExportFormat.formatNumberLowPrecision(ebu.value().truePeaks().right())));
+				.forEach(result.getExportFilter().inTimeRange(ebu -> ebu.ptsTime(), ebu -> t.row(
+						lowPrecision(ebu.ptsTime()),
+						lowPrecision(ebu.value().integrated()),
+						lowPrecision(ebu.value().momentary()),
+						lowPrecision(ebu.value().shortTerm()),
+						lowPrecision(ebu.value().loudnessRange()),
+						lowPrecision(ebu.value().samplePeaks().left()),
+						lowPrecision(ebu.value().samplePeaks().right()),
+						lowPrecision(ebu.value().truePeaks().left()),
+						lowPrecision(ebu.value().truePeaks().right()))));
 		return List.of(t);
 	}
 
@@ -125,7 +125,7 @@ public class Ebur128RendererEngine implements
 				.map(LavfiMetadataFilterParser::getR128Report)
 				.stream()
 				.flatMap(List::stream)
-				.forEach(ebu -> t.addRow()
+				.forEach(result.getExportFilter().inTimeRange(ebu -> ebu.ptsTime(), ebu -> t.addRow()
 						.addCell(ebu.ptsTime())
 						.addCell(ebu.value().integrated())
 						.addCell(ebu.value().momentary())
@@ -134,7 +134,7 @@ public class Ebur128RendererEngine implements
 						.addCell(ebu.value().samplePeaks().left())
 						.addCell(ebu.value().samplePeaks().right())
 						.addCell(ebu.value().truePeaks().left())
-						.addCell(ebu.value().truePeaks().right()));
+						.addCell(ebu.value().truePeaks().right())));
 	}
 
 	@Override
@@ -211,6 +211,7 @@ public class Ebur128RendererEngine implements
 					THIN_STROKE,
 					item.r128events.stream().map(LavfiMtdR128::momentary)));
 			dataGraphicLUFS
+					.setDecimation(LTTB, appConfig.getGraphicConfig().getImageSizeFullSize().width)
 					.addValueMarker(item.summary().integrated())
 					.addValueMarker(item.summary().loudnessRangeHigh())
 					.addValueMarker(item.summary().loudnessRangeLow());
@@ -17,6 +17,7 @@
 package media.mexm.mediadeepa.rendererengine.components;
 
 import static java.util.function.Predicate.not;
+import static media.mexm.mediadeepa.exportformat.TabularDocument.lowPrecision;
 import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.AUDIO;
 
 import java.util.List;
@@ -27,7 +28,6 @@ import media.mexm.mediadeepa.ConstStrings;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -61,8 +61,7 @@ public class Ebur128SummaryRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(MediaAnalyserProcessResult::lavfiMetadatas)
 				.map(LavfiMetadataFilterParser::getR128Report)
@@ -70,15 +69,15 @@ public class Ebur128SummaryRendererEngine implements
 				.map(l -> l.get(l.size() - 1))
 				.map(LavfiMtdValue::value)
 				.map(ebu -> {
-					final var t = new TabularDocument(tabularExportFormat, getSingleUniqTabularDocumentBaseFileName())
+					final var t = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 							.head(HEAD_EBUR128_SUMMARY);
 					t.row(
-							tabularExportFormat.formatNumberLowPrecision(ebu.integrated()),
-							tabularExportFormat.formatNumberLowPrecision(ebu.loudnessRange()),
-							tabularExportFormat.formatNumberLowPrecision(ebu.loudnessRangeLow()),
-							tabularExportFormat.formatNumberLowPrecision(ebu.loudnessRangeHigh()),
-							tabularExportFormat.formatNumberLowPrecision(ebu.samplePeak()),
-							tabularExportFormat.formatNumberLowPrecision(ebu.truePeak()));
+							lowPrecision(ebu.integrated()),
+							lowPrecision(ebu.loudnessRange()),
+							lowPrecision(ebu.loudnessRangeLow()),
+							lowPrecision(ebu.loudnessRangeHigh()),
+							lowPrecision(ebu.samplePeak()),
+							lowPrecision(ebu.truePeak()));
 					return t;
 				})
 				.stream()
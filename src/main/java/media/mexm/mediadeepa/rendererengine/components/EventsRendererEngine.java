@@ -27,9 +27,12 @@ import static media.mexm.mediadeepa.exportformat.report.EventReportEntry.haveEnd
 import java.awt.Color;
 import java.awt.Stroke;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -40,22 +43,24 @@ import media.mexm.mediadeepa.ConstStrings;
 import media.mexm.mediadeepa.cli.AppCommand;
 import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.BoundedEventList;
+import media.mexm.mediadeepa.exportformat.BoundedEventList.DurationEvent;
+import media.mexm.mediadeepa.exportformat.BoundedEventList.EventsOverflow;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.EventReportEntry;
 import media.mexm.mediadeepa.exportformat.report.EventReportEntry.EventReportEntryHeader;
+import media.mexm.mediadeepa.exportformat.report.EventsOverflowReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
 import media.mexm.mediadeepa.exportformat.report.ReportSectionCategory;
 import media.mexm.mediadeepa.rendererengine.GraphicRendererEngine;
 import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
 import media.mexm.mediadeepa.rendererengine.SingleGraphicDocumentExporterTraits;
-import media.mexm.mediadeepa.rendererengine.SingleTabularDocumentExporterTraits;
 import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
 import media.mexm.mediadeepa.rendererengine.TabularRendererEngine;
 import tv.hd3g.fflauncher.filtering.lavfimtd.LavfiMetadataFilterParser;
@@ -71,10 +76,21 @@ public class EventsRendererEngine implements
 								  TabularRendererEngine,
 								  GraphicRendererEngine,
 								  ConstStrings,
-								  SingleTabularDocumentExporterTraits,
 								  SingleGraphicDocumentExporterTraits {
 
 	private static final String EVENTS2 = "Events";
+	static final String EVENTS_BASE_FILE_NAME = "events";
+	static final String EVENTS_OVERFLOW_BASE_FILE_NAME = "events-overflow";
+	static final String EVENTS_OVERFLOW_LONGEST_BASE_FILE_NAME = "events-overflow-longest";
+	static final String EVENTS_OVERFLOW_HISTOGRAM_BASE_FILE_NAME = "events-overflow-histogram";
+	/**
+	 * In the toTabularDocument order
+	 */
+	private static final List<String> TABULAR_BASE_FILE_NAMES = List.of(
+			EVENTS_BASE_FILE_NAME,
+			EVENTS_OVERFLOW_BASE_FILE_NAME,
+			EVENTS_OVERFLOW_LONGEST_BASE_FILE_NAME,
+			EVENTS_OVERFLOW_HISTOGRAM_BASE_FILE_NAME);
 	@Autowired
 	private AppConfig appConfig;
 	@Autowired
@@ -83,39 +99,152 @@ public class EventsRendererEngine implements
 	private NumberUtils numberUtils;
 
 	public static final List<String> HEAD_EVENTS = List.of(NAME, SCOPE_CHANNEL, START, END, DURATION);
+	public static final List<String> HEAD_EVENTS_OVERFLOW = List.of(NAME, COUNT, DURATION, LONGEST_DURATION);
+	public static final List<String> HEAD_EVENTS_OVERFLOW_LONGEST = List.of(
+			TYPE, RANK, SCOPE_CHANNEL, START, END, DURATION);
+	public static final List<String> HEAD_EVENTS_OVERFLOW_HISTOGRAM = List.of(TYPE, BUCKET_FROM, BUCKET_TO, COUNT);
+
+	private record BoundedEvents(String type, BoundedEventList<LavfiMtdEvent> events) {
+
+		Stream<LavfiMtdEvent> getListed() {
+			return events.getListed().stream();
+		}
+
+		Optional<EventsOverflow<LavfiMtdEvent>> getOverflow() {
+			return events.getOverflow();
+		}
+
+	}
+
+	private BoundedEvents boundEvents(final String type,
+									  final List<LavfiMtdEvent> events,
+									  final int maxListed,
+									  final Duration sourceDuration,
+									  final Predicate<LavfiMtdEvent> filter) {
+		final var eventsConfig = appConfig.getEventsConfig();
+		final var histogramBounds = eventsConfig.getOverflowHistogramBoundsSec().stream()
+				.map(sec -> Duration.ofMillis(Math.round(sec * 1000d)))
+				.toList();
+		final var boundedEvents = new BoundedEventList<LavfiMtdEvent>(
+				maxListed, eventsConfig.getOverflowLongestCount(), histogramBounds);
+		events.stream()
+				.filter(filter)
+				.forEach(ev -> boundedEvents.add(ev, ev.getEndOr(sourceDuration).minus(ev.start())));
+		return new BoundedEvents(type, boundedEvents);
+	}
+
+	/**
+	 * Only the first events by type (by configuration) are listed, the others are summarized.
+	 */
+	private List<BoundedEvents> getBoundedEvents(final LavfiMetadataFilterParser lavfiMetadatas,
+												 final Duration sourceDuration,
+												 final Predicate<LavfiMtdEvent> filter) {
+		final var eventsConfig = appConfig.getEventsConfig();
+		return List.of(
+				boundEvents(AUDIO_SILENCE, lavfiMetadatas.getSilenceEvents(),
+						eventsConfig.getMaxSilenceEvents(), sourceDuration, filter),
+				boundEvents(AUDIO_MONO, lavfiMetadatas.getMonoEvents(),
+						eventsConfig.getMaxMonoEvents(), sourceDuration, filter),
+				boundEvents(BLACK_FRAMES, lavfiMetadatas.getBlackEvents(),
+						eventsConfig.getMaxBlackEvents(), sourceDuration, filter),
+				boundEvents(FREEZE_STATIC_FRAMES, lavfiMetadatas.getFreezeEvents(),
+						eventsConfig.getMaxFreezeEvents(), sourceDuration, filter));
+	}
+
+	private Optional<List<BoundedEvents>> getBoundedEvents(final DataResult result, final Duration sourceDuration) {
+		return result.getMediaAnalyserProcessResult()
+				.map(MediaAnalyserProcessResult::lavfiMetadatas)
+				.map(lavfiMetadatas -> getBoundedEvents(lavfiMetadatas, sourceDuration,
+						ev -> result.getExportFilter().isInTimeRange(ev.start(), ev.getEndOr(sourceDuration))));
+	}
+
+	private static Stream<LavfiMtdEvent> getSortedListedEvents(final List<BoundedEvents> boundedEvents) {
+		return boundedEvents.stream()
+				.flatMap(BoundedEvents::getListed)
+				.sorted();
+	}
+
+	private static boolean haveOverflow(final List<BoundedEvents> boundedEvents) {
+		return boundedEvents.stream().anyMatch(b -> b.getOverflow().isPresent());
+	}
+
+	private static Duration getLongestDuration(final EventsOverflow<LavfiMtdEvent> overflow) {
+		return overflow.longest().stream()
+				.findFirst()
+				.map(DurationEvent::duration)
+				.orElse(Duration.ZERO);
+	}
 
 	@Override
-	public String getSingleUniqTabularDocumentBaseFileName() {
-		return "events";
+	public Set<String> getInternalTabularBaseFileNames() {
+		return Set.copyOf(TABULAR_BASE_FILE_NAMES);
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
-		return result.getMediaAnalyserProcessResult()
-				.filter(f -> result.getSourceDuration().isPresent())
-				.map(maResult -> {
-					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var sourceDuration = result.getSourceDuration().get();
-					final var events = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(HEAD_EVENTS);
-					Stream.of(
-							lavfiMetadatas.getMonoEvents(),
-							lavfiMetadatas.getSilenceEvents(),
-							lavfiMetadatas.getBlackEvents(),
-							lavfiMetadatas.getFreezeEvents())
-							.flatMap(List::stream)
-							.sorted()
+	public Optional<TabularDocument> toSingleTabularDocument(final String internalTabularBaseFileName,
+															 final DataResult result) {
+		final var pos = TABULAR_BASE_FILE_NAMES.indexOf(internalTabularBaseFileName.toLowerCase());
+		if (pos == -1) {
+			return Optional.empty();
+		}
+		return toTabularDocument(result).stream().skip(pos).findFirst();
+	}
+
+	@Override
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
+		if (result.getSourceDuration().isEmpty()) {
+			return List.of();
+		}
+		final var sourceDuration = result.getSourceDuration().get();// NOSONAR S3655
+		return getBoundedEvents(result, sourceDuration)
+				.map(boundedEvents -> {
+					final var events = new TabularDocument(EVENTS_BASE_FILE_NAME).head(HEAD_EVENTS);
+					getSortedListedEvents(boundedEvents)
 							.forEach(ev -> events.row(
 									ev.name(),
 									ev.scope(),
 									ev.start(),
 									ev.getEndOr(sourceDuration),
 									ev.getEndOr(sourceDuration).minus(ev.start())));
-					return events;
+					if (haveOverflow(boundedEvents) == false) {
+						return List.of(events);
+					}
+
+					final var overflows = new TabularDocument(EVENTS_OVERFLOW_BASE_FILE_NAME)
+							.head(HEAD_EVENTS_OVERFLOW);
+					final var longest = new TabularDocument(EVENTS_OVERFLOW_LONGEST_BASE_FILE_NAME)
+							.head(HEAD_EVENTS_OVERFLOW_LONGEST);
+					final var histogram = new TabularDocument(EVENTS_OVERFLOW_HISTOGRAM_BASE_FILE_NAME)
+							.head(HEAD_EVENTS_OVERFLOW_HISTOGRAM);
+					boundedEvents.forEach(b -> b.getOverflow()
+							.ifPresent(overflow -> {
+								overflows.row(
+										b.type(),
+										overflow.count(),
+										overflow.totalDuration(),
+										getLongestDuration(overflow));
+
+								final var longestEvents = overflow.longest();
+								for (var rank = 0; rank < longestEvents.size(); rank++) {
+									final var event = longestEvents.get(rank);
+									longest.row(
+											b.type(),
+											rank + 1,
+											event.event().scope(),
+											event.event().start(),
+											event.event().start().plus(event.duration()),
+											event.duration());
+								}
+
+								overflow.histogram().forEach(bucket -> histogram.row(
+										b.type(),
+										bucket.from(),
+										bucket.to().orElse(null),
+										bucket.count()));
+							}));
+					return List.of(events, overflows, longest, histogram);
 				})
-				.stream()
-				.toList();
+				.orElse(List.of());
 	}
 
 	@Override
@@ -124,24 +253,51 @@ public class EventsRendererEngine implements
 			return;
 		}
 		final var sourceDuration = result.getSourceDuration().get();// NOSONAR S3655
-		result.getMediaAnalyserProcessResult()
-				.map(MediaAnalyserProcessResult::lavfiMetadatas)
-				.ifPresent(lavfiMetadatas -> {
-					final var events = tableDocument.createTable(EVENTS2).head(HEAD_EVENTS);
-					Stream.of(
-							lavfiMetadatas.getMonoEvents(),
-							lavfiMetadatas.getSilenceEvents(),
-							lavfiMetadatas.getBlackEvents(),
-							lavfiMetadatas.getFreezeEvents())
-							.flatMap(List::stream)
-							.sorted()
-							.forEach(ev -> events.addRow()
-									.addCell(ev.name())
-									.addCell(ev.scope())
-									.addCell(ev.start())
-									.addCell(ev.getEndOr(sourceDuration))
-									.addCell(ev.getEndOr(sourceDuration).minus(ev.start())));
-				});
+		getBoundedEvents(result, sourceDuration).ifPresent(boundedEvents -> {
+			final var events = tableDocument.createTable(EVENTS2).head(HEAD_EVENTS);
+			getSortedListedEvents(boundedEvents)
+					.forEach(ev -> events.addRow()
+							.addCell(ev.name())
+							.addCell(ev.scope())
+							.addCell(ev.start())
+							.addCell(ev.getEndOr(sourceDuration))
+							.addCell(ev.getEndOr(sourceDuration).minus(ev.start())));
+			if (haveOverflow(boundedEvents) == false) {
+				return;
+			}
+
+			final var overflows = tableDocument.createTable(EVENTS_OVERFLOW).head(HEAD_EVENTS_OVERFLOW);
+			final var longest = tableDocument.createTable(EVENTS_OVERFLOW_LONGEST)
+					.head(HEAD_EVENTS_OVERFLOW_LONGEST);
+			final var histogram = tableDocument.createTable(EVENTS_OVERFLOW_HISTOGRAM)
+					.head(HEAD_EVENTS_OVERFLOW_HISTOGRAM);
+			boundedEvents.forEach(b -> b.getOverflow()
+					.ifPresent(overflow -> {
+						overflows.addRow()
+								.addCell(b.type())
+								.addCell(overflow.count())
+								.addCell(overflow.totalDuration())
+								.addCell(getLongestDuration(overflow));
+
+						final var longestEvents = overflow.longest();
+						for (var rank = 0; rank < longestEvents.size(); rank++) {
+							final var event = longestEvents.get(rank);
+							longest.addRow()
+									.addCell(b.type())
+									.addCell(rank + 1)
+									.addCell(event.event().scope())
+									.addCell(event.event().start())
+									.addCell(event.event().start().plus(event.duration()))
+									.addCell(event.duration());
+						}
+
+						overflow.histogram().forEach(bucket -> histogram.addRow()
+								.addCell(b.type())
+								.addCell(bucket.from())
+								.addCell(bucket.to().orElse(null))
+								.addCell(bucket.count()));
+					}));
+		});
 	}
 
 	private void addSeriesFromEvent(final DataResult result,
@@ -151,20 +307,28 @@ public class EventsRendererEngine implements
 									final Color color,
 									final Stroke stroke,
 									final TimedDataGraphic dataGraphic) {
-		final var events = result.getMediaAnalyserProcessResult()
+		final var activeEventsBySec = new int[secDurationRoundedInt + 1];
+		result.getMediaAnalyserProcessResult()
 				.map(MediaAnalyserProcessResult::lavfiMetadatas)
 				.stream()
 				.map(dataSelector)
 				.flatMap(List::stream)
-				.toList();
+				.forEach(event -> {
+					final var from = (int) Math.max(0L, event.start().toSeconds());
+					final var to = (int) Math.min(secDurationRoundedInt, event.end().toSeconds());
+					if (from < to) {
+						activeEventsBySec[from]++;
+						activeEventsBySec[to]--;
+					}
+				});
+		Arrays.parallelPrefix(activeEventsBySec, Integer::sum);
+
 		dataGraphic.addSeries(dataGraphic.new Series(
 				seriesName,
 				color,
 				stroke,
 				IntStream.range(0, secDurationRoundedInt)
-						.mapToObj(posSec -> events.stream()
-								.anyMatch(event -> posSec >= event.start().toSeconds()
-												   && posSec < event.end().toSeconds()) ? 1 : 0)));
+						.mapToObj(posSec -> activeEventsBySec[posSec] > 0 ? 1 : 0)));
 	}
 
 	@Override
@@ -213,18 +377,16 @@ public class EventsRendererEngine implements
 		if (result.getSourceDuration().isEmpty()) {
 			return;
 		}
+		final var sourceDuration = result.getSourceDuration().get();// NOSONAR S3655
 		result.getMediaAnalyserProcessResult()
 				.map(MediaAnalyserProcessResult::lavfiMetadatas)
 				.ifPresent(lavfiMetadatas -> {
 					final var duration = result.getSourceDuration();
 					final var section = new ReportSection(ReportSectionCategory.EVENTS, EVENTS2);
 
-					final var tEvents = Stream.of(
-							Event.getEvents(AUDIO_SILENCE, lavfiMetadatas.getSilenceEvents()),
-							Event.getEvents(AUDIO_MONO, lavfiMetadatas.getMonoEvents()),
-							Event.getEvents(BLACK_FRAMES, lavfiMetadatas.getBlackEvents()),
-							Event.getEvents(FREEZE_STATIC_FRAMES, lavfiMetadatas.getFreezeEvents()))
-							.flatMap(Function.identity())
+					final var boundedEvents = getBoundedEvents(lavfiMetadatas, sourceDuration, event -> true);
+					final var tEvents = boundedEvents.stream()
+							.flatMap(b -> b.getListed().map(event -> new Event(b.type(), event)))
 							.sorted()
 							.toList();
 
@@ -243,6 +405,9 @@ public class EventsRendererEngine implements
 							Stream.of(new EventReportEntryHeader(someHaveScope, someHaveEnd)),
 							allEvents.stream())
 							.forEach(section::add);
+					boundedEvents.forEach(b -> b.getOverflow()
+							.map(overflow -> new EventsOverflowReportEntry(b.type(), overflow))
+							.ifPresent(section::add));
 
 					addAllGraphicsToReport(result, section, appConfig, appCommand);
 					document.add(section);
@@ -256,10 +421,6 @@ public class EventsRendererEngine implements
 			return mtdEvent.compareTo(o.mtdEvent);
 		}
 
-		static Stream<Event> getEvents(final String type, final List<LavfiMtdEvent> mtdEvent) {
-			return mtdEvent.stream().map(event -> new Event(type, event));
-		}
-
 		EventReportEntry toEventReportEntry(final Optional<Duration> duration,
 											final boolean someHaveEnd,
 											final boolean someHaveScope) {
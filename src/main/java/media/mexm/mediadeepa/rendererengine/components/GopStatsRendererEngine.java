@@ -44,7 +44,6 @@ import media.mexm.mediadeepa.exportformat.SeriesStyle;
 import media.mexm.mediadeepa.exportformat.StackedXYAreaChartDataGraphic;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -97,12 +96,10 @@ public class GopStatsRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getContainerAnalyserProcessResult()
 				.map(caResult -> {
-					final var gopStats = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName())
+					final var gopStats = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 									.head(HEAD_GOPSTATS);
 					caResult.extractGOPStats()
 							.forEach(f -> gopStats.row(
@@ -46,7 +46,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
@@ -101,15 +100,13 @@ public class IdetRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var idet = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(HEAD_IDET);
+					final var idet = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(HEAD_IDET);
 					lavfiMetadatas.getIdetReport()
-							.forEach(a -> {
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> {
 								final var value = a.value();
 								final var single = value.single();
 								final var multiple = value.multiple();
@@ -132,7 +129,7 @@ public class IdetRendererEngine implements
 										repeated.top(),
 										repeated.bottom(),
 										repeated.neither());
-							});
+							}));
 					return idet;
 				})
 				.stream()
@@ -145,7 +142,7 @@ public class IdetRendererEngine implements
 				.ifPresent(maResult -> {
 					final var idet = tableDocument.createTable("Interlace detect").head(HEAD_IDET);
 					maResult.lavfiMetadatas().getIdetReport()
-							.forEach(a -> {
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> {
 								final var value = a.value();
 								final var single = value.single();
 								final var multiple = value.multiple();
@@ -171,7 +168,7 @@ public class IdetRendererEngine implements
 										.addCell(repeated.top())
 										.addCell(repeated.bottom())
 										.addCell(repeated.neither());
-							});
+							}));
 				});
 	}
 
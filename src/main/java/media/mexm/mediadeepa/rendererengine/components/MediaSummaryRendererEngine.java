@@ -33,7 +33,6 @@ import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportEntry;
@@ -70,12 +69,11 @@ public class MediaSummaryRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getFFprobeResult()
 				.map(FFprobeJAXB::getMediaSummary)
 				.map(mediaSummary -> {
-					final var t = new TabularDocument(tabularExportFormat, getSingleUniqTabularDocumentBaseFileName())
+					final var t = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 							.head(HEAD_MEDIA_SUMMARY);
 					mediaSummary.streams().forEach(s -> t.row(STREAM, s));
 					t.row(FORMAT, mediaSummary.format());
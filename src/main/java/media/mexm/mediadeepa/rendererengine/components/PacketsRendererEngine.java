@@ -16,6 +16,7 @@
  */
 package media.mexm.mediadeepa.rendererengine.components;
 
+import static media.mexm.mediadeepa.exportformat.ExportFilter.getPacketPosition;
 import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.CONTAINER;
 import static media.mexm.mediadeepa.exportformat.report.StatisticsUnitValueReportEntry.createFromInteger;
 
@@ -35,7 +36,6 @@ import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
 import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
@@ -75,14 +75,13 @@ public class PacketsRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getContainerAnalyserProcessResult()
 				.map(caResult -> {
-					final var packets = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName())
+					final var packets = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 									.head(HEAD_CONTAINER_PACKETS);
-					caResult.packets().forEach(
+					caResult.packets().forEach(result.getExportFilter().inTimeRange(
+							r -> getPacketPosition(r),
 							r -> packets.row(
 									r.codecType(),
 									r.streamIndex(),
@@ -94,7 +93,7 @@ public class PacketsRendererEngine implements
 									r.durationTime(),
 									r.size(),
 									r.pos(),
-									r.flags()));
+									r.flags())));
 					return packets;
 				})
 				.stream()
@@ -106,7 +105,8 @@ public class PacketsRendererEngine implements
 		result.getContainerAnalyserProcessResult()
 				.ifPresent(caResult -> {
 					final var packets = tableDocument.createTable("Container packets").head(HEAD_CONTAINER_PACKETS);
-					caResult.packets().forEach(
+					caResult.packets().forEach(result.getExportFilter().inTimeRange(
+							r -> getPacketPosition(r),
 							r -> packets.addRow()
 									.addOptionalToString(r.codecType())
 									.addCell(r.streamIndex())
@@ -118,7 +118,7 @@ public class PacketsRendererEngine implements
 									.addCell(r.durationTime())
 									.addCell(r.size())
 									.addCell(r.pos())
-									.addCell(r.flags()));
+									.addCell(r.flags())));
 				});
 	}
 
@@ -135,7 +135,7 @@ public class PacketsRendererEngine implements
 					final var sumSizes = packets.stream().reduce(
 							sumList,
 							(list, packet) -> {
-								final var time = packet.ptsTime() < 0f ? packet.dtsTime() : packet.ptsTime();
+								final var time = getPacketPosition(packet);
 								final var position = (int) Math.round(Math.ceil(time));
 								if (position >= list.size()) {
 									final var map = new EnumMap<FFprobeCodecType, Integer>(FFprobeCodecType.class);
@@ -0,0 +1,167 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.rendererengine.components;
+
+import static media.mexm.mediadeepa.exportformat.ExportFilter.getFramePosition;
+import static media.mexm.mediadeepa.exportformat.ExportFilter.getPacketPosition;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import media.mexm.mediadeepa.ConstStrings;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.RollupAccumulator;
+import media.mexm.mediadeepa.exportformat.RollupAccumulator.RollupBucket;
+import media.mexm.mediadeepa.exportformat.TableDocument;
+import media.mexm.mediadeepa.exportformat.TabularDocument;
+import media.mexm.mediadeepa.rendererengine.SingleTabularDocumentExporterTraits;
+import media.mexm.mediadeepa.rendererengine.TableRendererEngine;
+import media.mexm.mediadeepa.rendererengine.TabularRendererEngine;
+import tv.hd3g.fflauncher.recipes.MediaAnalyserProcessResult;
+
+/**
+ * Per resolution (like by second and by minute) aggregates of the main per-frame series.
+ * The bitrate series values are the per second bitrates by stream, so min, max and 95th percentile of a
+ * bucket are computed on the seconds inside it. Seconds without packets are ignored.
+ */
+@Slf4j
+@Component
+public class RollupRendererEngine implements
+								  TableRendererEngine,
+								  TabularRendererEngine,
+								  ConstStrings,
+								  SingleTabularDocumentExporterTraits {
+
+	@Autowired
+	private AppConfig appConfig;
+
+	public static final List<String> HEAD_ROLLUPS = List.of(
+			RESOLUTION, SERIES, POSITION, COUNT, SUM, AVERAGE, MIN, MAX, PERCENTILE_95);
+
+	@Override
+	public String getSingleUniqTabularDocumentBaseFileName() {
+		return "rollups";
+	}
+
+	@Override
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
+		final var rollups = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(HEAD_ROLLUPS);
+		rollup(result, b -> rollups.row(
+				b.resolution(),
+				b.series(),
+				b.position(),
+				b.count(),
+				b.sum(),
+				b.average(),
+				b.min(),
+				b.max(),
+				b.percentile95()));
+		return List.of(rollups);
+	}
+
+	@Override
+	public void addToTable(final DataResult result, final TableDocument tableDocument) {
+		final var rollups = tableDocument.createTable(ROLLUPS).head(HEAD_ROLLUPS);
+		rollup(result, b -> rollups.addRow()
+				.addCell(b.resolution())
+				.addCell(b.series())
+				.addCell(b.position())
+				.addCell(b.count())
+				.addCell(b.sum())
+				.addCell(b.average())
+				.addCell(b.min())
+				.addCell(b.max())
+				.addCell(b.percentile95()));
+	}
+
+	private void rollup(final DataResult result, final Consumer<RollupBucket> onBucket) {
+		final var rollupConfig = appConfig.getRollupConfig();
+		final var maxPercentileSamples = rollupConfig.getMaxPercentileSamples();
+		final var accumulator = new RollupAccumulator(rollupConfig.getResolutionsSec(), maxPercentileSamples, onBucket);
+		final var bitrateBySecond = new RollupAccumulator(List.of(1), maxPercentileSamples,
+				b -> accumulator.add(b.series(), b.position(), (float) (b.sum() * 8d)));
+		final var exportFilter = result.getExportFilter();
+
+		result.getContainerAnalyserProcessResult()
+				.ifPresent(caResult -> {
+					caResult.packets().forEach(exportFilter.inTimeRange(
+							r -> getPacketPosition(r),
+							r -> {
+								final var position = getPacketPosition(r);
+								accumulator.add(PACKET_SIZE + " #" + r.streamIndex(), position, r.size());
+								bitrateBySecond.add(BITRATE + " #" + r.streamIndex(), position, r.size());
+							}));
+					bitrateBySecond.end();
+					accumulator.end();
+					caResult.videoFrames().forEach(exportFilter.inTimeRange(
+							r -> getFramePosition(r.frame()),
+							r -> accumulator.add(
+									FRAME_SIZE + " #" + r.frame().streamIndex(),
+									getFramePosition(r.frame()),
+									r.frame().pktSize())));
+					accumulator.end();
+				});
+
+		result.getMediaAnalyserProcessResult()
+				.map(MediaAnalyserProcessResult::lavfiMetadatas)
+				.ifPresent(lavfiMetadatas -> {
+					lavfiMetadatas.getR128Report().forEach(exportFilter.inTimeRange(ebu -> ebu.ptsTime(), ebu -> {
+						accumulator.add(MOMENTARY, ebu.ptsTime(), ebu.value().momentary());
+						accumulator.add(SHORT_TERM, ebu.ptsTime(), ebu.value().shortTerm());
+					}));
+					accumulator.end();
+
+					lavfiMetadatas.getAStatsReport().forEach(exportFilter.inTimeRange(a -> a.ptsTime(), a -> {
+						final var channels = a.value().channels();
+						for (var pos = 0; pos < channels.size(); pos++) {
+							final var channel = channels.get(pos);
+							accumulator.add(PEAK_LEVEL + " " + CHANNEL + " " + (pos + 1),
+									a.ptsTime(), channel.peakLevel());
+							accumulator.add(RMS_LEVEL + " " + CHANNEL + " " + (pos + 1),
+									a.ptsTime(), channel.rmsLevel());
+						}
+					}));
+					accumulator.end();
+
+					lavfiMetadatas.getSitiReport().forEach(exportFilter.inTimeRange(a -> a.ptsTime(), a -> {
+						accumulator.add(SPATIAL_INFO, a.ptsTime(), a.value().si());
+						accumulator.add(TEMPORAL_INFO, a.ptsTime(), a.value().ti());
+					}));
+					accumulator.end();
+
+					lavfiMetadatas.getBlockDetectReport().forEach(exportFilter.inTimeRange(a -> a.ptsTime(),
+							a -> accumulator.add(BLOCKINESS, a.ptsTime(), a.value())));
+					accumulator.end();
+
+					lavfiMetadatas.getBlurDetectReport().forEach(exportFilter.inTimeRange(a -> a.ptsTime(),
+							a -> accumulator.add(BLURRINESS, a.ptsTime(), a.value())));
+					accumulator.end();
+				});
+
+		final var lateValues = accumulator.getLateValues() + bitrateBySecond.getLateValues();
+		if (lateValues > 0) {
+			log.warn("{} late value(s), after the closing of their rollup bucket, are not counted", lateValues);
+		}
+	}
+
+}
@@ -38,7 +38,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
@@ -78,16 +77,15 @@ public class SITIRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var siti = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName()).head(
+					final var siti = new TabularDocument(getSingleUniqTabularDocumentBaseFileName()).head(
 									HEAD_SITI);
 					lavfiMetadatas.getSitiReport()
-							.forEach(a -> siti.row(a.frame(), a.pts(), a.ptsTime(), a.value().si(), a.value().ti()));
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(),
+									a -> siti.row(a.frame(), a.pts(), a.ptsTime(), a.value().si(), a.value().ti())));
 					return siti;
 				})
 				.stream()
@@ -101,12 +99,12 @@ public class SITIRendererEngine implements
 					final var siti = tableDocument.createTable("SITI").head(HEAD_SITI);
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
 					lavfiMetadatas.getSitiReport()
-							.forEach(a -> siti.addRow()
+							.forEach(result.getExportFilter().inTimeRange(a -> a.ptsTime(), a -> siti.addRow()
 									.addCell(a.frame())
 									.addCell(a.pts())
 									.addCell(a.ptsTime())
 									.addCell(a.value().si())
-									.addCell(a.value().ti()));
+									.addCell(a.value().ti())));
 				});
 	}
 
@@ -31,7 +31,6 @@ import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
 import media.mexm.mediadeepa.exportformat.report.ReportSection;
 import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
@@ -61,13 +60,11 @@ public class SITIReportRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getMediaAnalyserProcessResult()
 				.map(maResult -> {
 					final var lavfiMetadatas = maResult.lavfiMetadatas();
-					final var sitiStats = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName())
+					final var sitiStats = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 									.head(HEAD_SITI_REPORT);
 					if (lavfiMetadatas.getSitiReport().isEmpty() == false) {
 						final var stats = lavfiMetadatas.computeSitiStats();
@@ -89,7 +89,9 @@ public class SignificantSnapshotImageRendererEngine implements ConstStrings, Rep
 
 		final var section = new ReportSection(SUMMARY, SNAPSHOT);
 		makeimage(result)
-				.map(image -> new ImageReportEntry(image, this, appConfig.getReportConfig().getDisplayImageSizeWidth()))
+				.map(image -> new ImageReportEntry(image, this,
+						appConfig.getReportConfig().getDisplayImageSizeWidth(),
+						getDefaultInternalFileName()))
 				.ifPresent(section::add);
 
 		final var videoImageSnapshots = result.getVideoImageSnapshots().get();
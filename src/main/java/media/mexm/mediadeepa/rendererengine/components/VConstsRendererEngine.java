@@ -31,7 +31,6 @@ import media.mexm.mediadeepa.components.NumberUtils;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.RatioReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
@@ -82,12 +81,10 @@ public class VConstsRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getContainerAnalyserProcessResult()
 				.map(caResult -> {
-					final var vConsts = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName())
+					final var vConsts = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 									.head(HEAD_VCONSTS);
 					Stream.concat(
 							caResult.olderVideoConsts().stream(),
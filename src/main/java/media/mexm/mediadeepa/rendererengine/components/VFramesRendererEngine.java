@@ -18,6 +18,7 @@ package media.mexm.mediadeepa.rendererengine.components;
 
 import static java.awt.Color.BLUE;
 import static media.mexm.mediadeepa.exportformat.DataGraphic.THIN_STROKE;
+import static media.mexm.mediadeepa.exportformat.ExportFilter.getFramePosition;
 import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.CONTAINER;
 import static media.mexm.mediadeepa.exportformat.report.StatisticsUnitValueReportEntry.createFromDouble;
 import static media.mexm.mediadeepa.exportformat.report.StatisticsUnitValueReportEntry.createFromFloat;
@@ -41,7 +42,6 @@ import media.mexm.mediadeepa.exportformat.GraphicArtifact;
 import media.mexm.mediadeepa.exportformat.RangeAxis;
 import media.mexm.mediadeepa.exportformat.TableDocument;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
 import media.mexm.mediadeepa.exportformat.report.NumericUnitValueReportEntry;
 import media.mexm.mediadeepa.exportformat.report.ReportDocument;
@@ -96,14 +96,13 @@ public class VFramesRendererEngine implements
 	}
 
 	@Override
-	public List<TabularDocument> toTabularDocument(final DataResult result,
-												   final TabularExportFormat tabularExportFormat) {
+	public List<TabularDocument> toTabularDocument(final DataResult result) {
 		return result.getContainerAnalyserProcessResult()
 				.map(caResult -> {
-					final var vFrames = new TabularDocument(tabularExportFormat,
-							getSingleUniqTabularDocumentBaseFileName())
+					final var vFrames = new TabularDocument(getSingleUniqTabularDocumentBaseFileName())
 									.head(HEAD_VFRAMES);
-					caResult.videoFrames().forEach(r -> {
+					final var exportFilter = result.getExportFilter();
+					caResult.videoFrames().forEach(exportFilter.inTimeRange(r -> getFramePosition(r.frame()), r -> {
 						final var frame = r.frame();
 						vFrames.row(
 								frame.streamIndex(),
@@ -120,7 +119,7 @@ public class VFramesRendererEngine implements
 								frame.durationTime(),
 								frame.pktPos(),
 								frame.pktSize());
-					});
+					}));
 					return vFrames;
 				})
 				.stream()
@@ -132,7 +131,8 @@ public class VFramesRendererEngine implements
 		result.getContainerAnalyserProcessResult()
 				.ifPresent(caResult -> {
 					final var vFrames = tableDocument.createTable("Container video frames").head(HEAD_VFRAMES);
-					caResult.videoFrames().forEach(r -> {
+					final var exportFilter = result.getExportFilter();
+					caResult.videoFrames().forEach(exportFilter.inTimeRange(r -> getFramePosition(r.frame()), r -> {
 						final var frame = r.frame();
 						vFrames.addRow()
 								.addCell(frame.streamIndex())
@@ -149,7 +149,7 @@ public class VFramesRendererEngine implements
 								.addCell(frame.durationTime())
 								.addCell(frame.pktPos())
 								.addCell(frame.pktSize());
-					});
+					}));
 				});
 	}
 
@@ -181,7 +181,7 @@ public class VFramesRendererEngine implements
 		final var dataGraphic = TimedDataGraphic.create(
 				videoFramesReport.stream()
 						.filter(f -> f.streamIndex() == firstStreamIndex)
-						.map(f -> f.ptsTime() < 0f ? f.pktDtsTime() : f.ptsTime()),
+						.map(f -> getFramePosition(f)),
 				RangeAxis.createFromRelativesValueSet(
 						"Frame size (kbytes)", 0,
 						values.stream()));
@@ -51,6 +51,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Stream;
 import java.util.zip.ZipInputStream;
 
@@ -71,7 +74,9 @@ import media.mexm.mediadeepa.cli.ScanDirCmd;
 import media.mexm.mediadeepa.components.ExportFormatComparator;
 import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.ExportFilter;
 import media.mexm.mediadeepa.exportformat.ExportFormat;
+import media.mexm.mediadeepa.exportformat.RenderedImageCache;
 import media.mexm.mediadeepa.workingsession.WorkingSession;
 import picocli.AutoComplete;
 import picocli.CommandLine;
@@ -410,6 +415,11 @@ public class AppSessionServiceImpl implements AppSessionService {
 																	  + notExists.stream().collect(joining(", ")));
 						}
 					}
+					if (et.getExportFrom() != null
+						&& et.getExportTo() != null
+						&& et.getExportFrom() > et.getExportTo()) {
+						throw new ParameterException(commandLine, "Export from time can't be after export to time");
+					}
 				});
 	}
 
@@ -579,6 +589,7 @@ public class AppSessionServiceImpl implements AppSessionService {
 		final var tempDir = appCommand.getTempDir();
 
 		final var dataResult = new DataResult(inputFile.getName(), getVersion(), inMultipleSourcesSet);
+		dataResult.setSourceFile(inputFile);
 
 		final var ffprobeResult = ffmpegService.getFFprobeJAXBFromFileToProcess(inputFile, processFileCmd);
 		log.info("Source file: {}", ffprobeResult);
@@ -715,6 +726,35 @@ public class AppSessionServiceImpl implements AppSessionService {
 	}
 
 	private Map<String, File> exportAnalytics(final DataResult dataResult) {
+		try (var renderedImageCache = new RenderedImageCache(
+				appConfig.getGraphicConfig().getRenderedImagesCacheMaxMemory(),
+				appCommand.getTempDir());
+			 var compressExecutor = makeCompressExecutor()) {
+			dataResult.setRenderedImageCache(renderedImageCache);
+			dataResult.setCompressExecutor(compressExecutor);
+			dataResult.setRenderLimiter(
+					new Semaphore(Math.max(1, appConfig.getGraphicConfig().getRenderParallelism())));
+			return exportAnalyticsWithCache(dataResult);
+		} finally {
+			dataResult.setRenderedImageCache(null);
+			dataResult.setCompressExecutor(null);
+			dataResult.setRenderLimiter(null);
+		}
+	}
+
+	/**
+	 * Shared by all the gzip compressed files of this export, so parallelThreads bounds the total compression threads.
+	 * @return null if the parallel output compression is disabled
+	 */
+	private ExecutorService makeCompressExecutor() {
+		final var parallelThreads = appConfig.getCompressOutputConfig().getParallelThreads();
+		if (parallelThreads < 2) {
+			return null;
+		}
+		return Executors.newFixedThreadPool(parallelThreads, Thread.ofPlatform().name("gzip-", 0).daemon().factory());
+	}
+
+	private Map<String, File> exportAnalyticsWithCache(final DataResult dataResult) {
 		final var oExportOnly = ExportOnlyParamConfiguration.fromOutputCmd(appCommand.getOutputCmd(), commandLine);
 		if (oExportOnly.isPresent()) {
 			final var exportOnlyParams = oExportOnly.get();
@@ -737,8 +777,12 @@ public class AppSessionServiceImpl implements AppSessionService {
 			}
 		} else {
 			log.debug("Export analytics");
-			return mediaAnalyticsTransformerService
-					.exportAnalytics(dataResult, appCommand.getOutputCmd().getExportToCmd());
+			final var exportToCmd = appCommand.getOutputCmd().getExportToCmd();
+			dataResult.setExportFilter(ExportFilter.create(
+					exportToCmd.getExportFrom(),
+					exportToCmd.getExportTo(),
+					exportToCmd.getExportColumns()));
+			return mediaAnalyticsTransformerService.exportAnalytics(dataResult, exportToCmd);
 		}
 	}
 
@@ -18,28 +18,34 @@ package media.mexm.mediadeepa.service;
 
 import static java.util.Collections.unmodifiableMap;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
 import media.mexm.mediadeepa.cli.ExportToCmd;
 import media.mexm.mediadeepa.components.ExportFormatComparator;
+import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.ExportFormat;
+import media.mexm.mediadeepa.exportformat.SharedDocumentExportFormat;
 
 @Service
 @Slf4j
@@ -49,6 +55,8 @@ public class MediaAnalyticsTransformerServiceImpl implements MediaAnalyticsTrans
 	private List<ExportFormat> exportFormatList;
 	@Autowired
 	private ExportFormatComparator exportFormatComparator;
+	@Autowired
+	private AppConfig appConfig;
 
 	private ExportFormat getExportFormatByName(final String name) {
 		return exportFormatList.stream()
@@ -69,29 +77,89 @@ public class MediaAnalyticsTransformerServiceImpl implements MediaAnalyticsTrans
 		log.info("Start export result files...");
 		final var exported = new LinkedHashMap<String, File>();
 
-		final Consumer<ExportFormat> doExportFormat = exportFormat -> {
-			final var exportAnalyticResult = doExportAnalytic(result, exportFormat);
-			exportAnalyticResult.forEach((exportName, exportFile) -> exported
-					.put(exportFormat.getFormatName() + "-" + exportName, exportFile));
-		};
-
-		exportToCmd.getFormat()
+		final var exportFormats = exportToCmd.getFormat()
 				.stream()
 				.map(this::getExportFormatByName)
-				.forEach(doExportFormat);
+				.toList();
+		final var sharedDocuments = makeSharedDocuments(result, exportFormats);
+
+		final var parallelism = Math.max(1, Math.min(appConfig.getExportParallelism(), exportFormats.size()));
+		try (var executor = Executors.newFixedThreadPool(parallelism,
+				Thread.ofPlatform().name("export-", 0).factory())) {
+			final var exportAnalyticResults = exportFormats.stream()
+					.map(exportFormat -> CompletableFuture.supplyAsync(
+							() -> doExportAnalytic(result, exportFormat, sharedDocuments), executor))
+					.toList();
+
+			for (var pos = 0; pos < exportFormats.size(); pos++) {
+				final var formatName = exportFormats.get(pos).getFormatName();
+				join(exportAnalyticResults.get(pos))
+						.forEach((exportName, exportFile) -> exported
+								.put(formatName + "-" + exportName, exportFile));
+			}
+		}
 
 		return unmodifiableMap(exported);
 	}
 
-	private void singleExportAnalytics(final String internalFileName,
-									   final DataResult result,
-									   final Consumer<? super byte[]> action) {
-		exportFormatList.stream()
+	private static Map<String, File> join(final CompletableFuture<Map<String, File>> exportAnalyticResult) {
+		try {
+			return exportAnalyticResult.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Build only one time each document needed by the selected SharedDocumentExportFormats
+	 */
+	private Map<Class<?>, Object> makeSharedDocuments(final DataResult result,
+													  final List<ExportFormat> exportFormats) {
+		final var sharedDocuments = new HashMap<Class<?>, Object>();
+		for (final var exportFormat : exportFormats) {
+			if (exportFormat instanceof final SharedDocumentExportFormat<?> sharedExportFormat) {
+				sharedDocuments.computeIfAbsent(
+						sharedExportFormat.getSharedDocumentType(),
+						type -> makeSharedDocument(result, sharedExportFormat));
+			}
+		}
+		return unmodifiableMap(sharedDocuments);
+	}
+
+	private static Object makeSharedDocument(final DataResult result,
+											 final SharedDocumentExportFormat<?> exportFormat) {
+		final var now = System.currentTimeMillis();
+		final var type = exportFormat.getSharedDocumentType().getSimpleName();
+		log.debug("Prepare {} with {}...", type, exportFormat.getFormatName());
+		final var sharedDocument = exportFormat.makeSharedDocument(result);
+		log.debug("{} is ready, in {} sec", type, (System.currentTimeMillis() - now) / 1000f);
+		return sharedDocument;
+	}
+
+	private static <T> Map<String, File> exportResult(final DataResult result,
+													  final SharedDocumentExportFormat<T> exportFormat,
+													  final Map<Class<?>, Object> sharedDocuments) {
+		final var type = exportFormat.getSharedDocumentType();
+		return exportFormat.exportResult(result, type.cast(sharedDocuments.get(type)));
+	}
+
+	private Optional<ExportFormat> getSingleExportFormat(final String internalFileName) {
+		final var oExportFormat = exportFormatList.stream()
 				.sorted(exportFormatComparator)
-				.filter(f -> f.getInternalProducedFileNames().contains(internalFileName))
-				.findFirst()
-				.flatMap(d -> d.makeSingleExport(result, internalFileName))
-				.ifPresent(action);
+				.filter(f -> f.getInternalProducedFileNames().contains(internalFileName)
+							 || f.canWriteSingleExport() == false && f.isProducingFile(internalFileName))
+				.findFirst();
+		oExportFormat
+				.filter(f -> f.canWriteSingleExport() == false)
+				.ifPresent(f -> {
+					throw new IllegalArgumentException("Can't make a single export of \"" + internalFileName
+													   + "\": " + f.getFormatName()
+													   + " format can only write to its own file, use it with -f");
+				});
+		return oExportFormat;
 	}
 
 	@Override
@@ -111,38 +179,63 @@ public class MediaAnalyticsTransformerServiceImpl implements MediaAnalyticsTrans
 	public void singleExportAnalytics(final String internalFileName,
 									  final DataResult result,
 									  final File outputFile) {
-		singleExportAnalytics(internalFileName, result,
-				bytes -> {
-					log.info("Single export result {} file produce {} bytes, save to {}",
-							internalFileName, bytes.length, outputFile);
-					try {
-						FileUtils.writeByteArrayToFile(outputFile, bytes, false);
-					} catch (final IOException e) {
-						throw new UncheckedIOException("Can't write to " + outputFile, e);
-					}
-				});
+		final var oExportFormat = getSingleExportFormat(internalFileName);
+		if (oExportFormat.isEmpty()) {
+			return;
+		}
+
+		final boolean written;
+		final long writtenBytes;
+		try (var out = new CountingOutputStream(
+				new BufferedOutputStream(FileUtils.openOutputStream(outputFile, false)))) {
+			written = oExportFormat.get().writeSingleExport(result, internalFileName, out);
+			writtenBytes = out.getByteCount();
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write to " + outputFile, e);
+		}
+
+		if (written) {
+			log.info("Single export result {} file produce {} bytes, saved to {}",
+					internalFileName, writtenBytes, outputFile);
+		} else {
+			log.debug("Nothing to export for {}, remove {}", internalFileName, outputFile);
+			FileUtils.deleteQuietly(outputFile);
+		}
 	}
 
 	@Override
 	public void singleExportAnalyticsToOutputStream(final String internalFileName,
 													final DataResult result,
 													final OutputStream out) {
-		singleExportAnalytics(internalFileName, result,
-				bytes -> {
-					try {
-						log.info("Single export result {} file produce {} bytes, save to stream",
-								internalFileName, bytes.length);
-						IOUtils.write(bytes, out);
-					} catch (final IOException e) {
-						throw new UncheckedIOException("Can't write to stream", e);
-					}
-				});
+		final var oExportFormat = getSingleExportFormat(internalFileName);
+		if (oExportFormat.isEmpty()) {
+			return;
+		}
+
+		final var countingOut = new CountingOutputStream(out);
+		if (oExportFormat.get().writeSingleExport(result, internalFileName, countingOut) == false) {
+			return;
+		}
+		try {
+			countingOut.flush();
+		} catch (final IOException e) {
+			throw new UncheckedIOException("Can't write to stream", e);
+		}
+		log.info("Single export result {} file produce {} bytes, saved to stream",
+				internalFileName, countingOut.getByteCount());
 	}
 
-	private Map<String, File> doExportAnalytic(final DataResult result, final ExportFormat s) {
+	private Map<String, File> doExportAnalytic(final DataResult result,
+											   final ExportFormat s,
+											   final Map<Class<?>, Object> sharedDocuments) {
 		final var now = System.currentTimeMillis();
 		log.info("Export with {} ({})...", s.getFormatLongName(), s.getFormatName());
-		final var producedFiles = s.exportResult(result);
+		final Map<String, File> producedFiles;
+		if (s instanceof final SharedDocumentExportFormat<?> sharedExportFormat) {
+			producedFiles = exportResult(result, sharedExportFormat, sharedDocuments);
+		} else {
+			producedFiles = s.exportResult(result);
+		}
 		final var duration = (System.currentTimeMillis() - now) / 1000f;
 		if (producedFiles.isEmpty()) {
 			log.info("{} has not product files (it take to {} sec)", s.getFormatName(), duration);
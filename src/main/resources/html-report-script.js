@@ -34,3 +34,317 @@ window.addEventListener('load', (event) => {
     });
   });
 });
+
+/*
+ * Interactive charts, drawn from the downsampled datas set in the "data-chart" canvas attribute.
+ * Drag to zoom on a time range, double click to reset the zoom.
+ */
+const chartMargin = { left: 64, right: 12, top: 12, bottom: 28 };
+
+const chartToAxis = (chart, value) => chart.log ? Math.sign(value) * Math.log10(1 + Math.abs(value)) : value;
+const chartFromAxis = (chart, value) => chart.log ? Math.sign(value) * (Math.pow(10, Math.abs(value)) - 1) : value;
+
+const chartFormatValue = value => {
+  if (value === null || value === undefined || Number.isFinite(value) === false) {
+    return '-';
+  }
+  return String(Number(value.toPrecision(4)));
+};
+
+const chartFormatPosition = (chart, value, span) => {
+  if (chart.time === false) {
+    return chartFormatValue(value);
+  }
+  const pad = (v, size) => String(v).padStart(size, '0');
+  const ms = Math.round(value);
+  const seconds = Math.floor(ms / 1000);
+  let result = pad(Math.floor(seconds / 60) % 60, 2) + ':' + pad(seconds % 60, 2);
+  if (seconds >= 3600) {
+    result = Math.floor(seconds / 3600) + ':' + result;
+  }
+  if (span < 10000) {
+    result += '.' + pad(ms % 1000, 3);
+  }
+  return result;
+};
+
+const chartTicks = (min, max, count) => {
+  const span = max - min;
+  if (span <= 0 || Number.isFinite(span) === false) {
+    return [min];
+  }
+  const raw = span / count;
+  const magnitude = Math.pow(10, Math.floor(Math.log10(raw)));
+  const step = [1, 2, 5, 10].map(m => m * magnitude).find(s => s >= raw);
+  const ticks = [];
+  for (let tick = Math.ceil(min / step) * step; tick <= max; tick += step) {
+    ticks.push(tick);
+  }
+  return ticks;
+};
+
+const chartFirstIndex = (values, position) => {
+  let low = 0;
+  let high = values.length;
+  while (low < high) {
+    const middle = (low + high) >> 1;
+    if (values[middle] < position) {
+      low = middle + 1;
+    } else {
+      high = middle;
+    }
+  }
+  return low;
+};
+
+const chartStackedValues = chart => {
+  const result = [];
+  let previous = null;
+  chart.series.forEach(serie => {
+    const stacked = serie.y.map((value, pos) => (previous === null ? 0 : previous[pos]) + (value === null ? 0 : value));
+    result.push(stacked);
+    previous = stacked;
+  });
+  return result;
+};
+
+const chartValueRange = (chart, state) => {
+  if (chart.min !== null && chart.max !== null) {
+    return [chartToAxis(chart, chart.min), chartToAxis(chart, chart.max)];
+  }
+  let min = Infinity;
+  let max = -Infinity;
+  const values = chart.stacked ? state.stacked : chart.series.map(serie => serie.y);
+  chart.series.forEach((serie, posSerie) => {
+    const from = Math.max(0, chartFirstIndex(serie.x, state.xMin) - 1);
+    const to = Math.min(serie.x.length, chartFirstIndex(serie.x, state.xMax) + 1);
+    for (let pos = from; pos < to; pos++) {
+      const value = values[posSerie][pos];
+      if (value !== null) {
+        min = Math.min(min, chartToAxis(chart, value));
+        max = Math.max(max, chartToAxis(chart, value));
+      }
+    }
+  });
+  if (chart.stacked) {
+    min = Math.min(min, 0);
+  }
+  if (Number.isFinite(min) === false) {
+    return [0, 1];
+  }
+  if (min === max) {
+    return [min - 1, max + 1];
+  }
+  const margin = (max - min) / 20;
+  return [min - margin, max + margin];
+};
+
+const drawChart = (canvas, chart, state) => {
+  const ctx = canvas.getContext('2d');
+  const width = state.width;
+  const height = state.height;
+  const plotWidth = width - chartMargin.left - chartMargin.right;
+  const plotHeight = height - chartMargin.top - chartMargin.bottom;
+  const [yMin, yMax] = chartValueRange(chart, state);
+  const toX = x => chartMargin.left + (x - state.xMin) / (state.xMax - state.xMin) * plotWidth;
+  const toY = y => chartMargin.top + plotHeight - (chartToAxis(chart, y) - yMin) / (yMax - yMin) * plotHeight;
+
+  ctx.setTransform(state.ratio, 0, 0, state.ratio, 0, 0);
+  ctx.fillStyle = 'black';
+  ctx.fillRect(0, 0, width, height);
+  ctx.font = '11px sans-serif';
+  ctx.lineWidth = 1;
+  ctx.setLineDash([]);
+
+  ctx.fillStyle = 'gray';
+  ctx.strokeStyle = '#333';
+  ctx.textAlign = 'right';
+  ctx.textBaseline = 'middle';
+  chartTicks(yMin, yMax, 6).forEach(tick => {
+    const y = chartMargin.top + plotHeight - (tick - yMin) / (yMax - yMin) * plotHeight;
+    ctx.beginPath();
+    ctx.moveTo(chartMargin.left, y);
+    ctx.lineTo(width - chartMargin.right, y);
+    ctx.stroke();
+    ctx.fillText(chartFormatValue(chartFromAxis(chart, tick)), chartMargin.left - 4, y);
+  });
+  ctx.textAlign = 'center';
+  ctx.textBaseline = 'top';
+  const span = state.xMax - state.xMin;
+  chartTicks(state.xMin, state.xMax, 8).forEach(tick => {
+    const x = toX(tick);
+    ctx.beginPath();
+    ctx.moveTo(x, chartMargin.top);
+    ctx.lineTo(x, chartMargin.top + plotHeight);
+    ctx.stroke();
+    ctx.fillText(chartFormatPosition(chart, tick, span), x, chartMargin.top + plotHeight + 6);
+  });
+
+  ctx.save();
+  ctx.beginPath();
+  ctx.rect(chartMargin.left, chartMargin.top, plotWidth, plotHeight);
+  ctx.clip();
+
+  chart.series.forEach((serie, posSerie) => {
+    const from = Math.max(0, chartFirstIndex(serie.x, state.xMin) - 1);
+    const to = Math.min(serie.x.length, chartFirstIndex(serie.x, state.xMax) + 1);
+    if (from >= to) {
+      return;
+    }
+    ctx.beginPath();
+    if (chart.stacked) {
+      const top = state.stacked[posSerie];
+      const bottom = posSerie > 0 ? state.stacked[posSerie - 1] : null;
+      ctx.moveTo(toX(serie.x[from]), toY(top[from]));
+      for (let pos = from + 1; pos < to; pos++) {
+        ctx.lineTo(toX(serie.x[pos]), toY(top[pos]));
+      }
+      for (let pos = to - 1; pos >= from; pos--) {
+        ctx.lineTo(toX(serie.x[pos]), toY(bottom === null ? 0 : bottom[pos]));
+      }
+      ctx.closePath();
+      ctx.fillStyle = serie.color;
+      ctx.fill();
+      return;
+    }
+    let drawing = false;
+    for (let pos = from; pos < to; pos++) {
+      const value = serie.y[pos];
+      if (value === null) {
+        drawing = false;
+      } else if (drawing) {
+        ctx.lineTo(toX(serie.x[pos]), toY(value));
+      } else {
+        ctx.moveTo(toX(serie.x[pos]), toY(value));
+        drawing = true;
+      }
+    }
+    ctx.strokeStyle = serie.color;
+    ctx.lineWidth = serie.width;
+    ctx.stroke();
+  });
+
+  ctx.strokeStyle = 'white';
+  ctx.fillStyle = 'white';
+  ctx.lineWidth = 1;
+  ctx.setLineDash([5, 5]);
+  ctx.textAlign = 'left';
+  ctx.textBaseline = 'bottom';
+  chart.markers.forEach(marker => {
+    const y = toY(marker);
+    ctx.beginPath();
+    ctx.moveTo(chartMargin.left, y);
+    ctx.lineTo(width - chartMargin.right, y);
+    ctx.stroke();
+    ctx.fillText(chartFormatValue(marker), chartMargin.left + 4, y - 2);
+  });
+  ctx.setLineDash([]);
+
+  if (state.dragFrom !== null && state.dragTo !== null) {
+    ctx.fillStyle = 'rgba(255, 255, 255, 0.2)';
+    ctx.fillRect(Math.min(state.dragFrom, state.dragTo), chartMargin.top,
+      Math.abs(state.dragTo - state.dragFrom), plotHeight);
+  } else if (state.cursor !== null) {
+    const position = state.xMin + (state.cursor - chartMargin.left) / plotWidth * span;
+    ctx.strokeStyle = 'gray';
+    ctx.beginPath();
+    ctx.moveTo(state.cursor, chartMargin.top);
+    ctx.lineTo(state.cursor, chartMargin.top + plotHeight);
+    ctx.stroke();
+    ctx.textBaseline = 'top';
+    ctx.fillStyle = 'white';
+    let line = chartMargin.top + 4;
+    ctx.fillText(chartFormatPosition(chart, position, span), state.cursor + 6, line);
+    chart.series.forEach(serie => {
+      const pos = Math.min(serie.x.length - 1, chartFirstIndex(serie.x, position));
+      if (pos < 0) {
+        return;
+      }
+      line += 14;
+      ctx.fillStyle = serie.color;
+      ctx.fillText(serie.name + ': ' + chartFormatValue(serie.y[pos]), state.cursor + 6, line);
+    });
+  }
+  ctx.restore();
+
+  ctx.strokeStyle = 'gray';
+  ctx.strokeRect(chartMargin.left, chartMargin.top, plotWidth, plotHeight);
+};
+
+const setupChart = canvas => {
+  const chart = JSON.parse(canvas.dataset.chart);
+  const xValues = chart.series.flatMap(serie => [serie.x[0], serie.x[serie.x.length - 1]])
+    .filter(x => x !== undefined);
+  if (xValues.length === 0) {
+    return;
+  }
+  const state = {
+    width: canvas.width,
+    height: canvas.height,
+    ratio: window.devicePixelRatio || 1,
+    xFullMin: Math.min(...xValues),
+    xFullMax: Math.max(...xValues),
+    stacked: chart.stacked ? chartStackedValues(chart) : null,
+    dragFrom: null,
+    dragTo: null,
+    cursor: null
+  };
+  if (state.xFullMax <= state.xFullMin) {
+    state.xFullMax = state.xFullMin + 1;
+  }
+  state.xMin = state.xFullMin;
+  state.xMax = state.xFullMax;
+
+  canvas.style.width = state.width + 'px';
+  canvas.width = Math.round(state.width * state.ratio);
+  canvas.height = Math.round(state.height * state.ratio);
+
+  const toCanvasX = event => {
+    const rect = canvas.getBoundingClientRect();
+    const x = (event.clientX - rect.left) / rect.width * state.width;
+    return Math.min(state.width - chartMargin.right, Math.max(chartMargin.left, x));
+  };
+  const toPosition = x => state.xMin
+    + (x - chartMargin.left) / (state.width - chartMargin.left - chartMargin.right) * (state.xMax - state.xMin);
+  const redraw = () => drawChart(canvas, chart, state);
+
+  canvas.addEventListener('mousedown', e => {
+    state.dragFrom = toCanvasX(e);
+    state.dragTo = state.dragFrom;
+    redraw();
+  });
+  canvas.addEventListener('mousemove', e => {
+    state.cursor = toCanvasX(e);
+    if (state.dragFrom !== null) {
+      state.dragTo = state.cursor;
+    }
+    redraw();
+  });
+  canvas.addEventListener('mouseup', e => {
+    if (state.dragFrom !== null && Math.abs(toCanvasX(e) - state.dragFrom) > 4) {
+      const from = toPosition(Math.min(state.dragFrom, toCanvasX(e)));
+      const to = toPosition(Math.max(state.dragFrom, toCanvasX(e)));
+      state.xMin = from;
+      state.xMax = to;
+    }
+    state.dragFrom = null;
+    state.dragTo = null;
+    redraw();
+  });
+  canvas.addEventListener('mouseleave', () => {
+    state.cursor = null;
+    state.dragFrom = null;
+    state.dragTo = null;
+    redraw();
+  });
+  canvas.addEventListener('dblclick', () => {
+    state.xMin = state.xFullMin;
+    state.xMax = state.xFullMax;
+    redraw();
+  });
+  redraw();
+};
+
+window.addEventListener('load', () => {
+  document.querySelectorAll('figure.chart canvas').forEach(setupChart);
+});
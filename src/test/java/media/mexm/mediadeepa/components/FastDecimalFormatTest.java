@@ -0,0 +1,73 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.components;
+
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.FRENCH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class FastDecimalFormatTest {
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 2, 3, 4, 5, 6 })
+	void testFormat_sameAsDecimalFormat(final int maxFractionDigits) {
+		checkSameAsDecimalFormat(maxFractionDigits, ENGLISH);
+		checkSameAsDecimalFormat(maxFractionDigits, FRENCH);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { -1, 7 })
+	void testInvalidMaxFractionDigits(final int maxFractionDigits) {
+		assertThrows(IllegalArgumentException.class, () -> new FastDecimalFormat(maxFractionDigits, ENGLISH));
+	}
+
+	private static void checkSameAsDecimalFormat(final int maxFractionDigits, final Locale locale) {
+		final var decimalFormat = new DecimalFormat(maxFractionDigits == 0 ? "#" : "#." + "#".repeat(maxFractionDigits));
+		decimalFormat.setDecimalFormatSymbols(new DecimalFormatSymbols(locale));
+		final var fastDecimalFormat = new FastDecimalFormat(maxFractionDigits, locale);
+
+		final var specialValues = new double[] {
+			0d, -0d, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+			Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, 1e9d, -1e9d, 0.5d, 1.5d, 2.5d,
+			0.015625d, 0.046875d, 0.123455d, 123456.987654d, 999999.9999995d,
+			5e-4d, -5e-4d, 5e-5d, -5e-5d, 5e-6d, -5e-6d, 5e-7d, -5e-7d, 0.0005d, -0.0005d,
+			0.05d, 0.15d, 0.25d, 0.35d, 1.005d, 2.675d, 0.125d, 0.375d };
+		for (final var value : specialValues) {
+			assertEquals(decimalFormat.format(value), fastDecimalFormat.format(value), String.valueOf(value));
+		}
+
+		final var random = new Random(0);
+		for (var pos = 0; pos < 100_000; pos++) {
+			final var value = switch (pos % 4) {
+			case 0 -> Float.intBitsToFloat(random.nextInt());
+			case 1 -> (random.nextInt(20_000_000) - 10_000_000) / Math.pow(10, random.nextInt(8));
+			case 2 -> (float) (random.nextGaussian() * 1000d);
+			default -> Double.longBitsToDouble(random.nextLong());
+			};
+			assertEquals(decimalFormat.format(value), fastDecimalFormat.format(value), String.valueOf(value));
+		}
+	}
+
+}
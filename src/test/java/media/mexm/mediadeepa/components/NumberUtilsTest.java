@@ -16,15 +16,25 @@
  */
 package media.mexm.mediadeepa.components;
 
+import static java.util.Locale.ENGLISH;
+import static java.util.Locale.FRENCH;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import media.mexm.mediadeepa.NumberFormator;
 import net.datafaker.Faker;
 
 class NumberUtilsTest {
@@ -112,4 +122,56 @@ class NumberUtilsTest {
 		assertArrayEquals(new double[] { 1, 8, -7, 1, 0 }, result);
 	}
 
+	@Test
+	void testConcurrentFormat() {
+		final var values = IntStream.range(0, 10_000)
+				.mapToObj(i -> i + 0.123456789d)
+				.toList();
+		final var expected = values.stream()
+				.map(nu::formatDecimalFull3En)
+				.toList();
+		final var result = values.parallelStream()
+				.map(nu::formatDecimalFull3En)
+				.toList();
+		assertEquals(expected, result);
+	}
+
+	@Test
+	void testSameAsDecimalFormat() {
+		final var random = new Random(0);
+		final var corpus = new ArrayList<Object>(List.of(
+				0, 0l, -1, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE,
+				0f, -0f, 0d, -0d, Float.NaN, Double.NaN,
+				Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Double.MAX_VALUE, -Double.MIN_VALUE,
+				0.05f, 0.15f, 0.25f, 0.015625f, 0.123455d, 123456.88888d, 999.99999f,
+				0.5d, -0.5d, 1.5d, -1.5d, 2.5d, -2.5d, 0.05d, -0.05d, 0.25d, -0.25d,
+				5e-4d, -5e-4d, 5e-5d, -5e-5d, 5e-6d, -5e-6d, 0.0005d, -0.0005d, 0.0005f, -0.0005f));
+		for (var pos = 0; pos < 50_000; pos++) {
+			corpus.add(Float.intBitsToFloat(random.nextInt()));
+			corpus.add((float) (random.nextGaussian() * 10_000d));
+			corpus.add((random.nextInt(20_000_000) - 10_000_000) / Math.pow(10, random.nextInt(8)));
+			corpus.add(Double.longBitsToDouble(random.nextLong()));
+			corpus.add(random.nextLong());
+			corpus.add(random.nextInt());
+		}
+
+		checkSameAsDecimalFormat(corpus, "#.#", ENGLISH, nu::formatDecimalSimple1En);
+		checkSameAsDecimalFormat(corpus, "#.#####", ENGLISH, nu::formatDecimalSimple5En);
+		checkSameAsDecimalFormat(corpus, "#.#", FRENCH, nu::formatDecimalSimple1Fr);
+		checkSameAsDecimalFormat(corpus, "#.#####", FRENCH, nu::formatDecimalSimple5Fr);
+		checkSameAsDecimalFormat(corpus, "#,###.#", ENGLISH, nu::formatDecimalFull1En);
+		checkSameAsDecimalFormat(corpus, "#,###.###", ENGLISH, nu::formatDecimalFull3En);
+		checkSameAsDecimalFormat(corpus, "#,###", ENGLISH, nu::formatFixedFullEn);
+	}
+
+	private static void checkSameAsDecimalFormat(final List<Object> corpus,
+												 final String pattern,
+												 final Locale locale,
+												 final NumberFormator numberFormator) {
+		final var decimalFormat = new DecimalFormat(pattern);
+		decimalFormat.setDecimalFormatSymbols(new DecimalFormatSymbols(locale));
+		corpus.forEach(value -> assertEquals(
+				decimalFormat.format(value), numberFormator.format(value), pattern + " " + value));
+	}
+
 }
@@ -17,17 +17,30 @@
 package media.mexm.mediadeepa.components;
 
 import static java.io.File.separator;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static media.mexm.mediadeepa.components.OutputFileSupplier.GZIP_EXTENSION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,7 +121,9 @@ class OutputFileSupplierTest {
 		verify(outputCmd, atLeastOnce()).getExportToCmd();
 		verify(exportToCmd, atLeastOnce()).getExport();
 		verify(exportToCmd, atLeastOnce()).getBaseFileName();
+		verify(exportToCmd, atLeast(0)).isCompressOutput();
 		verify(result, atLeast(0)).isInMultipleSourcesSet();
+		verify(result, atLeast(0)).getCompressExecutor();
 
 		verifyNoMoreInteractions(result, appCommand, outputCmd, exportToCmd);
 
@@ -133,6 +148,75 @@ class OutputFileSupplierTest {
 		assertEquals(new File(export, baseFileName + sep + suffix), ofs.makeOutputFile(result, suffix));
 	}
 
+	@Test
+	void testMakeSharedOutputFile() {
+		when(exportToCmd.getBaseFileName()).thenReturn(baseFileName);
+		assertEquals(new File(export, baseFileName + "_" + suffix), ofs.makeSharedOutputFile(suffix));
+	}
+
+	@Test
+	void testMakeCompressibleOutputFile() {
+		when(exportToCmd.getBaseFileName()).thenReturn(baseFileName);
+		assertEquals(new File(export, baseFileName + "_" + suffix),
+				ofs.makeCompressibleOutputFile(result, suffix));
+
+		when(exportToCmd.isCompressOutput()).thenReturn(true);
+		assertEquals(new File(export, baseFileName + "_" + suffix + GZIP_EXTENSION),
+				ofs.makeCompressibleOutputFile(result, suffix));
+		verify(exportToCmd, atLeastOnce()).isCompressOutput();
+	}
+
+	@Test
+	void testIsReportLinkedImages_isExportFormatRequested() {
+		assertFalse(ofs.isReportLinkedImages());
+		assertFalse(ofs.isExportFormatRequested("report"));
+
+		when(exportToCmd.isReportLinkedImages()).thenReturn(true);
+		when(exportToCmd.getFormat()).thenReturn(Set.of("report", "graphic"));
+		assertTrue(ofs.isReportLinkedImages());
+		assertTrue(ofs.isExportFormatRequested("GRAPHIC"));
+		assertFalse(ofs.isExportFormatRequested("jsonreport"));
+		assertEquals(new File(export, suffix), ofs.makeOutputFile(result, suffix));
+
+		verify(exportToCmd, times(2)).isReportLinkedImages();
+		verify(exportToCmd, times(3)).getFormat();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 3 })
+	void testOpenOutputStream(final int parallelThreads) throws IOException {
+		final var outputDir = new File("target/tmp-test/" + faker.numerify("output###"));
+		when(exportToCmd.getExport()).thenReturn(outputDir);
+		when(exportToCmd.isCompressOutput()).thenReturn(true);
+		final var rawFile = ofs.makeOutputFile(result, suffix);
+		final var gzFile = ofs.makeCompressibleOutputFile(result, suffix);
+
+		final var content = faker.lorem().paragraph(100).getBytes(UTF_8);
+		appConfig.getCompressOutputConfig().setParallelThreads(parallelThreads);
+		appConfig.getCompressOutputConfig().setParallelBlockSize(100);
+		final var executor = Executors.newFixedThreadPool(2);
+		if (parallelThreads > 1) {
+			when(result.getCompressExecutor()).thenReturn(Optional.of(executor));
+		}
+		try {
+			try (var outputStream = ofs.openOutputStream(result, rawFile)) {
+				outputStream.write(content);
+			}
+			try (var outputStream = ofs.openOutputStream(result, gzFile)) {
+				outputStream.write(content);
+			}
+			assertArrayEquals(content, FileUtils.readFileToByteArray(rawFile));
+			try (var inputStream = new GZIPInputStream(new FileInputStream(gzFile))) {
+				assertArrayEquals(content, inputStream.readAllBytes());
+			}
+		} finally {
+			executor.shutdownNow();
+			appConfig.getCompressOutputConfig().setParallelThreads(0);
+			appConfig.getCompressOutputConfig().setParallelBlockSize(1024 * 1024);
+			FileUtils.deleteQuietly(outputDir);
+		}
+	}
+
 	@Nested
 	class MultipleSources {
 
@@ -0,0 +1,121 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.components;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import net.datafaker.Faker;
+
+class ParallelGzipOutputStreamTest {
+	static Faker faker = net.datafaker.Faker.instance();
+
+	ExecutorService executor;
+
+	@BeforeEach
+	void init() {
+		executor = Executors.newFixedThreadPool(3);
+	}
+
+	@AfterEach
+	void ends() {
+		executor.shutdownNow();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 0, 1, 99, 100, 101, 10_000 })
+	void testWrite(final int size) throws IOException {
+		final var content = faker.random().nextRandomBytes(size);
+		final var compressed = new ByteArrayOutputStream();
+		try (var outputStream = new ParallelGzipOutputStream(compressed, 6, 100, executor, 6)) {
+			var pos = 0;
+			while (pos < size) {
+				final var len = Math.min(size - pos, faker.random().nextInt(1, 300));
+				if (len == 1) {
+					outputStream.write(content[pos]);
+				} else {
+					outputStream.write(content, pos, len);
+				}
+				outputStream.flush();
+				pos += len;
+			}
+		}
+
+		try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+			assertArrayEquals(content, inputStream.readAllBytes());
+		}
+	}
+
+	@Test
+	void testClosed() throws IOException {
+		final var outputStream = new ParallelGzipOutputStream(new ByteArrayOutputStream(), 6, 100, executor, 1);
+		outputStream.close();
+		outputStream.close();
+		assertThrows(IOException.class, () -> outputStream.write(0));
+		assertFalse(executor.isShutdown());
+	}
+
+	@Test
+	void testSharedExecutor() throws IOException {
+		final var contentA = faker.random().nextRandomBytes(1000);
+		final var contentB = faker.random().nextRandomBytes(1500);
+		final var compressedA = new ByteArrayOutputStream();
+		final var compressedB = new ByteArrayOutputStream();
+		try (var outputStreamA = new ParallelGzipOutputStream(compressedA, 6, 100, executor, 2);
+			 var outputStreamB = new ParallelGzipOutputStream(compressedB, 6, 100, executor, 2)) {
+			for (var pos = 0; pos < contentB.length; pos += 50) {
+				if (pos < contentA.length) {
+					outputStreamA.write(contentA, pos, 50);
+				}
+				outputStreamB.write(contentB, pos, 50);
+			}
+		}
+
+		try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(compressedA.toByteArray()))) {
+			assertArrayEquals(contentA, inputStream.readAllBytes());
+		}
+		try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(compressedB.toByteArray()))) {
+			assertArrayEquals(contentB, inputStream.readAllBytes());
+		}
+	}
+
+	@Test
+	void testInvalidParams() {
+		final var outputStream = new ByteArrayOutputStream();
+		assertThrows(IllegalArgumentException.class,
+				() -> new ParallelGzipOutputStream(outputStream, 6, 0, executor, 1));
+		assertThrows(IllegalArgumentException.class,
+				() -> new ParallelGzipOutputStream(outputStream, 6, 100, executor, 0));
+		assertThrows(NullPointerException.class,
+				() -> new ParallelGzipOutputStream(outputStream, 6, 100, null, 1));
+	}
+
+}
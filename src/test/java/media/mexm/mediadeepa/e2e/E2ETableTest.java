@@ -18,6 +18,8 @@ package media.mexm.mediadeepa.e2e;
 
 import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
 import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static media.mexm.mediadeepa.exportformat.components.TableNdJsonExportFormat.TABLE_FIELD_NAME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
@@ -30,13 +32,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.HashSet;
 import java.util.stream.Stream;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParserFactory;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DynamicTest;
@@ -46,6 +54,9 @@ import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import media.mexm.mediadeepa.exportformat.columnar.ColumnarReader;
 
 class E2ETableTest extends E2EUtils {
 
@@ -72,8 +83,12 @@ class E2ETableTest extends E2EUtils {
 		return Stream.of(
 				dynamicTest("XLSX", this::testXLSX),
 				dynamicTest("SQLite", this::testSQLite),
+				dynamicTest("SQLite fleet", this::testSQLiteFleet),
 				dynamicTest("XML", this::testXML),
-				dynamicTest("json", this::testJSON));
+				dynamicTest("json", this::testJSON),
+				dynamicTest("ndjson", this::testNDJSON),
+				dynamicTest("json columns", this::testJSONColumns),
+				dynamicTest("columnar", this::testColumnar));
 	}
 
 	File makeOutputFile(final String baseFileName, final String format) {
@@ -99,6 +114,19 @@ class E2ETableTest extends E2EUtils {
 		assertTrue(outputFile.length() > 0);
 	}
 
+	void testSQLiteFleet() throws SQLException {
+		makeOutputFile("mpg_media-fleet.sqlite", "sqlitefleet");
+		final var outputFile = makeOutputFile("mpg_media-fleet.sqlite", "sqlitefleet");
+		assertTrue(outputFile.exists());
+
+		try (var connection = DriverManager.getConnection("jdbc:sqlite:" + outputFile.getPath());
+			 var statement = connection.createStatement();
+			 var resultSet = statement.executeQuery("SELECT COUNT(*) FROM media")) {
+			assertTrue(resultSet.next());
+			assertEquals(1, resultSet.getInt(1));
+		}
+	}
+
 	void testXML() throws IOException, SAXException, ParserConfigurationException {
 		final var outputFile = makeOutputFile("mpg_media-datas.xml", "xml");
 		assertTrue(outputFile.exists());
@@ -138,4 +166,47 @@ class E2ETableTest extends E2EUtils {
 		assertEquals(FIELD_NAME, jParser.nextToken());
 	}
 
+	void testNDJSON() throws IOException {
+		final var outputFile = makeOutputFile("mpg_media-datas.ndjson", "ndjson");
+		assertTrue(outputFile.exists());
+
+		final var lines = FileUtils.readLines(outputFile, UTF_8);
+		assertTrue(lines.size() > 1000);
+
+		final var objectMapper = new ObjectMapper();
+		for (final var line : lines) {
+			assertTrue(objectMapper.readTree(line).hasNonNull(TABLE_FIELD_NAME), line);
+		}
+	}
+
+	void testJSONColumns() throws IOException {
+		final var outputFile = makeOutputFile("mpg_media-datas-columns.json", "jsoncolumns");
+		assertTrue(outputFile.exists());
+
+		final var report = new ObjectMapper().readTree(outputFile).get("report");
+		assertTrue(report.size() > 0);
+		report.elements().forEachRemaining(table -> {
+			final var columnSizes = new HashSet<Integer>();
+			table.elements().forEachRemaining(column -> {
+				assertTrue(column.isArray());
+				columnSizes.add(column.size());
+			});
+			assertEquals(1, columnSizes.size());
+		});
+	}
+
+	void testColumnar() throws IOException {
+		final var outputFile = makeOutputFile("mpg_media-datas.mxcl", "columnar");
+		assertTrue(outputFile.exists());
+
+		try (var inputStream = new BufferedInputStream(new FileInputStream(outputFile))) {
+			final var tables = ColumnarReader.read(inputStream);
+			assertTrue(tables.size() > 0);
+			for (final var table : tables) {
+				assertTrue(table.rowCount() > 0);
+				table.columns().forEach(column -> assertEquals(table.rowCount(), column.values().size()));
+			}
+		}
+	}
+
 }
@@ -107,6 +107,7 @@ class E2ETextTest extends E2EUtils {
 			checkProcessTXT_containerPackets();
 			checkProcessTXT_events();
 			checkProcessTXT_mediaSummary();
+			checkProcessTXT_rollups();
 
 			if (rawData.hasVideo()) {
 				checkProcessTXT_containerVideoConst();
@@ -328,6 +329,20 @@ class E2ETextTest extends E2EUtils {
 			}
 		}
 
+		void checkProcessTXT_rollups() throws IOException {
+			final var f = getProcessedTXTFromRaw(rawData, "rollups.txt");
+			final var lines = readLines(f);
+			assertTableWith(9, lines);
+			assertThat(lines).anyMatch(l -> l.startsWith("1\tPacket size #0\t"));
+			assertThat(lines).anyMatch(l -> l.startsWith("60\tPacket size #0\t"));
+			assertThat(lines).anyMatch(l -> l.startsWith("1\tBitrate #0\t"));
+			assertThat(lines).anyMatch(l -> l.startsWith("60\tBitrate #0\t"));
+			assertThat(lines).anyMatch(l -> l.startsWith("1\tMomentary\t"));
+			if (rawData.hasVideo()) {
+				assertThat(lines).anyMatch(l -> l.startsWith("1\tSpatial Info\t"));
+			}
+		}
+
 		void checkProcessTXT_audioFrames() throws IOException {
 			final var specificMediaFile = getFromMediaFile(rawData.mediaFile());
 			final var f = getProcessedTXTFromRaw(rawData, "container-audio-frames.txt");
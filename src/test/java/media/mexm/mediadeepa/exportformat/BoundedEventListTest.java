@@ -0,0 +1,100 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.exportformat.BoundedEventList.DurationEvent;
+import media.mexm.mediadeepa.exportformat.BoundedEventList.DurationHistogramBucket;
+import net.datafaker.Faker;
+
+class BoundedEventListTest {
+	static Faker faker = Faker.instance();
+
+	String name;
+	BoundedEventList<String> list;
+
+	@BeforeEach
+	void init() {
+		name = faker.lorem().word();
+		list = new BoundedEventList<>(3, 2, List.of(ofSeconds(1), ofMillis(100)));
+	}
+
+	@Test
+	void testInvalid() {
+		final var bounds = List.of(ofSeconds(1));
+		assertThrows(IllegalArgumentException.class, () -> new BoundedEventList<String>(-1, 1, bounds));
+		assertThrows(IllegalArgumentException.class, () -> new BoundedEventList<String>(1, -1, bounds));
+	}
+
+	@Test
+	void testNoOverflow() {
+		list.add(name, ofSeconds(1));
+		assertEquals(List.of(name), list.getListed());
+		assertTrue(list.getOverflow().isEmpty());
+	}
+
+	@Test
+	void testOverflow() {
+		for (var pos = 0; pos < 10; pos++) {
+			list.add(name + pos, ofMillis(pos * 150L));
+		}
+		assertEquals(List.of(name + 0, name + 1, name + 2), list.getListed());
+
+		final var overflow = list.getOverflow().get();
+		assertEquals(7, overflow.count());
+		assertEquals(ofMillis(6300), overflow.totalDuration());
+		assertEquals(List.of(
+				new DurationEvent<>(name + 9, ofMillis(1350)),
+				new DurationEvent<>(name + 8, ofMillis(1200))),
+				overflow.longest());
+		assertEquals(List.of(
+				new DurationHistogramBucket(ZERO, Optional.of(ofMillis(100)), 0),
+				new DurationHistogramBucket(ofMillis(100), Optional.of(ofSeconds(1)), 4),
+				new DurationHistogramBucket(ofSeconds(1), Optional.empty(), 3)),
+				overflow.histogram());
+	}
+
+	@Test
+	void testOverflow_noListedNoLongest() {
+		list = new BoundedEventList<>(0, 0, List.of());
+		final var count = faker.random().nextInt(1, 1000);
+		for (var pos = 0; pos < count; pos++) {
+			list.add(name, ofSeconds(1));
+		}
+		assertThat(list.getListed()).isEmpty();
+		final var overflow = list.getOverflow().get();
+		assertEquals(count, overflow.count());
+		assertEquals(ofSeconds(count), overflow.totalDuration());
+		assertThat(overflow.longest()).isEmpty();
+		assertThat(overflow.histogram()).hasSize(1);
+		assertEquals(count, overflow.histogram().get(0).count());
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.datafaker.Faker;
+
+class ExportFilterTest {
+	static Faker faker = Faker.instance();
+
+	float from;
+	float to;
+	ExportFilter exportFilter;
+
+	@BeforeEach
+	void init() {
+		from = faker.random().nextInt(10, 100);
+		to = from + faker.random().nextInt(10, 100);
+		exportFilter = ExportFilter.create(from, to, Map.of(
+				"Container video-frames", "pts, PKT_SIZE,pict_type,"));
+	}
+
+	@Test
+	void testNoFilter() {
+		final var noFilter = ExportFilter.NO_FILTER;
+		assertFalse(noFilter.hasTimeRange());
+		assertTrue(noFilter.isInTimeRange(Float.NaN));
+		assertTrue(noFilter.isInTimeRange(-1));
+		assertTrue(noFilter.getSkippedColumns("container-video-frames", List.of("pts")).isEmpty());
+	}
+
+	@Test
+	void testInvalidTimeRange() {
+		final var empty = Map.<String, String> of();
+		assertThrows(IllegalArgumentException.class, () -> ExportFilter.create(to, from, empty));
+	}
+
+	@Test
+	void testIsInTimeRange() {
+		assertTrue(exportFilter.hasTimeRange());
+		assertTrue(exportFilter.isInTimeRange(from));
+		assertTrue(exportFilter.isInTimeRange(to));
+		assertTrue(exportFilter.isInTimeRange((from + to) / 2f));
+		assertFalse(exportFilter.isInTimeRange(from - 1f));
+		assertFalse(exportFilter.isInTimeRange(to + 1f));
+		assertFalse(exportFilter.isInTimeRange(Float.NaN));
+
+		final var onlyFrom = ExportFilter.create(from, null, null);
+		assertTrue(onlyFrom.isInTimeRange(to * 100f));
+		assertFalse(onlyFrom.isInTimeRange(from - 1f));
+	}
+
+	@Test
+	void testIsInTimeRange_period() {
+		final var fromDuration = Duration.ofMillis((long) (from * 1000f));
+		final var toDuration = Duration.ofMillis((long) (to * 1000f));
+		assertTrue(exportFilter.isInTimeRange(Duration.ZERO, fromDuration));
+		assertTrue(exportFilter.isInTimeRange(toDuration, toDuration.plusSeconds(1)));
+		assertTrue(exportFilter.isInTimeRange(Duration.ZERO, toDuration.plusSeconds(1)));
+		assertFalse(exportFilter.isInTimeRange(Duration.ZERO, fromDuration.minusSeconds(1)));
+		assertFalse(exportFilter.isInTimeRange(toDuration.plusSeconds(1), toDuration.plusSeconds(2)));
+	}
+
+	@Test
+	void testInTimeRange() {
+		final var positions = List.of(from - 1f, from, to, to + 1f);
+		final var kept = new ArrayList<Float>();
+		positions.forEach(exportFilter.inTimeRange(p -> p, kept::add));
+		assertEquals(List.of(from, to), kept);
+	}
+
+	@Test
+	void testGetSkippedColumns() {
+		final var header = List.of("stream_index", "pict_type", "pts", "pts_time", "pkt_size");
+		assertArrayEquals(
+				new boolean[] { true, false, false, true, false },
+				exportFilter.getSkippedColumns("container-video-frames", header).get());
+		assertArrayEquals(
+				new boolean[] { true, false, false, true, false },
+				exportFilter.getSkippedColumns("Container video frames", header).get());
+		assertEquals(
+				List.of("pict_type", "pts", "pkt_size"),
+				ExportFilter.getKeptHeader(header, exportFilter.getSkippedColumns("containervideoframes", header)
+						.get()));
+
+		assertTrue(exportFilter.getSkippedColumns("other", header).isEmpty());
+		assertEquals(header, ExportFilter.getKeptHeader(header, null));
+	}
+
+	@Test
+	void testGetSkippedColumns_unknownColumns() {
+		final var header = List.of("pict_type", "pts");
+		assertArrayEquals(
+				new boolean[] { false, false },
+				exportFilter.getSkippedColumns("container-video-frames", header).get());
+
+		final var otherHeader = List.of("nope");
+		assertThrows(IllegalArgumentException.class,
+				() -> exportFilter.getSkippedColumns("container-video-frames", otherHeader));
+	}
+
+}
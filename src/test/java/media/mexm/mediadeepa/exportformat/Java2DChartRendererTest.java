@@ -0,0 +1,174 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static java.awt.Color.BLUE;
+import static java.awt.Color.RED;
+import static media.mexm.mediadeepa.exportformat.DataGraphic.THIN_STROKE;
+import static media.mexm.mediadeepa.exportformat.Java2DChartRenderer.adjustedLog10;
+import static media.mexm.mediadeepa.exportformat.Java2DChartRenderer.formatTime;
+import static media.mexm.mediadeepa.exportformat.RangeAxis.createAutomaticRangeAxis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.assertj.core.data.Offset;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.axis.LogarithmicAxis;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import net.datafaker.Faker;
+
+class Java2DChartRendererTest {
+	static Faker faker = Faker.instance();
+	static final int COLUMNS = 20;
+	static final double MEAN_Y_TOLERANCE = 0.02d;
+	static final double PLOT_BOUNDS_TOLERANCE = 0.04d;
+
+	NumberUtils numberUtils;
+	String rangeName;
+	int size;
+	Dimension imageSize;
+
+	@BeforeEach
+	void init() {
+		numberUtils = new NumberUtils();
+		rangeName = faker.lorem().word();
+		size = faker.random().nextInt(1000, 10_000);
+		imageSize = new Dimension(1000, 600);
+	}
+
+	@Test
+	void testAdjustedLog10() {
+		final var logarithmicAxis = new LogarithmicAxis(rangeName);
+		IntStream.range(0, 100)
+				.mapToDouble(i -> faker.random().nextDouble(-10_000, 10_000))
+				.forEach(v -> assertEquals(logarithmicAxis.adjustedLog10(v), adjustedLog10(v), 0.000001d));
+	}
+
+	@Test
+	void testFormatTime() {
+		assertEquals("00:00:00", formatTime(0, false));
+		assertEquals("01:02:03", formatTime(3_723_000, false));
+		assertEquals("00:00:01.500", formatTime(1_500, true));
+	}
+
+	@Test
+	void testRender_timed() {
+		final var dataGraphic = new TimedDataGraphic(
+				LongStream.range(0, size).map(l -> l * 40).boxed(),
+				new RangeAxis(rangeName, 0, size));
+		dataGraphic.addSeries(dataGraphic.new Series(rangeName, BLUE, THIN_STROKE,
+				IntStream.range(0, size).map(i -> (int) (size / 2d + size / 3d * Math.sin(i * 10d / size))).boxed()));
+		dataGraphic.addValueMarker(size / 2);
+
+		checkSameAsJFreeChart(dataGraphic.makeLinearAxisGraphic(numberUtils), BLUE);
+	}
+
+	@Test
+	void testRender_stacked() {
+		final var dataGraphic = new StackedXYAreaChartDataGraphic(createAutomaticRangeAxis(rangeName));
+		dataGraphic.addSeriesByCounter(new SeriesStyle(rangeName, BLUE, THIN_STROKE),
+				IntStream.range(0, size).map(i -> 10 + i * 10 / size).boxed());
+		dataGraphic.addSeriesByCounter(new SeriesStyle(rangeName + "2", RED, THIN_STROKE),
+				IntStream.range(0, size).map(i -> 10).boxed());
+
+		checkSameAsJFreeChart(dataGraphic.makeLinearAxisGraphic(numberUtils), BLUE, RED);
+	}
+
+	/**
+	 * Render the same ChartData with JFreeChart and Java2DChartRenderer, and compare the plot areas
+	 * and the series positions in them.
+	 */
+	private void checkSameAsJFreeChart(final ChartGraphicWrapper graphic, final Color... seriesColors) {
+		final var info = new ChartRenderingInfo();
+		final var jFreeChartImage = graphic.chart().createBufferedImage(imageSize.width, imageSize.height, info);
+		final var jFreeChartPlot = info.getPlotInfo().getDataArea().getBounds();
+		final var java2dImage = Java2DChartRenderer.render(graphic.data(), imageSize);
+		final var java2dPlot = Java2DChartRenderer.getPlotArea(graphic.data(), imageSize);
+
+		assertEquals(jFreeChartImage.getWidth(), java2dImage.getWidth());
+		assertEquals(jFreeChartImage.getHeight(), java2dImage.getHeight());
+
+		final var xTolerance = Offset.offset(imageSize.width * PLOT_BOUNDS_TOLERANCE);
+		final var yTolerance = Offset.offset(imageSize.height * PLOT_BOUNDS_TOLERANCE);
+		assertThat(java2dPlot.getMinX()).isCloseTo(jFreeChartPlot.getMinX(), xTolerance);
+		assertThat(java2dPlot.getMaxX()).isCloseTo(jFreeChartPlot.getMaxX(), xTolerance);
+		assertThat(java2dPlot.getMinY()).isCloseTo(jFreeChartPlot.getMinY(), yTolerance);
+		assertThat(java2dPlot.getMaxY()).isCloseTo(jFreeChartPlot.getMaxY(), yTolerance);
+
+		for (final var seriesColor : seriesColors) {
+			final var jFreeChartMeanY = getMeanY(jFreeChartImage, jFreeChartPlot, seriesColor);
+			final var java2dMeanY = getMeanY(java2dImage, java2dPlot, seriesColor);
+			for (var column = 0; column < COLUMNS; column++) {
+				assertThat(java2dMeanY[column])
+						.as("Mean y for %s, on column %d", seriesColor, column)
+						.isCloseTo(jFreeChartMeanY[column], Offset.offset(MEAN_Y_TOLERANCE));
+			}
+		}
+	}
+
+	/**
+	 * @return for each column of the plot area, the mean y position (0 is top, 1 is bottom)
+	 *         of the series color pixels
+	 */
+	private static double[] getMeanY(final BufferedImage image, final Rectangle plot, final Color color) {
+		final var result = new double[COLUMNS];
+		for (var column = 0; column < COLUMNS; column++) {
+			var sum = 0L;
+			var count = 0;
+			final var toX = plot.x + plot.width * (column + 1) / COLUMNS;
+			for (var x = plot.x + plot.width * column / COLUMNS; x < toX; x++) {
+				for (var y = plot.y; y < plot.y + plot.height; y++) {
+					if (isSeriesPixel(image.getRGB(x, y), color)) {
+						sum += y - plot.y;
+						count++;
+					}
+				}
+			}
+			assertThat(count).as("Pixel count for %s, on column %d", color, column).isPositive();
+			result[column] = (double) sum / count / plot.height;
+		}
+		return result;
+	}
+
+	/**
+	 * @return true if rgb is color, or color antialiased on the black background
+	 */
+	private static boolean isSeriesPixel(final int rgb, final Color color) {
+		final var pixel = new Color(rgb);
+		final double colorNorm = color.getRed() * color.getRed()
+								 + color.getGreen() * color.getGreen()
+								 + color.getBlue() * color.getBlue();
+		final var alpha = (pixel.getRed() * color.getRed()
+						   + pixel.getGreen() * color.getGreen()
+						   + pixel.getBlue() * color.getBlue()) / colorNorm;
+		return alpha >= 0.5d
+			   && Math.abs(pixel.getRed() - alpha * color.getRed()) <= 32
+			   && Math.abs(pixel.getGreen() - alpha * color.getGreen()) <= 32
+			   && Math.abs(pixel.getBlue() - alpha * color.getBlue()) <= 32;
+	}
+
+}
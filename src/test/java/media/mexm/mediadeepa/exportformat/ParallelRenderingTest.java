@@ -0,0 +1,106 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static media.mexm.mediadeepa.exportformat.ParallelRendering.parallelMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.datafaker.Faker;
+
+class ParallelRenderingTest {
+	static Faker faker = Faker.instance();
+
+	List<Integer> items;
+	List<Integer> expected;
+
+	@BeforeEach
+	void init() {
+		items = IntStream.range(0, faker.random().nextInt(10, 100)).boxed().toList();
+		expected = items.stream().map(i -> i * 2).toList();
+	}
+
+	@Test
+	void testParallelMap() {
+		assertEquals(expected, parallelMap(items, i -> i * 2, faker.random().nextInt(2, 8)));
+	}
+
+	@Test
+	void testParallelMap_sequential() {
+		final var currentThread = Thread.currentThread();
+		assertThat(parallelMap(items, i -> Thread.currentThread(), 1)).containsOnly(currentThread);
+		assertEquals(expected, parallelMap(items, i -> i * 2, 0));
+	}
+
+	@Test
+	void testParallelMap_renderLimiter() {
+		final var permits = faker.random().nextInt(1, 3);
+		final var renderLimiter = new Semaphore(permits);
+		final var running = new AtomicInteger();
+		final var maxRunning = new AtomicInteger();
+
+		assertEquals(expected, parallelMap(items, i -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.yield();
+			running.decrementAndGet();
+			return i * 2;
+		}, 8, renderLimiter));
+		assertThat(maxRunning.get()).isBetween(1, permits);
+		assertEquals(permits, renderLimiter.availablePermits());
+	}
+
+	@Test
+	void testParallelMap_renderLimiter_nested() {
+		final var renderLimiter = new Semaphore(1);
+		final var result = parallelMap(items, i -> parallelMap(List.of(i, i), j -> j * 2, 4, renderLimiter),
+				4, renderLimiter);
+		assertEquals(expected, result.stream().map(l -> l.get(1)).toList());
+		assertEquals(1, renderLimiter.availablePermits());
+	}
+
+	@Test
+	void testParallelMap_error() {
+		final var failOn = faker.random().nextInt(0, items.size() - 1);
+		assertThrows(IllegalStateException.class, () -> parallelMap(items, i -> {
+			if (i == failOn) {
+				throw new IllegalStateException();
+			}
+			return i;
+		}, 4));
+	}
+
+	@Test
+	void testParallelMap_errorCause() {
+		final var failOn = faker.random().nextInt(0, items.size() - 1);
+		assertThrows(AssertionError.class, () -> parallelMap(items, i -> {
+			if (i == failOn) {
+				throw new AssertionError();
+			}
+			return i;
+		}, 4));
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static media.mexm.mediadeepa.exportformat.ImageArtifact.IMAGE_PNG;
+import static org.apache.commons.io.FileUtils.forceMkdir;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.Dimension;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.exportformat.RenderedImageCache.ImageKey;
+import net.datafaker.Faker;
+
+class RenderedImageCacheTest {
+	static Faker faker = Faker.instance();
+
+	File tempDir;
+	ImageKey key;
+	ImageArtifact image;
+	AtomicInteger renderCount;
+	Supplier<ImageArtifact> renderer;
+
+	@BeforeEach
+	void init() throws IOException {
+		tempDir = new File("target/tmp-test/" + faker.numerify("cache###"));
+		forceMkdir(tempDir);
+		final var name = faker.lorem().word();
+		final var size = new Dimension(faker.random().nextInt(100, 1000), faker.random().nextInt(100, 1000));
+		key = new ImageKey(name, size, IMAGE_PNG);
+		image = new ImageArtifact(name, size, IMAGE_PNG,
+				faker.random().nextRandomBytes(faker.random().nextInt(100, 1000)));
+		renderCount = new AtomicInteger();
+		renderer = () -> {
+			renderCount.incrementAndGet();
+			return image;
+		};
+	}
+
+	@AfterEach
+	void ends() throws IOException {
+		FileUtils.deleteDirectory(tempDir);
+	}
+
+	@Test
+	void testGetImage_inMemory() {
+		try (var cache = new RenderedImageCache(Long.MAX_VALUE, tempDir)) {
+			assertSame(image, cache.getImage(key, renderer));
+			assertSame(image, cache.getImage(new ImageKey(key.name(), key.size(), IMAGE_PNG), renderer));
+			assertEquals(1, renderCount.get());
+			assertEquals(image.data().length, cache.getMemoryUsed());
+			assertThat(tempDir.list()).isEmpty();
+
+			cache.getImage(new ImageKey(key.name(), key.size(), "other"), renderer);
+			assertEquals(2, renderCount.get());
+			assertEquals(2, cache.size());
+		}
+	}
+
+	@Test
+	void testGetImage_spilled() {
+		try (var cache = new RenderedImageCache(0, tempDir)) {
+			assertSame(image, cache.getImage(key, renderer));
+			assertEquals(0, cache.getMemoryUsed());
+			assertThat(tempDir.list()).hasSize(1);
+
+			final var spilled = cache.getImage(key, renderer);
+			assertEquals(1, renderCount.get());
+			assertEquals(image, spilled);
+			assertArrayEquals(image.data(), spilled.data());
+			assertEquals(image.size(), spilled.size());
+			assertEquals(image.contentType(), spilled.contentType());
+		}
+		assertThat(tempDir.list()).isEmpty();
+	}
+
+	@Test
+	void testGetImage_concurrent() {
+		try (var cache = new RenderedImageCache(Long.MAX_VALUE, tempDir)) {
+			IntStream.range(0, 100)
+					.parallel()
+					.forEach(i -> assertSame(image, cache.getImage(key, renderer)));
+			assertEquals(1, renderCount.get());
+		}
+	}
+
+	@Test
+	void testClose() {
+		final var cache = new RenderedImageCache(Long.MAX_VALUE, tempDir);
+		cache.getImage(key, renderer);
+		cache.close();
+		assertEquals(0, cache.getMemoryUsed());
+		assertEquals(0, cache.size());
+		assertThrows(IllegalStateException.class, () -> cache.getImage(key, renderer));
+	}
+
+	@Test
+	void testInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> new RenderedImageCache(-1, tempDir));
+	}
+
+	@Test
+	void testDataResult() {
+		final var result = new DataResult(faker.numerify("source###"), Map.of(), false);
+		result.getRenderedImage(key, renderer);
+		result.getRenderedImage(key, renderer);
+		assertEquals(2, renderCount.get());
+
+		try (var cache = new RenderedImageCache(Long.MAX_VALUE, tempDir)) {
+			result.setRenderedImageCache(cache);
+			result.getRenderedImage(key, renderer);
+			result.getRenderedImage(key, renderer);
+			assertEquals(3, renderCount.get());
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.exportformat.RollupAccumulator.RollupBucket;
+import net.datafaker.Faker;
+
+class RollupAccumulatorTest {
+	static Faker faker = Faker.instance();
+
+	String series;
+	List<RollupBucket> buckets;
+	RollupAccumulator accumulator;
+
+	@BeforeEach
+	void init() {
+		series = faker.lorem().word();
+		buckets = new ArrayList<>();
+		accumulator = new RollupAccumulator(List.of(60, 1), 1000, buckets::add);
+	}
+
+	@Test
+	void testInvalidResolutions() {
+		final var empty = List.<RollupBucket> of();
+		final var resolutions = List.of(0);
+		assertThrows(IllegalArgumentException.class,
+				() -> new RollupAccumulator(resolutions, 1000, empty::add));
+	}
+
+	@Test
+	void testInvalidMaxPercentileSamples() {
+		final var empty = List.<RollupBucket> of();
+		final var resolutions = List.of(1);
+		assertThrows(IllegalArgumentException.class,
+				() -> new RollupAccumulator(resolutions, 0, empty::add));
+	}
+
+	@Test
+	void testAdd() {
+		for (var pos = 0; pos < 100; pos++) {
+			accumulator.add(series, pos / 25d, pos % 25 + 1f);
+		}
+		accumulator.end();
+
+		final var bySecond = buckets.stream().filter(b -> b.resolution() == 1).toList();
+		assertEquals(4, bySecond.size());
+		for (var pos = 0; pos < 4; pos++) {
+			final var bucket = bySecond.get(pos);
+			assertEquals(series, bucket.series());
+			assertEquals(pos, bucket.position());
+			assertEquals(25, bucket.count());
+			assertEquals(325d, bucket.sum());
+			assertEquals(13f, bucket.average());
+			assertEquals(1f, bucket.min());
+			assertEquals(25f, bucket.max());
+			assertEquals(24f, bucket.percentile95());
+		}
+
+		final var byMinute = buckets.stream().filter(b -> b.resolution() == 60).toList();
+		assertEquals(1, byMinute.size());
+		assertEquals(0f, byMinute.get(0).position());
+		assertEquals(100, byMinute.get(0).count());
+		assertEquals(1300d, byMinute.get(0).sum());
+	}
+
+	@Test
+	void testCloseBuckets() {
+		accumulator.add(series, 0.5d, 1f);
+		accumulator.add(series, 1.5d, 2f);
+		assertTrue(buckets.isEmpty());
+		accumulator.add(series, 0.9d, 3f);
+		accumulator.add(series, 2.5d, 4f);
+		assertEquals(1, buckets.size());
+		assertEquals(2, buckets.get(0).count());
+		assertEquals(4d, buckets.get(0).sum());
+
+		accumulator.end();
+		assertEquals(4, buckets.size());
+	}
+
+	@Test
+	void testLateValues() {
+		accumulator.add(series, 0.5d, 1f);
+		accumulator.add(series, 2.5d, 2f);
+		assertEquals(1, buckets.size());
+		accumulator.add(series, 0.9d, 3f);
+		accumulator.add(series, 2.9d, 4f);
+		accumulator.end();
+		accumulator.add(series, 2.1d, 5f);
+		assertEquals(2, accumulator.getLateValues());
+
+		final var bySecond = buckets.stream().filter(b -> b.resolution() == 1).toList();
+		assertEquals(2, bySecond.size());
+		assertEquals(0f, bySecond.get(0).position());
+		assertEquals(1, bySecond.get(0).count());
+		assertEquals(2f, bySecond.get(1).position());
+		assertEquals(2, bySecond.get(1).count());
+
+		final var byMinute = buckets.stream().filter(b -> b.resolution() == 60).toList();
+		assertEquals(1, byMinute.size());
+		assertEquals(4, byMinute.get(0).count());
+	}
+
+	@Test
+	void testPercentileSamples() {
+		accumulator = new RollupAccumulator(List.of(1), 100, buckets::add);
+		for (var pos = 0; pos < 10_000; pos++) {
+			accumulator.add(series, 0d, pos % 1000 + 1f);
+		}
+		accumulator.end();
+
+		assertEquals(1, buckets.size());
+		final var bucket = buckets.get(0);
+		assertEquals(10_000, bucket.count());
+		assertEquals(5_005_000d, bucket.sum());
+		assertEquals(1f, bucket.min());
+		assertEquals(1000f, bucket.max());
+		assertThat(bucket.percentile95()).isBetween(850f, 1000f);
+	}
+
+	@Test
+	void testIgnoreAndBoundValues() {
+		accumulator.add(series, 0d, Float.NaN);
+		accumulator.add(series, Double.NaN, 1f);
+		accumulator.add(series, 0d, Float.NEGATIVE_INFINITY);
+		accumulator.add(series, 0d, Float.POSITIVE_INFINITY);
+		accumulator.end();
+
+		assertEquals(2, buckets.size());
+		buckets.forEach(b -> {
+			assertEquals(2, b.count());
+			assertEquals(-144f, b.min());
+			assertEquals(144f, b.max());
+			assertEquals(0f, b.average());
+		});
+	}
+
+}
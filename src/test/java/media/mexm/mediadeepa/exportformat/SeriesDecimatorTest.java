@@ -0,0 +1,141 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.lttbIndexes;
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.minMaxIndexes;
+import static media.mexm.mediadeepa.exportformat.SeriesDecimator.select;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.exportformat.SeriesDecimator.Decimation;
+import net.datafaker.Faker;
+
+class SeriesDecimatorTest {
+	static Faker faker = Faker.instance();
+
+	@Test
+	void testMinMaxIndexes_small() {
+		assertArrayEquals(new int[] { 0, 1, 2 }, minMaxIndexes(new double[] { 1, 2, 3 }, 1));
+		assertArrayEquals(new int[] {}, minMaxIndexes(new double[] {}, 1));
+	}
+
+	@Test
+	void testMinMaxIndexes_invalid() {
+		final var values = new double[] { 1 };
+		assertThrows(IllegalArgumentException.class, () -> minMaxIndexes(values, 0));
+	}
+
+	@Test
+	void testMinMaxIndexes() {
+		final var size = faker.random().nextInt(10_000, 100_000);
+		final var values = new double[size];
+		for (var pos = 0; pos < size; pos++) {
+			values[pos] = Math.sin(pos / 10d);
+		}
+		final var posMax = faker.random().nextInt(2, size - 2);
+		values[posMax] = 42;
+		values[posMax - 1] = Double.NaN;
+
+		final var indexes = minMaxIndexes(values, 100);
+		assertThat(indexes).hasSizeBetween(100, 203)
+				.startsWith(0)
+				.endsWith(size - 1)
+				.contains(posMax, posMax - 1)
+				.isSorted()
+				.doesNotHaveDuplicates();
+	}
+
+	@Test
+	void testMinMaxIndexes_keepNaNGap() {
+		final var size = faker.random().nextInt(10_000, 100_000);
+		final var values = new double[size];
+		for (var pos = 0; pos < size; pos++) {
+			values[pos] = Math.sin(pos / 10d);
+		}
+		final var gapFrom = size / 3;
+		final var gapTo = size / 2;
+		for (var pos = gapFrom; pos < gapTo; pos++) {
+			values[pos] = Double.NaN;
+		}
+
+		final var indexes = minMaxIndexes(values, 100);
+		assertThat(indexes).hasSizeBetween(100, 302)
+				.startsWith(0)
+				.endsWith(size - 1)
+				.contains(gapFrom)
+				.isSorted()
+				.doesNotHaveDuplicates();
+
+		final var lastBeforeGap = Arrays.stream(indexes).filter(i -> i < gapFrom).max().getAsInt();
+		final var firstAfterGap = Arrays.stream(indexes).filter(i -> i >= gapTo).min().getAsInt();
+		assertThat(Arrays.stream(indexes).filter(i -> i > lastBeforeGap && i < firstAfterGap))
+				.isNotEmpty()
+				.allMatch(i -> Double.isNaN(values[i]));
+	}
+
+	@Test
+	void testLttbIndexes_small() {
+		final var values = new double[] { 1, 2, 3 };
+		assertArrayEquals(new int[] { 0, 1, 2 }, lttbIndexes(values, values, 3));
+		assertThrows(IllegalArgumentException.class, () -> lttbIndexes(values, values, 2));
+	}
+
+	@Test
+	void testLttbIndexes() {
+		final var size = faker.random().nextInt(10_000, 100_000);
+		final var x = new double[size];
+		final var y = new double[size];
+		for (var pos = 0; pos < size; pos++) {
+			x[pos] = pos * 40d;
+			y[pos] = Math.sin(pos / 100d);
+		}
+		final var posPeak = faker.random().nextInt(1, size - 2);
+		y[posPeak] = 42;
+
+		final var indexes = lttbIndexes(x, y, 200);
+		assertThat(indexes).hasSize(200)
+				.startsWith(0)
+				.endsWith(size - 1)
+				.contains(posPeak)
+				.isSorted()
+				.doesNotHaveDuplicates();
+	}
+
+	@Test
+	void testDecimation() {
+		final var size = faker.random().nextInt(10_000, 100_000);
+		final var values = new double[size];
+		for (var pos = 0; pos < size; pos++) {
+			values[pos] = Math.cos(pos / 10d);
+		}
+		assertThat(Decimation.NONE.getIndexes(values, values, 100)).hasSize(size);
+		assertThat(Decimation.MIN_MAX.getIndexes(values, values, 100)).hasSizeBetween(100, 202);
+		assertThat(Decimation.LTTB.getIndexes(values, values, 100)).hasSize(200);
+	}
+
+	@Test
+	void testSelect() {
+		assertArrayEquals(new double[] { 3, 1 }, select(new double[] { 1, 2, 3 }, new int[] { 2, 0 }));
+	}
+
+}
@@ -17,11 +17,14 @@
 package media.mexm.mediadeepa.exportformat;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -186,4 +189,43 @@ class TableDocumentTest {
 		assertEquals(List.of(), t.getTables());
 	}
 
+	@Test
+	void testSetReadOnly() {
+		final var table = t.createTable(tableName);
+		table.head(List.of(head, head));
+		final var row = table.addRow();
+		row.addCell(sValue);
+
+		assertFalse(t.isReadOnly());
+		assertEquals(t, t.setReadOnly());
+		assertTrue(t.isReadOnly());
+
+		assertThrows(IllegalStateException.class, () -> t.createTable(tableName));
+		assertThrows(IllegalStateException.class, () -> table.head(List.of(head)));
+		assertThrows(IllegalStateException.class, table::addRow);
+		assertThrows(IllegalStateException.class, () -> row.addCell(fValue));
+		assertThrows(IllegalStateException.class, () -> row.addOptionalToString(null));
+
+		assertEquals(List.of(table), t.getTables());
+		assertEquals(List.of(new TableCellString(sValue)), table.getRows().get(0).getCells());
+	}
+
+	@Test
+	void testExportFilterColumns() {
+		t = new TableDocument(numberUtils, ExportFilter.create(null, null, Map.of(tableName, "B, d")));
+		final var table = t.createTable(tableName);
+		table.head(List.of("a", "b", "c", "d"));
+		assertEquals(List.of("b", "d"), table.getHeader());
+
+		final var row = table.addRow();
+		row.addCell(sValue)
+				.addCell(iValue)
+				.addOptionalToString(null)
+				.addCell(lValue);
+		assertThrows(IllegalStateException.class, () -> row.addCell(fValue));
+
+		assertEquals(List.of(new TableCellInteger(iValue), new TableCellLong(lValue)), row.getCells());
+		assertEquals(List.of(TableCellInteger.class, TableCellLong.class), table.getRowTypes());
+	}
+
 }
@@ -16,12 +16,15 @@
  */
 package media.mexm.mediadeepa.exportformat;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,11 +32,15 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -58,6 +65,7 @@ class TabularDocumentTest {
 	String fileExt;
 	String prefixFileName;
 	File expectedOutputFile;
+	List<List<String>> writtenLines;
 
 	@Mock
 	TabularDocumentExporter exporter;
@@ -73,7 +81,7 @@ class TabularDocumentTest {
 		openMocks(this).close();
 		exportDirectory = new File("target/tmp-test/" + faker.numerify("exportDirectory###"));
 		fileName = faker.numerify("filename###");
-		doc = new TabularDocument(exporter, fileName);
+		doc = new TabularDocument(fileName);
 
 		row = List.of(faker.numerify("item###"));
 		head = faker.numerify("head###");
@@ -82,12 +90,19 @@ class TabularDocumentTest {
 		prefixFileName = faker.numerify("prefix###");
 		expectedOutputFile = new File(exportDirectory.getPath(), prefixFileName + "_" + fileName + "." + fileExt);
 
-		when(exporter.getDocument(any(), any())).thenReturn(document);
+		doAnswer(invocation -> {
+			final List<List<String>> lines = invocation.getArgument(1);
+			writtenLines = List.copyOf(lines);
+			invocation.getArgument(2, OutputStream.class).write(document);
+			return null;
+		}).when(exporter).writeDocument(any(), any(), any());
 		when(exporter.getDocumentFileExtension()).thenReturn(fileExt);
 		when(exporter.getNumberUtils()).thenReturn(new NumberUtils());
 		when(exporter.formatNumberHighPrecision(anyFloat()))
 				.thenAnswer(d -> String.valueOf(d.getArgument(0, Float.class)));
-		when(outputFileSupplier.makeOutputFile(eq(result), any())).thenReturn(expectedOutputFile);
+		when(outputFileSupplier.makeCompressibleOutputFile(eq(result), any())).thenReturn(expectedOutputFile);
+		when(outputFileSupplier.openOutputStream(eq(result), any()))
+				.thenAnswer(i -> FileUtils.openOutputStream(i.getArgument(1, File.class)));
 	}
 
 	@AfterEach
@@ -103,12 +118,14 @@ class TabularDocumentTest {
 	}
 
 	@Test
-	void testRowListOfString() {
+	void testRowListOfString() throws IOException {
 		doc.head(List.of(""));
 		doc.row(row);
-		assertEquals(expectedOutputFile, doc.exportToFile(outputFileSupplier, result).get());
+		assertEquals(expectedOutputFile, doc.exportToFile(exporter, outputFileSupplier, result).get());
+		assertEquals(List.of(row), writtenLines);
+		assertArrayEquals(document, FileUtils.readFileToByteArray(expectedOutputFile));
 
-		verify(exporter, times(1)).getDocument(List.of(""), List.of(row));
+		verify(exporter, times(1)).writeDocument(eq(List.of("")), any(), any());
 		verify(exporter, times(1)).getDocumentFileExtension();
 	}
 
@@ -116,14 +133,14 @@ class TabularDocumentTest {
 	void testRowListOfString_empty_noHeader() {
 		doc.row((List<String>) null);
 		doc.row(List.of());
-		assertTrue(doc.exportToFile(outputFileSupplier, result).isEmpty());
+		assertTrue(doc.exportToFile(exporter, outputFileSupplier, result).isEmpty());
 	}
 
 	@Test
 	void testRowListOfString_noHeader() {
 		final var empty = List.of("");
 		assertThrows(IllegalArgumentException.class, () -> doc.row(empty));
-		assertTrue(doc.exportToFile(outputFileSupplier, result).isEmpty());
+		assertTrue(doc.exportToFile(exporter, outputFileSupplier, result).isEmpty());
 	}
 
 	@Test
@@ -159,9 +176,10 @@ class TabularDocumentTest {
 				String.valueOf(numb),
 				url.toString());
 
-		assertEquals(expectedOutputFile, doc.exportToFile(outputFileSupplier, result).get());
+		assertEquals(expectedOutputFile, doc.exportToFile(exporter, outputFileSupplier, result).get());
+		assertEquals(List.of(rowList), writtenLines);
 
-		verify(exporter, times(1)).getDocument(headList, List.of(rowList));
+		verify(exporter, times(1)).writeDocument(eq(headList), any(), any());
 		verify(exporter, times(1)).getDocumentFileExtension();
 		verify(exporter, atLeast(1)).getNumberUtils();
 		verify(exporter, atLeast(1)).formatNumberHighPrecision(anyFloat());
@@ -169,16 +187,50 @@ class TabularDocumentTest {
 
 	@Test
 	void testExportToFile_empty() {
-		assertTrue(doc.exportToFile(outputFileSupplier, result).isEmpty());
+		assertTrue(doc.exportToFile(exporter, outputFileSupplier, result).isEmpty());
 	}
 
 	@Test
 	void testExportToFile() {
 		doc.head(List.of(head));
 		doc.row(row);
-		assertEquals(expectedOutputFile, doc.exportToFile(outputFileSupplier, result).get());
-		verify(exporter, times(1)).getDocument(List.of(head), List.of(row));
+		assertEquals(expectedOutputFile, doc.exportToFile(exporter, outputFileSupplier, result).get());
+		assertEquals(List.of(row), writtenLines);
+		verify(exporter, times(1)).writeDocument(eq(List.of(head)), any(), any());
 		verify(exporter, times(1)).getDocumentFileExtension();
 	}
 
+	@Test
+	void testExportToStream_lowPrecision() {
+		doc.head(List.of(head, head));
+		doc.row(TabularDocument.lowPrecision(1.25f), 2.5f);
+		when(exporter.formatNumberLowPrecision(anyFloat())).thenReturn("low");
+
+		final var outputStream = new ByteArrayOutputStream();
+		assertTrue(doc.exportToStream(exporter, outputStream));
+		assertArrayEquals(document, outputStream.toByteArray());
+		assertEquals(List.of(List.of("low", "2.5")), writtenLines);
+
+		verify(exporter, times(1)).writeDocument(eq(List.of(head, head)), any(), any());
+		verify(exporter, times(1)).formatNumberLowPrecision(1.25f);
+		verify(exporter, times(1)).formatNumberHighPrecision(2.5f);
+	}
+
+	@Test
+	void testExportToStream_empty() {
+		assertFalse(doc.exportToStream(exporter, new ByteArrayOutputStream()));
+	}
+
+	@Test
+	void testApplyExportFilter() {
+		doc.head(List.of("a", "b", "c"));
+		doc.row("1", "2", "3");
+		assertEquals(doc, doc.applyExportFilter(ExportFilter.create(null, null, Map.of(fileName, "a,c"))));
+
+		final var outputStream = new ByteArrayOutputStream();
+		assertTrue(doc.exportToStream(exporter, outputStream));
+		assertEquals(List.of(List.of("1", "3")), writtenLines);
+		verify(exporter, times(1)).writeDocument(eq(List.of("a", "c")), any(), any());
+	}
+
 }
@@ -0,0 +1,121 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat;
+
+import static media.mexm.mediadeepa.exportformat.WaveformImageRenderer.PEAK_COLOR;
+import static media.mexm.mediadeepa.exportformat.WaveformImageRenderer.RMS_COLOR;
+import static media.mexm.mediadeepa.exportformat.WaveformImageRenderer.toColumns;
+import static media.mexm.mediadeepa.exportformat.WaveformImageRenderer.toPixels;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.exportformat.WaveformImageRenderer.Waveform;
+import net.datafaker.Faker;
+
+class WaveformImageRendererTest {
+	static Faker faker = Faker.instance();
+
+	Dimension imageSize;
+	int size;
+
+	@BeforeEach
+	void init() {
+		imageSize = new Dimension(faker.random().nextInt(500, 2000), faker.random().nextInt(200, 600));
+		size = faker.random().nextInt(10, 100_000);
+	}
+
+	@Test
+	void testToColumns() {
+		assertArrayEquals(new double[] { 3, 5 },
+				toColumns(new double[] { 0, 1, 2, 3 }, new double[] { 1, 3, 5, 2 }, 2));
+		assertArrayEquals(new double[] { 0, 1, 2, 3, 4 },
+				toColumns(new double[] { 0, 1 }, new double[] { 0, 4 }, 5));
+		assertArrayEquals(new double[] { 0, 0 },
+				toColumns(new double[] {}, new double[] {}, 2));
+	}
+
+	@Test
+	void testToPixels() {
+		assertEquals(0, toPixels(0, 100));
+		assertEquals(100, toPixels(1, 100));
+		assertEquals(100, toPixels(-2, 100));
+		assertTrue(toPixels(0.1, 100) < toPixels(0.5, 100));
+	}
+
+	@Test
+	void testInvalid() {
+		final var empty = new double[0];
+		final var one = new double[1];
+		assertThrows(IllegalArgumentException.class, () -> new Waveform(one, one, one, empty, one));
+	}
+
+	@Test
+	void testRender() {
+		final var waveform = makeWaveform(0.8d, 0.2d);
+		final var image = WaveformImageRenderer.render(waveform, imageSize);
+		assertEquals(imageSize.width, image.getWidth());
+		assertEquals(imageSize.height, image.getHeight());
+
+		final var column = imageSize.width / 2;
+		final var peakHeight = countPixels(image, column, PEAK_COLOR);
+		final var rmsHeight = countPixels(image, column, RMS_COLOR);
+		assertTrue(peakHeight > 0);
+		assertTrue(rmsHeight > 0);
+		assertTrue(peakHeight + rmsHeight < imageSize.height);
+		assertTrue(peakHeight > rmsHeight);
+	}
+
+	@Test
+	void testRender_silent() {
+		final var image = WaveformImageRenderer.render(makeWaveform(0, 0), imageSize);
+		final var column = imageSize.width / 2;
+		assertEquals(0, countPixels(image, column, PEAK_COLOR));
+		assertEquals(1, countPixels(image, column, RMS_COLOR));
+	}
+
+	private Waveform makeWaveform(final double peak, final double rms) {
+		final var positions = new double[size];
+		final var peaks = new double[size];
+		final var rmss = new double[size];
+		for (var pos = 0; pos < size; pos++) {
+			positions[pos] = pos / 10d;
+			peaks[pos] = peak;
+			rmss[pos] = rms;
+		}
+		return new Waveform(positions, peaks, peaks, rmss, rmss);
+	}
+
+	private static int countPixels(final BufferedImage image, final int x, final Color color) {
+		var count = 0;
+		for (var y = 0; y < image.getHeight(); y++) {
+			if ((image.getRGB(x, y) & 0xFFFFFF) == (color.getRGB() & 0xFFFFFF)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.exportformat.TableCell;
+import media.mexm.mediadeepa.exportformat.TableCellFloat;
+import media.mexm.mediadeepa.exportformat.TableCellInteger;
+import media.mexm.mediadeepa.exportformat.TableCellLong;
+import media.mexm.mediadeepa.exportformat.TableCellString;
+import media.mexm.mediadeepa.exportformat.TableDocument;
+import media.mexm.mediadeepa.exportformat.columnar.ColumnarReader.ColumnarTable;
+import net.datafaker.Faker;
+
+class ColumnarWriterTest {
+	static final Faker faker = Faker.instance();
+
+	TableDocument tableDocument;
+	int rowCount;
+	int chunkRows;
+
+	@BeforeEach
+	void init() {
+		tableDocument = new TableDocument(new NumberUtils());
+		rowCount = faker.random().nextInt(50, 500);
+		chunkRows = faker.random().nextInt(7, 64);
+
+		final var table = tableDocument.createTable(faker.numerify("table###"));
+		table.head(List.of("position", "name", "value", "count", "frame"));
+		for (var pos = 0; pos < rowCount; pos++) {
+			final var row = table.addRow();
+			row.addCell(pos * 1000L);
+			row.addCell(pos % 5 == 0 ? null : faker.lorem().word());
+			row.addCell(pos % 7 == 0 ? null : faker.random().nextFloat() * 200f - 100f);
+			row.addCell(faker.random().nextInt());
+			row.addCell(pos % 11 == 0 ? null : faker.random().nextLong());
+		}
+
+		final var emptyTable = tableDocument.createTable(faker.numerify("empty###"));
+		emptyTable.head(List.of("nothing"));
+	}
+
+	private byte[] write(final boolean compress) throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+		new ColumnarWriter(chunkRows, compress, 1).write(tableDocument.getTables(), outputStream);
+		return outputStream.toByteArray();
+	}
+
+	private static Object toValue(final TableCell cell) {
+		if (cell instanceof final TableCellString c) {
+			return c.value();
+		} else if (cell instanceof final TableCellFloat c) {
+			return c.value();
+		} else if (cell instanceof final TableCellLong c) {
+			return c.value();
+		} else if (cell instanceof final TableCellInteger c) {
+			return c.value();
+		}
+		return null;
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	void testRoundTrip(final boolean compress) throws IOException {
+		final var tables = tableDocument.getTables();
+		final var readed = ColumnarReader.read(new ByteArrayInputStream(write(compress)));
+
+		assertThat(readed).hasSize(1);
+		final var table = tables.get(0);
+		final var columnarTable = readed.get(0);
+		assertThat(columnarTable.name()).isEqualTo(table.getTableName());
+		assertThat(columnarTable.rowCount()).isEqualTo(rowCount);
+		assertThat(columnarTable.columns())
+				.map(ColumnarReader.Column::name)
+				.isEqualTo(table.getHeader());
+		assertThat(columnarTable.columns())
+				.map(ColumnarReader.Column::type)
+				.containsExactly(ColumnType.LONG, ColumnType.STRING, ColumnType.FLOAT, ColumnType.INTEGER,
+						ColumnType.LONG);
+
+		final var rows = table.getRows();
+		for (var posColumn = 0; posColumn < table.getHeader().size(); posColumn++) {
+			final var expected = new ArrayList<>();
+			for (final var row : rows) {
+				expected.add(toValue(row.getCells().get(posColumn)));
+			}
+			assertThat(columnarTable.columns().get(posColumn).values()).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	void testChunkStatistics() throws IOException {
+		final ColumnarTable columnarTable = ColumnarReader.read(new ByteArrayInputStream(write(true))).get(0);
+		final var expectedChunkCount = (rowCount + chunkRows - 1) / chunkRows;
+
+		final var position = columnarTable.getColumn("position");
+		assertThat(position.chunkStatistics()).hasSize(expectedChunkCount);
+		for (var pos = 0; pos < expectedChunkCount; pos++) {
+			final var statistics = position.chunkStatistics().get(pos);
+			final var lastRow = Math.min(rowCount, (pos + 1) * chunkRows) - 1;
+			assertThat(statistics.rowCount()).isEqualTo(lastRow - pos * chunkRows + 1);
+			assertThat(statistics.nullCount()).isZero();
+			assertThat(statistics.min()).isEqualTo(pos * chunkRows * 1000L);
+			assertThat(statistics.max()).isEqualTo(lastRow * 1000L);
+		}
+
+		final var value = columnarTable.getColumn("value");
+		var fromRow = 0;
+		for (final var statistics : value.chunkStatistics()) {
+			final var values = value.values().subList(fromRow, fromRow + statistics.rowCount());
+			final var notNulls = values.stream().filter(v -> v != null).map(Float.class::cast).toList();
+			assertThat(statistics.nullCount()).isEqualTo(values.size() - notNulls.size());
+			assertThat(statistics.min()).isEqualTo(notNulls.stream().min(Float::compare).orElse(null));
+			assertThat(statistics.max()).isEqualTo(notNulls.stream().max(Float::compare).orElse(null));
+			fromRow += statistics.rowCount();
+		}
+
+		assertThat(columnarTable.getColumn("name").chunkStatistics())
+				.allMatch(s -> s.min() == null && s.max() == null);
+	}
+
+	@Test
+	void testWidenColumnTypes() throws IOException {
+		tableDocument = new TableDocument(new NumberUtils());
+		final var table = tableDocument.createTable(faker.numerify("table###"));
+		table.head(List.of("int-long", "int-float", "long-string", "int", "long-float"));
+		final var bigValue = Integer.MAX_VALUE + faker.random().nextLong(1, Integer.MAX_VALUE);
+		final var bigPosition = (1L << 24) + faker.random().nextLong(1, Integer.MAX_VALUE);
+		table.addRow().addCell(1).addCell(2).addCell(3L).addCell(4).addCell(bigPosition);
+		table.addRow().addCell((Integer) null).addCell(2.5f).addCell("text").addCell(5).addCell(0.5f);
+		table.addRow().addCell(bigValue).addCell(3).addCell(6L).addCell((Integer) null).addCell(bigPosition + 1);
+
+		final var columnarTable = ColumnarReader.read(new ByteArrayInputStream(write(false))).get(0);
+		assertThat(columnarTable.columns())
+				.map(ColumnarReader.Column::type)
+				.containsExactly(ColumnType.LONG, ColumnType.DOUBLE, ColumnType.STRING, ColumnType.INTEGER,
+						ColumnType.DOUBLE);
+		assertThat(columnarTable.getColumn("int-long").values()).containsExactly(1L, null, bigValue);
+		assertThat(columnarTable.getColumn("int-float").values()).containsExactly(2d, 2.5d, 3d);
+		assertThat(columnarTable.getColumn("long-string").values()).containsExactly("3", "text", "6");
+		assertThat(columnarTable.getColumn("int").values()).containsExactly(4, 5, null);
+		final var longFloat = columnarTable.getColumn("long-float");
+		assertThat(longFloat.values()).containsExactly((double) bigPosition, 0.5d, (double) (bigPosition + 1));
+		assertThat(longFloat.chunkStatistics().get(0).min()).isEqualTo(0.5d);
+		assertThat(longFloat.chunkStatistics().get(0).max()).isEqualTo((double) (bigPosition + 1));
+	}
+
+	@Test
+	void testCompressedIsSmaller() throws IOException {
+		assertThat(write(true)).hasSizeLessThan(write(false).length);
+	}
+
+	@Test
+	void testInvalidFile() {
+		final var content = faker.lorem().paragraph().getBytes();
+		final var inputStream = new ByteArrayInputStream(content);
+		assertThatThrownBy(() -> ColumnarReader.read(inputStream))
+				.isInstanceOf(IOException.class);
+	}
+
+	@Test
+	void testInvalidChunkMaxRows() {
+		assertThatThrownBy(() -> new ColumnarWriter(0, false, 1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
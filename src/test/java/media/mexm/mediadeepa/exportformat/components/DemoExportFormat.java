@@ -21,11 +21,13 @@ import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.CONTAINER
 import static media.mexm.mediadeepa.exportformat.ProcessingHandledData.MEDIA_ANALYSIS;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 
@@ -82,10 +84,16 @@ public class DemoExportFormat implements ExportFormat {
 	}
 
 	@Override
-	public Optional<byte[]> makeSingleExport(final DataResult result,
-											 final String internalFileName) {
+	public boolean writeSingleExport(final DataResult result,
+									 final String internalFileName,
+									 final OutputStream outputStream) {
 		singleExport.add(internalFileName);
-		return Optional.ofNullable(singleExportData);
+		try {
+			outputStream.write(singleExportData);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return true;
 	}
 
 	@Override
@@ -0,0 +1,124 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.bindCell;
+import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.isTimeFieldName;
+import static media.mexm.mediadeepa.exportformat.components.TableSQLiteExportFormat.toSQLType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.exportformat.TableCellFloat;
+import media.mexm.mediadeepa.exportformat.TableCellInteger;
+import media.mexm.mediadeepa.exportformat.TableCellLong;
+import media.mexm.mediadeepa.exportformat.TableCellNull;
+import media.mexm.mediadeepa.exportformat.TableCellString;
+import media.mexm.mediadeepa.exportformat.TableDocument;
+import net.datafaker.Faker;
+
+class TableSQLiteExportFormatTest {
+	static Faker faker = net.datafaker.Faker.instance();
+
+	@Mock
+	PreparedStatement statement;
+
+	NumberUtils numberUtils;
+
+	@BeforeEach
+	void init() throws Exception {
+		openMocks(this).close();
+		numberUtils = new NumberUtils();
+	}
+
+	@AfterEach
+	void ends() {
+		verifyNoMoreInteractions(statement);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "position", "pts_time", "dts_time", "best_effort_timestamp_time", "pkt_dts_time" })
+	void testIsTimeFieldName(final String fieldName) {
+		assertTrue(isTimeFieldName(fieldName));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "pkt_duration_time", "duration_time", "pts", "time_base", "positions", "name", "" })
+	void testIsTimeFieldName_not(final String fieldName) {
+		assertFalse(isTimeFieldName(fieldName));
+	}
+
+	@Test
+	void testToSQLType() {
+		assertEquals("TEXT", toSQLType(TableCellString.class));
+		assertEquals("REAL", toSQLType(TableCellFloat.class));
+		assertEquals("INTEGER", toSQLType(TableCellLong.class));
+		assertEquals("INTEGER", toSQLType(TableCellInteger.class));
+		assertThrows(IllegalArgumentException.class, () -> toSQLType(TableCellNull.class));
+	}
+
+	@Test
+	void testBindCell() throws SQLException {
+		final var longValue = faker.random().nextLong();
+		final var intValue = faker.random().nextInt();
+		final var text = faker.lorem().word();
+		final var duration = Duration.ofMillis(faker.random().nextInt(1, 100_000_000));
+
+		final var table = new TableDocument(numberUtils)
+				.createTable("table")
+				.head(List.of("long", "int", "double", "float", "duration", "text", "null"));
+		final var cells = table.addRow()
+				.addCell(longValue)
+				.addCell(intValue)
+				.addCell(4.2d)
+				.addCell(0.1f)
+				.addCell(duration)
+				.addCell(text)
+				.addCell((String) null)
+				.getCells();
+		for (var pos = 0; pos < cells.size(); pos++) {
+			bindCell(statement, pos + 1, cells.get(pos));
+		}
+
+		verify(statement).setLong(1, longValue);
+		verify(statement).setInt(2, intValue);
+		verify(statement).setDouble(3, 4.2d);
+		verify(statement).setDouble(4, 0.1d);
+		verify(statement).setString(5, numberUtils.durationToString(duration));
+		verify(statement).setString(6, text);
+		verify(statement).setNull(7, Types.NULL);
+	}
+
+}
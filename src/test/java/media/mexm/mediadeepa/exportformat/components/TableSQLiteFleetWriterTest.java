@@ -0,0 +1,185 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import static java.util.Arrays.asList;
+import static media.mexm.mediadeepa.rendererengine.components.PacketsRendererEngine.HEAD_CONTAINER_PACKETS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.File;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.TableDocument;
+import media.mexm.mediadeepa.exportformat.TableDocument.Table;
+import media.mexm.mediadeepa.exportformat.components.TableSQLiteFleetWriter.FleetMedia;
+import net.datafaker.Faker;
+
+class TableSQLiteFleetWriterTest {
+	static Faker faker = net.datafaker.Faker.instance();
+
+	@TempDir
+	File tempDir;
+
+	TableSQLiteFleetWriter w;
+	File fleetFile;
+	FleetMedia mediaA;
+	FleetMedia mediaB;
+
+	@BeforeEach
+	void init() {
+		w = new TableSQLiteFleetWriter(new AppConfig());
+		fleetFile = new File(tempDir, "fleet.sqlite");
+		mediaA = new FleetMedia(faker.numerify("/path/mediaA###.mkv"), faker.random().nextInt(1_000_000), 1000L, "A");
+		mediaB = new FleetMedia(faker.numerify("/path/mediaB###.mkv"), faker.random().nextInt(1_000_000), 2000L, "B");
+	}
+
+	@AfterEach
+	void ends() {
+		w.close();
+	}
+
+	private static List<Table> makeTables(final boolean withExtraColumn, final int rowCount) {
+		final var header = new ArrayList<>(List.of("pts_time", "value"));
+		if (withExtraColumn) {
+			header.add("extra");
+		}
+		final var table = new TableDocument(new NumberUtils()).createTable("Frames").head(header);
+		for (var pos = 0; pos < rowCount; pos++) {
+			final var row = table.addRow()
+					.addCell(pos / 25f)
+					.addCell(pos);
+			if (withExtraColumn) {
+				row.addCell("extra" + pos);
+			}
+		}
+		return List.of(table);
+	}
+
+	private List<List<Object>> query(final String sql) throws SQLException {
+		final var result = new ArrayList<List<Object>>();
+		try (var connection = DriverManager.getConnection("jdbc:sqlite:" + fleetFile.getPath().replace('\\', '/'));
+			 var statement = connection.createStatement();
+			 var resultSet = statement.executeQuery(sql)) {
+			final var columnCount = resultSet.getMetaData().getColumnCount();
+			while (resultSet.next()) {
+				final var line = new ArrayList<>();
+				for (var pos = 1; pos <= columnCount; pos++) {
+					line.add(resultSet.getObject(pos));
+				}
+				result.add(line);
+			}
+		}
+		return result;
+	}
+
+	private long count(final String sql) throws SQLException {
+		return ((Number) query(sql).get(0).get(0)).longValue();
+	}
+
+	@Test
+	void testAppend_sourceKeys() throws SQLException {
+		final var idA = w.append(fleetFile, mediaA, makeTables(false, 3));
+		final var idB = w.append(fleetFile, mediaB, makeTables(false, 4));
+		assertNotEquals(idA, idB);
+
+		assertThat(query("SELECT \"id\", \"path\", \"size\", \"mtime\", \"source\" FROM \"media\" ORDER BY \"id\""))
+				.containsExactly(
+						List.of((int) idA, mediaA.path(), (int) mediaA.size(), (int) mediaA.mtime(), "A"),
+						List.of((int) idB, mediaB.path(), (int) mediaB.size(), (int) mediaB.mtime(), "B"));
+		assertEquals(3, count("SELECT COUNT(*) FROM \"frames\" WHERE \"media_id\" = " + idA));
+		assertEquals(4, count("SELECT COUNT(*) FROM \"frames\" WHERE \"media_id\" = " + idB));
+	}
+
+	@Test
+	void testAppend_sameSourceReplaceRows() throws SQLException {
+		final var id = w.append(fleetFile, mediaA, makeTables(false, 3));
+		w.append(fleetFile, mediaB, makeTables(false, 2));
+		assertEquals(id, w.append(fleetFile, mediaA, makeTables(false, 5)));
+
+		assertEquals(2, count("SELECT COUNT(*) FROM \"media\""));
+		assertEquals(5, count("SELECT COUNT(*) FROM \"frames\" WHERE \"media_id\" = " + id));
+		assertEquals(7, count("SELECT COUNT(*) FROM \"frames\""));
+	}
+
+	@Test
+	void testAppend_changedSourceIsNewMedia() throws SQLException {
+		final var id = w.append(fleetFile, mediaA, makeTables(false, 3));
+		final var touched = new FleetMedia(mediaA.path(), mediaA.size(), mediaA.mtime() + 1, mediaA.source());
+		assertNotEquals(id, w.append(fleetFile, touched, makeTables(false, 3)));
+		assertEquals(6, count("SELECT COUNT(*) FROM \"frames\""));
+	}
+
+	@Test
+	void testAppend_addMissingColumn() throws SQLException {
+		final var idA = w.append(fleetFile, mediaA, makeTables(false, 2));
+		final var idB = w.append(fleetFile, mediaB, makeTables(true, 2));
+
+		assertThat(query("PRAGMA table_info(\"frames\")").stream().map(l -> l.get(1)))
+				.containsExactly("id", "media_id", "pts_time", "value", "extra");
+		assertThat(query("SELECT \"media_id\", \"value\", \"extra\" FROM \"frames\" ORDER BY \"id\""))
+				.containsExactly(
+						asList((int) idA, 0, null),
+						asList((int) idA, 1, null),
+						asList((int) idB, 0, "extra0"),
+						asList((int) idB, 1, "extra1"));
+	}
+
+	@Test
+	void testAppend_indexes() throws SQLException {
+		w.append(fleetFile, mediaA, makeTables(false, 1));
+		assertThat(query("PRAGMA index_list(\"frames\")").stream().map(l -> l.get(1)))
+				.contains("idx_frames_media_id_pts_time");
+		assertThat(query("PRAGMA index_info(\"idx_frames_media_id_pts_time\")").stream().map(l -> l.get(2)))
+				.containsExactly("media_id", "pts_time");
+	}
+
+	@Test
+	void testAppend_coveringIndex() throws SQLException {
+		final var table = new TableDocument(new NumberUtils())
+				.createTable("Container packets")
+				.head(HEAD_CONTAINER_PACKETS);
+		table.addRow()
+				.addCell("video").addCell(0)
+				.addCell(0).addCell(0f)
+				.addCell(0).addCell(0f)
+				.addCell(1).addCell(0.04f)
+				.addCell(faker.random().nextInt(100_000)).addCell(0)
+				.addCell("K__");
+		w.append(fleetFile, mediaA, List.of(table));
+
+		assertThat(query("PRAGMA index_info(\"idx_container_packets_media_id_pts_time_covering\")").stream()
+				.map(l -> l.get(2)))
+				.containsExactly("media_id", "pts_time", "codec_type", "stream_index", "size", "flags");
+		assertThat(query("EXPLAIN QUERY PLAN SELECT \"pts_time\", \"stream_index\", \"size\" "
+						 + "FROM \"container_packets\" WHERE \"media_id\" = 1 AND \"pts_time\" < 10").stream()
+				.map(l -> String.valueOf(l.get(3))))
+				.anyMatch(l -> l.contains("COVERING INDEX idx_container_packets_media_id_pts_time_covering"));
+	}
+
+}
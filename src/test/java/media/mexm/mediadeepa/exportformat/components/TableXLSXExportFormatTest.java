@@ -0,0 +1,132 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.components;
+
+import static media.mexm.mediadeepa.exportformat.components.TableXLSXExportFormat.getSheetName;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.components.OutputFileSupplier;
+import media.mexm.mediadeepa.config.AppConfig;
+import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.TableDocument;
+import net.datafaker.Faker;
+
+class TableXLSXExportFormatTest {
+	static Faker faker = net.datafaker.Faker.instance();
+
+	@Mock
+	OutputFileSupplier outputFileSupplier;
+	@Mock
+	DataResult result;
+
+	AppConfig appConfig;
+	NumberUtils numberUtils;
+	TableXLSXExportFormat t;
+
+	@BeforeEach
+	void init() throws Exception {
+		openMocks(this).close();
+		appConfig = new AppConfig();
+		numberUtils = new NumberUtils();
+		t = new TableXLSXExportFormat(List.of(), appConfig, numberUtils, outputFileSupplier);
+	}
+
+	@AfterEach
+	void ends() {
+		verifyNoInteractions(outputFileSupplier, result);
+	}
+
+	@Test
+	void testGetSheetName() {
+		final var name = faker.lorem().characters(10, 20, false);
+		assertEquals(name, getSheetName(name, 0));
+		assertEquals(name + "_2", getSheetName(name, 1));
+		assertEquals(name + "_10", getSheetName(name, 9));
+	}
+
+	@Test
+	void testGetSheetName_tooLong() {
+		final var name = faker.lorem().characters(40, false);
+		assertEquals(name.substring(0, 31), getSheetName(name, 0));
+		assertEquals(name.substring(0, 29) + "_2", getSheetName(name, 1));
+		assertEquals(name.substring(0, 28) + "_12", getSheetName(name, 11));
+	}
+
+	@Test
+	void testGetSheetName_invalidChars() {
+		assertEquals("a b c d e f g h", getSheetName("a/b\\c?d*e[f]g:h", 0));
+		assertEquals("a b_2", getSheetName("a/b", 1));
+	}
+
+	@Test
+	void testMakeDocument_splitSheets() throws Exception {
+		appConfig.getXlsxConfig().setMaxRowsBySheet(3);
+
+		final var header = List.of("pos", "name");
+		final var table = new TableDocument(numberUtils).createTable("table/name").head(header);
+		final var names = new ArrayList<String>();
+		for (var pos = 0; pos < 7; pos++) {
+			final var name = faker.lorem().word();
+			names.add(name);
+			table.addRow().addCell(pos).addCell(name);
+		}
+
+		final var outputStream = new ByteArrayOutputStream();
+		t.makeDocument(result, List.of(table), outputStream);
+
+		try (final var wb = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			assertEquals(3, wb.getNumberOfSheets());
+			assertEquals("table name", wb.getSheetName(0));
+			assertEquals("table name_2", wb.getSheetName(1));
+			assertEquals("table name_3", wb.getSheetName(2));
+
+			var pos = 0;
+			for (var posSheet = 0; posSheet < wb.getNumberOfSheets(); posSheet++) {
+				final var sheet = wb.getSheetAt(posSheet);
+				final var headerRow = sheet.getRow(0);
+				assertEquals("pos", headerRow.getCell(0).getStringCellValue());
+				assertEquals("name", headerRow.getCell(1).getStringCellValue());
+
+				final var rowCount = sheet.getLastRowNum();
+				assertThat(rowCount).isBetween(1, 3);
+				for (var posRow = 1; posRow <= rowCount; posRow++) {
+					final var row = sheet.getRow(posRow);
+					assertEquals(pos, (int) row.getCell(0).getNumericCellValue());
+					assertEquals(names.get(pos), row.getCell(1).getStringCellValue());
+					pos++;
+				}
+			}
+			assertEquals(names.size(), pos);
+		}
+	}
+
+}
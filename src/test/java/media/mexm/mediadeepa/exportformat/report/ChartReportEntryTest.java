@@ -0,0 +1,116 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.report;
+
+import static java.awt.Color.BLUE;
+import static java.awt.Color.RED;
+import static media.mexm.mediadeepa.exportformat.DataGraphic.THIN_STROKE;
+import static media.mexm.mediadeepa.exportformat.RangeAxis.createAutomaticRangeAxis;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Dimension;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.exportformat.RangeAxis;
+import media.mexm.mediadeepa.exportformat.SeriesStyle;
+import media.mexm.mediadeepa.exportformat.StackedXYAreaChartDataGraphic;
+import media.mexm.mediadeepa.exportformat.TimedDataGraphic;
+import net.datafaker.Faker;
+
+class ChartReportEntryTest {
+	static Faker faker = Faker.instance();
+
+	NumberUtils numberUtils;
+	String rangeName;
+	String seriesName;
+	int size;
+	Dimension imageSize;
+
+	@BeforeEach
+	void init() {
+		numberUtils = new NumberUtils();
+		rangeName = faker.lorem().word();
+		seriesName = faker.lorem().word() + "\"";
+		size = faker.random().nextInt(10_000, 50_000);
+		imageSize = new Dimension(2000, 1200);
+	}
+
+	@Test
+	void testCreate_timed() {
+		final var dataGraphic = new TimedDataGraphic(
+				LongStream.range(0, size).map(l -> l * 40).boxed(),
+				new RangeAxis(rangeName, -1, 50));
+		dataGraphic.addSeries(dataGraphic.new Series(seriesName, BLUE, THIN_STROKE,
+				IntStream.range(0, size).map(i -> i % 50).boxed()));
+		dataGraphic.addValueMarker(42);
+
+		final var entry = ChartReportEntry.create(
+				dataGraphic.makeLinearAxisGraphic(numberUtils), imageSize, 100);
+
+		assertFalse(entry.isEmpty());
+		assertEquals(60, entry.displayHeight());
+		assertTrue(entry.timeDomain());
+		assertFalse(entry.logarithmic());
+		assertFalse(entry.stacked());
+		assertEquals(-1d, entry.rangeMin());
+		assertEquals(50d, entry.rangeMax());
+		assertThat(entry.markers()).containsExactly(42d);
+		assertThat(entry.series()).hasSize(1);
+
+		final var series = entry.series().get(0);
+		assertEquals(seriesName, series.name());
+		assertEquals(1f, series.lineWidth());
+		assertThat(series.x()).hasSizeLessThanOrEqualTo(202).startsWith(0).endsWith((size - 1) * 40d);
+		assertThat(series.y()).hasSameSizeAs(series.x()).contains(0d, 49d);
+
+		assertThat(entry.toJsonData())
+				.startsWith("{\"time\":true,\"log\":false,\"stacked\":false,\"min\":-1,\"max\":50,\"markers\":[42]")
+				.contains("\"name\":\"" + seriesName.replace("\"", "\\\"") + "\"", "\"color\":\"rgb(0,0,255)\"");
+		assertThat(entry.toDomContent(numberUtils).render())
+				.contains("<figure class=\"chart\">", "<canvas width=\"100\" height=\"60\" data-chart=\"", rangeName);
+	}
+
+	@Test
+	void testCreate_stacked() {
+		final var dataGraphic = new StackedXYAreaChartDataGraphic(createAutomaticRangeAxis(rangeName));
+		dataGraphic.addSeriesByCounter(new SeriesStyle(seriesName, BLUE, THIN_STROKE),
+				IntStream.range(0, size).map(i -> i % 7).boxed());
+		dataGraphic.addSeriesByCounter(new SeriesStyle(seriesName + "2", RED, THIN_STROKE),
+				IntStream.range(0, size).map(i -> i % 11).boxed());
+
+		final var entry = ChartReportEntry.create(
+				dataGraphic.makeLinearAxisGraphic(numberUtils), imageSize, 100);
+
+		assertTrue(entry.stacked());
+		assertFalse(entry.timeDomain());
+		assertTrue(Double.isNaN(entry.rangeMin()));
+		assertThat(entry.series()).hasSize(2);
+		assertThat(entry.series().get(0).x())
+				.hasSizeLessThanOrEqualTo(202)
+				.containsExactly(entry.series().get(1).x());
+		assertThat(entry.toJsonData()).contains("\"min\":null,\"max\":null");
+	}
+
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
@@ -58,6 +59,12 @@ class ImageReportEntryTest {
 	int dataSize;
 	@Fake
 	String alt;
+	@Fake
+	String internalFileName;
+	@Fake
+	String linkedSource;
+	@Mock
+	ReportImageLinker imageLinker;
 	@Mock
 	DomContentProvider caption;
 	@Fake
@@ -85,7 +92,7 @@ class ImageReportEntryTest {
 		size = new Dimension(width, height);
 		data = Faker.instance().random().nextRandomBytes(dataSize);
 		image = new ImageArtifact(name, size, contentType, "A FIXED VALUE".getBytes());
-		ire = new ImageReportEntry(image, caption, 1000);
+		ire = new ImageReportEntry(image, caption, 1000, internalFileName);
 	}
 
 	@Test
@@ -94,6 +101,14 @@ class ImageReportEntryTest {
 		assertThat(img.toString()).contains(alt, "src=\"data:" + contentType, "width", "height");
 	}
 
+	@Test
+	void testMakeHTMLImage() {
+		when(imageLinker.getSource(image, internalFileName)).thenReturn(linkedSource);
+		final var img = ire.makeHTMLImage(alt, imageLinker);
+		assertThat(img.render()).contains(alt, "src=\"" + linkedSource + "\"", "loading=\"lazy\"");
+		verify(imageLinker, times(1)).getSource(image, internalFileName);
+	}
+
 	@Test
 	void testIsEmpty() {
 		assertFalse(ire.isEmpty());
@@ -113,7 +128,7 @@ class ImageReportEntryTest {
 
 	@Test
 	void testEquals() {
-		assertEquals(ire, new ImageReportEntry(null, caption, -1));
+		assertEquals(ire, new ImageReportEntry(null, caption, -1, null));
 	}
 
 	@Test
@@ -0,0 +1,123 @@
+/*
+ * This file is part of mediadeepa.
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * Copyright (C) Media ex Machina 2023
+ *
+ */
+package media.mexm.mediadeepa.exportformat.report;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static media.mexm.mediadeepa.exportformat.report.ReportImageLinker.EMBEDDED;
+import static media.mexm.mediadeepa.exportformat.report.ReportSectionCategory.VIDEO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ByteArrayResource;
+
+import media.mexm.mediadeepa.components.NumberUtils;
+import media.mexm.mediadeepa.components.RendererEngineComparator;
+import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.rendererengine.ReportRendererEngine;
+import net.datafaker.Faker;
+
+class ReportDocumentTest {
+	static Faker faker = Faker.instance();
+
+	DataResult result;
+	List<String> titles;
+	List<ReportRendererEngine> engines;
+	RendererEngineComparator rendererEngineComparator;
+	ByteArrayResource emptyResource;
+
+	@BeforeEach
+	void init() {
+		result = new DataResult(faker.numerify("source###"), Map.of(), false);
+		titles = IntStream.range(0, 20)
+				.mapToObj(i -> faker.numerify("title" + i + "-###"))
+				.toList();
+		engines = new ArrayList<>();
+		titles.forEach(title -> engines.add((r, document) -> {
+			LockSupport.parkNanos(faker.random().nextInt(0, 5_000_000));
+			document.add(new ReportSection(VIDEO, title)
+					.add(new SimpleKeyValueReportEntry(title, faker.numerify("value###"))));
+		}));
+		rendererEngineComparator = new RendererEngineComparator();
+		emptyResource = new ByteArrayResource("".getBytes(UTF_8));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 8 })
+	void testSectionsOrder(final int parallelism) throws IOException {
+		final var writer = new StringWriter();
+		new ReportDocument(result, engines, rendererEngineComparator, parallelism)
+				.writeHTML(emptyResource, emptyResource, new NumberUtils(), EMBEDDED, writer);
+		final var html = writer.toString();
+
+		final var positions = titles.stream()
+				.map(title -> html.indexOf("<h2>" + VIDEO.getEmoji() + " " + title))
+				.toList();
+		assertThat(positions)
+				.doesNotContain(-1)
+				.isSorted();
+	}
+
+	@Test
+	void testWriteHTML() throws IOException {
+		final var writer = new StringWriter();
+		new ReportDocument(result, engines, rendererEngineComparator, 1)
+				.writeHTML(emptyResource, emptyResource, new NumberUtils(), EMBEDDED, writer);
+		final var html = writer.toString();
+
+		assertThat(html)
+				.startsWith("<!DOCTYPE html>\r\n<html lang=\"en\"><head><title>" + result.getSource())
+				.endsWith("</footer></body></html>")
+				.containsOnlyOnce("<body>")
+				.containsOnlyOnce("<main>")
+				.containsOnlyOnce("</main>");
+		assertThat(html.indexOf("<header>")).isLessThan(html.indexOf("<nav>"));
+		assertThat(html.indexOf("</nav>")).isLessThan(html.indexOf("<main>"));
+		assertThat(html.indexOf("</main>")).isLessThan(html.indexOf("<footer>"));
+	}
+
+	@Test
+	void testReadOnly() {
+		final var reportDocument = new ReportDocument(result, engines, rendererEngineComparator, 1);
+		final var section = new ReportSection(VIDEO, faker.numerify("title###"));
+		final var entry = new SimpleKeyValueReportEntry(faker.numerify("key###"), faker.numerify("value###"));
+		assertThrows(IllegalStateException.class, () -> reportDocument.add(section));
+		assertThrows(IllegalStateException.class, () -> reportDocument.addSummarySection(entry));
+		assertThrows(IllegalStateException.class, () -> reportDocument.addAboutSection(entry));
+	}
+
+	@Test
+	void testEngineError() {
+		engines.add(5, (r, document) -> {
+			throw new IllegalStateException("Engine error");
+		});
+		assertThrows(IllegalStateException.class,
+				() -> new ReportDocument(result, engines, rendererEngineComparator, 4));
+	}
+
+}
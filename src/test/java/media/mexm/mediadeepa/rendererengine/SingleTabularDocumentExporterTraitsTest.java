@@ -32,7 +32,6 @@ import org.mockito.MockitoAnnotations;
 
 import media.mexm.mediadeepa.exportformat.DataResult;
 import media.mexm.mediadeepa.exportformat.TabularDocument;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import net.datafaker.Faker;
 
 class SingleTabularDocumentExporterTraitsTest {
@@ -46,8 +45,6 @@ class SingleTabularDocumentExporterTraitsTest {
 	TabularDocument tabularDocument;
 	@Mock
 	DataResult dataResult;
-	@Mock
-	TabularExportFormat tabularExportFormat;
 
 	@BeforeEach
 	void init() throws Exception {
@@ -60,17 +57,14 @@ class SingleTabularDocumentExporterTraitsTest {
 	void ends() {
 		verifyNoMoreInteractions(
 				tabularDocument,
-				dataResult,
-				tabularExportFormat);
+				dataResult);
 	}
 
 	class SingleTabularDocumentExporterTraitsImpl implements SingleTabularDocumentExporterTraits {
 
 		@Override
-		public List<TabularDocument> toTabularDocument(final DataResult result,
-													   final TabularExportFormat t) {
+		public List<TabularDocument> toTabularDocument(final DataResult result) {
 			assertEquals(dataResult, result);
-			assertEquals(tabularExportFormat, t);
 			return List.of(tabularDocument, mock(TabularDocument.class));
 		}
 
@@ -84,7 +78,7 @@ class SingleTabularDocumentExporterTraitsTest {
 	@Test
 	void testToSingleTabularDocument() {
 		final var internalTabularBaseFileName = faker.numerify("internalTabularBaseFileName###");
-		final var oTD = s.toSingleTabularDocument(internalTabularBaseFileName, dataResult, tabularExportFormat);
+		final var oTD = s.toSingleTabularDocument(internalTabularBaseFileName, dataResult);
 		assertThat(oTD).contains(tabularDocument);
 	}
 
@@ -42,7 +42,6 @@ import media.mexm.mediadeepa.cli.AppCommand;
 import media.mexm.mediadeepa.components.CLIRunner;
 import media.mexm.mediadeepa.components.DocumentationExporter;
 import media.mexm.mediadeepa.exportformat.DataResult;
-import media.mexm.mediadeepa.exportformat.TabularExportFormat;
 import media.mexm.mediadeepa.service.AppSessionService;
 import net.datafaker.Faker;
 import picocli.CommandLine;
@@ -68,8 +67,6 @@ class AboutMeasureRendererEngineTest {
 	@MockBean
 	RunnedJavaCmdLine runnedJavaCmdLine;
 
-	@Mock
-	TabularExportFormat tabularExportFormat;
 	@Mock
 	DataResult result;
 	@Mock
@@ -89,7 +86,6 @@ class AboutMeasureRendererEngineTest {
 	@AfterEach
 	void end() {
 		verifyNoMoreInteractions(
-				tabularExportFormat,
 				result,
 				runnedJavaCmdLine,
 				mediaAnalyserResult);
@@ -99,8 +95,7 @@ class AboutMeasureRendererEngineTest {
 	void testToSingleTabularDocument_nothing() {
 		final var std = aboutMeasureRendererEngine.toSingleTabularDocument(
 				internalTabularBaseFileName,
-				result,
-				tabularExportFormat);
+				result);
 		assertThat(std).isEmpty();
 	}
 
@@ -108,8 +103,7 @@ class AboutMeasureRendererEngineTest {
 	void testToSingleTabularDocument_about() {
 		final var std = aboutMeasureRendererEngine.toSingleTabularDocument(
 				ABOUT_NAME,
-				result,
-				tabularExportFormat);
+				result);
 		assertThat(std).isNotEmpty();
 
 		verify(runnedJavaCmdLine, times(1)).makeFullExtendedCommandline();
@@ -121,8 +115,7 @@ class AboutMeasureRendererEngineTest {
 	void testToSingleTabularDocument_filters() {
 		final var std = aboutMeasureRendererEngine.toSingleTabularDocument(
 				FILTERS,
-				result,
-				tabularExportFormat);
+				result);
 		assertThat(std).isNotEmpty();
 
 		verify(result, times(1)).getMediaAnalyserProcessResult();
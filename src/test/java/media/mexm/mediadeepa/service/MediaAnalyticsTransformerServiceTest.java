@@ -18,17 +18,24 @@ package media.mexm.mediadeepa.service;
 
 import static org.apache.commons.io.FileUtils.forceDelete;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,7 +49,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import media.mexm.mediadeepa.cli.ExportToCmd;
 import media.mexm.mediadeepa.components.CLIRunner;
 import media.mexm.mediadeepa.components.DocumentationExporter;
+import media.mexm.mediadeepa.config.AppConfig;
 import media.mexm.mediadeepa.exportformat.DataResult;
+import media.mexm.mediadeepa.exportformat.ExportFormat;
 import media.mexm.mediadeepa.exportformat.components.DemoExportFormat;
 import net.datafaker.Faker;
 
@@ -54,11 +63,17 @@ class MediaAnalyticsTransformerServiceTest {
 	MediaAnalyticsTransformerService matService;
 	@Autowired
 	DemoExportFormat demoExportFormat;
+	@Autowired
+	AppConfig appConfig;
 
 	@MockBean
 	CLIRunner cliRunner;
 	@MockBean
 	DocumentationExporter documentationExporter;
+	@MockBean(name = "slowExportFormat")
+	ExportFormat slowExportFormat;
+	@MockBean(name = "fastExportFormat")
+	ExportFormat fastExportFormat;
 	@Mock
 	DataResult dataResult;
 	@Mock
@@ -101,6 +116,61 @@ class MediaAnalyticsTransformerServiceTest {
 				.isEqualTo(List.of(dataResult));
 	}
 
+	@Test
+	void testExportAnalytics_parallelKeepFormatOrder() {
+		final var fastDone = new CountDownLatch(1);
+		final var slowFile = new File(faker.numerify("slowFile###"));
+		final var fastFile = new File(faker.numerify("fastFile###"));
+		when(slowExportFormat.getFormatName()).thenReturn("slow");
+		when(fastExportFormat.getFormatName()).thenReturn("fast");
+		when(slowExportFormat.exportResult(dataResult)).then(invocation -> {
+			assertTrue(fastDone.await(10, TimeUnit.SECONDS));
+			return Map.of("slowkey", slowFile);
+		});
+		when(fastExportFormat.exportResult(dataResult)).then(invocation -> {
+			fastDone.countDown();
+			return Map.of("fastkey", fastFile);
+		});
+
+		final var exportParallelism = appConfig.getExportParallelism();
+		appConfig.setExportParallelism(2);
+		exportToCmd.setFormat(new LinkedHashSet<>(List.of("slow", "fast")));
+		try {
+			assertThat(matService.exportAnalytics(dataResult, exportToCmd))
+					.containsExactly(
+							Map.entry("slow-slowkey", slowFile),
+							Map.entry("fast-fastkey", fastFile));
+		} finally {
+			appConfig.setExportParallelism(exportParallelism);
+		}
+	}
+
+	@Test
+	void testExportAnalytics_parallelRethrowFormatException() {
+		final var fastDone = new CountDownLatch(1);
+		final var error = new IllegalStateException(faker.numerify("error###"));
+		when(slowExportFormat.getFormatName()).thenReturn("slow");
+		when(fastExportFormat.getFormatName()).thenReturn("fast");
+		when(slowExportFormat.exportResult(dataResult)).then(invocation -> {
+			assertTrue(fastDone.await(10, TimeUnit.SECONDS));
+			return Map.of("slowkey", new File(faker.numerify("slowFile###")));
+		});
+		when(fastExportFormat.exportResult(dataResult)).then(invocation -> {
+			fastDone.countDown();
+			throw error;
+		});
+
+		final var exportParallelism = appConfig.getExportParallelism();
+		appConfig.setExportParallelism(2);
+		exportToCmd.setFormat(new LinkedHashSet<>(List.of("slow", "fast")));
+		try {
+			assertSame(error, assertThrows(IllegalStateException.class,
+					() -> matService.exportAnalytics(dataResult, exportToCmd)));
+		} finally {
+			appConfig.setExportParallelism(exportParallelism);
+		}
+	}
+
 	@Test
 	void testSingleExportAnalytics() throws IOException {
 		final var outputFile = File.createTempFile("temp-mediadeepa", ".txt");
@@ -116,6 +186,14 @@ class MediaAnalyticsTransformerServiceTest {
 	void testSingleExportAnalyticsToOutputStream() throws IOException {
 		matService.singleExportAnalyticsToOutputStream(internalFileName, dataResult, out);
 		verify(out, times(1)).write(demoExportFormat.getSingleExportData());
+		verify(out, times(1)).flush();
+	}
+
+	@Test
+	void testSingleExportAnalyticsToOutputStream_notStreamable() {
+		final var fleetFileName = appConfig.getSqliteConfig().getFleetFileName();
+		assertThrows(IllegalArgumentException.class,
+				() -> matService.singleExportAnalyticsToOutputStream(fleetFileName, dataResult, out));
 	}
 
 }